@@ -0,0 +1,181 @@
+package com.mmo.server.core.ai;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.looper.LooperClock;
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.looper.LooperUpdater;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.player.Player;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+ * Agents think in turns instead of every update. An agent with a living
+ * player inside its perception range, or which says it is awake, thinks
+ * every awakeRate, any other one is dormant and only thinks every
+ * dormantRate. Both rates are fixed, so appending an agent to the queue
+ * of its rate keeps each queue in due order and an update only looks at
+ * the queue heads.
+ * ---------------------------------
+ * at least one agent thinks per update so nothing starves, more only while
+ * the update has spent less than the budget, the ones left behind keep
+ * their place and go first on the next update
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class AIRuntime implements LooperUpdater {
+
+    private static final long DEFAULT_AWAKE_RATE_IN_MILLIS = 250L;
+    private static final long DEFAULT_DORMANT_RATE_IN_MILLIS = 1000L;
+    private static final long DEFAULT_BUDGET_IN_MILLIS = 4L;
+
+    @ToString.Include
+    private final long awakeRate;
+
+    @ToString.Include
+    private final long dormantRate;
+
+    @ToString.Include
+    private final long budget;
+
+    @Getter(AccessLevel.NONE)
+    private final IdentityHashMap<Agent, Turn> turns = new IdentityHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Deque<Turn> arrived = new ArrayDeque<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Deque<Turn> awake = new ArrayDeque<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Deque<Turn> dormant = new ArrayDeque<>();
+
+    private int lastThoughts;
+
+    @Builder
+    private AIRuntime(Long awakeRate, Long dormantRate, Long budget) {
+        this.awakeRate = Objects.requireNonNullElse(awakeRate, DEFAULT_AWAKE_RATE_IN_MILLIS);
+        this.dormantRate = Objects.requireNonNullElse(dormantRate, DEFAULT_DORMANT_RATE_IN_MILLIS);
+        this.budget = Objects.requireNonNullElse(budget, DEFAULT_BUDGET_IN_MILLIS);
+    }
+
+    /* the agent thinks on the next update, adding it again while it is still queued does nothing */
+    public void add(Agent agent) {
+        if (turns.containsKey(agent)) {
+            return;
+        }
+
+        Turn turn = new Turn(agent);
+        turns.put(agent, turn);
+        arrived.add(turn);
+    }
+
+    public boolean contains(Agent agent) {
+        return turns.containsKey(agent);
+    }
+
+    public int getAgentCount() {
+        return turns.size();
+    }
+
+    public int getAwakeCount() {
+        return awake.size();
+    }
+
+    public int getDormantCount() {
+        return dormant.size();
+    }
+
+    @Override
+    public void update(LooperContext context) {
+        long tick = context.getTick();
+        Deque<Turn> queue = nextDue(tick);
+
+        if (Objects.isNull(queue)) {
+            lastThoughts = 0;
+            return;
+        }
+
+        LooperClock clock = context.getClock();
+        long start = clock.getTime();
+        int thoughts = 0;
+
+        while (Objects.nonNull(queue = nextDue(tick))
+                && (thoughts == 0 || clock.getTime() - start < budget)) {
+            think(queue.poll(), tick);
+            thoughts++;
+        }
+
+        lastThoughts = thoughts;
+    }
+
+    private Deque<Turn> nextDue(long tick) {
+        if (!arrived.isEmpty()) {
+            return arrived;
+        }
+
+        Turn nextAwake = awake.peek();
+        Turn nextDormant = dormant.peek();
+
+        if (Objects.nonNull(nextAwake) && nextAwake.due <= tick
+                && (Objects.isNull(nextDormant) || nextAwake.due <= nextDormant.due)) {
+            return awake;
+        }
+
+        if (Objects.nonNull(nextDormant) && nextDormant.due <= tick) {
+            return dormant;
+        }
+
+        return null;
+    }
+
+    private void think(Turn turn, long tick) {
+        Agent agent = turn.agent;
+
+        if (!agent.isThinking()) {
+            turns.remove(agent);
+            return;
+        }
+
+        Optional<Player> nearest = getMap().findNearestEntity(
+                agent.getPosition(),
+                agent.getPerceptionRange(),
+                Player.class,
+                Player::isAlive);
+
+        agent.think(nearest);
+
+        if (!agent.isThinking()) {
+            turns.remove(agent);
+        } else if (nearest.isPresent() || agent.isAwake()) {
+            turn.due = tick + awakeRate;
+            awake.add(turn);
+        } else {
+            turn.due = tick + dormantRate;
+            dormant.add(turn);
+        }
+    }
+
+    protected Map getMap() {
+        return Game.getInstance().getMap();
+    }
+
+    private static class Turn {
+
+        final Agent agent;
+        long due;
+
+        Turn(Agent agent) {
+            this.agent = agent;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.mmo.server.core.ai;
+
+import java.util.Optional;
+
+import com.mmo.server.core.map.MapEntity;
+import com.mmo.server.core.player.Player;
+
+public interface Agent extends MapEntity {
+
+    /* agents which stop thinking, such as dead monsters, are dropped by the runtime */
+    boolean isThinking();
+
+    int getPerceptionRange();
+
+    /* agents busy with something, such as chasing or walking home, think at the awake rate with no player near */
+    boolean isAwake();
+
+    void think(Optional<Player> nearest);
+}
@@ -0,0 +1,12 @@
+package com.mmo.server.core.ai;
+
+/*
+ * A node of a behaviour tree. Nodes keep no state of their own, the state
+ * lives in the agent, so a single tree is shared by every agent of a kind
+ * and is evaluated again from its root on each think.
+ */
+@FunctionalInterface
+public interface Behaviour<T> {
+
+    BehaviourStatus tick(T agent);
+}
@@ -0,0 +1,7 @@
+package com.mmo.server.core.ai;
+
+public enum BehaviourStatus {
+    SUCCESS,
+    FAILURE,
+    RUNNING
+}
@@ -0,0 +1,54 @@
+package com.mmo.server.core.ai;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class Behaviours {
+
+    private Behaviours() {
+
+    }
+
+    public static <T> Behaviour<T> condition(Predicate<? super T> predicate) {
+        return agent -> predicate.test(agent) ? BehaviourStatus.SUCCESS : BehaviourStatus.FAILURE;
+    }
+
+    public static <T> Behaviour<T> action(Consumer<? super T> action) {
+        return agent -> {
+            action.accept(agent);
+            return BehaviourStatus.SUCCESS;
+        };
+    }
+
+    /* runs its children in order until one of them does not succeed */
+    @SafeVarargs
+    public static <T> Behaviour<T> sequence(Behaviour<T>... children) {
+        return agent -> {
+            for (Behaviour<T> child : children) {
+                BehaviourStatus status = child.tick(agent);
+
+                if (status != BehaviourStatus.SUCCESS) {
+                    return status;
+                }
+            }
+
+            return BehaviourStatus.SUCCESS;
+        };
+    }
+
+    /* runs its children in order until one of them does not fail */
+    @SafeVarargs
+    public static <T> Behaviour<T> selector(Behaviour<T>... children) {
+        return agent -> {
+            for (Behaviour<T> child : children) {
+                BehaviourStatus status = child.tick(agent);
+
+                if (status != BehaviourStatus.FAILURE) {
+                    return status;
+                }
+            }
+
+            return BehaviourStatus.FAILURE;
+        };
+    }
+}
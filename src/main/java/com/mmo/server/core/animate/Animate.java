@@ -9,8 +9,6 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.mmo.server.core.attribute.Attribute;
-import com.mmo.server.core.attribute.AttributeModifier;
 import com.mmo.server.core.attribute.Attributes;
 import com.mmo.server.core.game.Game;
 import com.mmo.server.core.looper.LooperContext;
@@ -19,7 +17,7 @@ import com.mmo.server.core.map.MapEntity;
 import com.mmo.server.core.map.Position;
 import com.mmo.server.core.math.Vertex;
 import com.mmo.server.core.packet.Packet;
-import com.mmo.server.core.property.PropertyModifierAction;
+import com.mmo.server.core.timer.Timer;
 
 public abstract class Animate implements MapEntity {
 
@@ -29,9 +27,12 @@ public abstract class Animate implements MapEntity {
 
     private Long lastAttackStartTime;
     private Long lastMoveStartTime;
+    private Timer attackTimer;
+    private Timer moveTimer;
     private Animate targetAnimate;
     private Position targetPosition;
     private boolean collided;
+    private boolean stateChanged;
     private float moveDistanceRemainderX = 0;
     private float moveDistanceRemainderZ = 0;
 
@@ -106,35 +107,26 @@ public abstract class Animate implements MapEntity {
         clearTargetPosition();
         targetAnimate = target;
         lastAttackStartTime = getNewTick();
+        cancelAttackTimer();
         onBeginAttack();
     }
 
+    private void attack(Timer timer) {
+        attack();
+
+        if (isAttacking() && attackTimer == timer) {
+            lastAttackStartTime = timer.getDeadline();
+            timer.reschedule(lastAttackStartTime + getAttackUpdateRateInMillis());
+        }
+    }
+
+    /* damage and death are applied by the map combat once per update */
     private void attack() {
         if (!isAttacking()) {
             return;
         }
 
-        Animate target = getTargetAnimate().orElseThrow();
-        int attack = getAttributes().getFinalAttack();
-        int targetDefense = target.getAttributes().getFinalDefense();
-        int damage = attack - targetDefense;
-
-        target.getAttributes().modify(AttributeModifier.builder()
-                .action(PropertyModifierAction.DECREMENT)
-                .attribute(Attribute.HP)
-                .value(damage)
-                .build());
-
-        target.onDamage(damage, this);
-
-        onAttack(damage);
-
-        if (!target.isAlive() && Objects.nonNull(lastAttackStartTime)) {
-            stopAttacking();
-            target.onDie(this);
-        } else {
-            lastAttackStartTime = getNewTick();
-        }
+        getCombat().hit(this, getTargetAnimate().orElseThrow());
     }
 
     public void move(Position target) {
@@ -142,15 +134,26 @@ public abstract class Animate implements MapEntity {
         collided = false;
         targetPosition = target;
         lastMoveStartTime = getNewTick();
+        cancelMoveTimer();
         onBeginMove();
     }
 
     private void move(Long lastMoveStartTime) {
         collided = false;
         this.lastMoveStartTime = lastMoveStartTime;
+        cancelMoveTimer();
         onBeginMove();
     }
 
+    private void move(Timer timer) {
+        move();
+
+        if (isMoving() && moveTimer == timer) {
+            lastMoveStartTime = timer.getDeadline();
+            timer.reschedule(lastMoveStartTime + getMoveUpdateRateInMillis());
+        }
+    }
+
     private void move() {
         if (!isMoving()) {
             return;
@@ -167,8 +170,6 @@ public abstract class Animate implements MapEntity {
 
         if (hasFinishedMoving(current, target) && Objects.nonNull(lastMoveStartTime)) {
             stopMoving();
-        } else {
-            lastMoveStartTime = getNewTick();
         }
     }
 
@@ -248,29 +249,58 @@ public abstract class Animate implements MapEntity {
         if (isAttacking()) {
             if (isInsideAttackRange(targetAnimate.getPosition())) {
                 // we reach our target
-                stopMoving();
-            } else {
+                if (isMoving()) {
+                    stopMoving();
+                }
+            } else if (!isMoving()) {
                 // we should start moving to getting closer
                 move(lastAttackStartTime);
             }
 
-            update(context, lastAttackStartTime, getAttackUpdateRateInMillis(), this::attack);
+            if (Objects.isNull(attackTimer)) {
+                attackTimer = context.getTimerWheel().schedule(
+                        lastAttackStartTime + getAttackUpdateRateInMillis(),
+                        this::attack);
+            }
         }
 
-        if (isMoving()) {
-            update(context, lastMoveStartTime, getMoveUpdateRateInMillis(), this::move);
+        if (isMoving() && Objects.isNull(moveTimer)) {
+            moveTimer = context.getTimerWheel().schedule(
+                    lastMoveStartTime + getMoveUpdateRateInMillis(),
+                    this::move);
         }
-    }
 
-    private void update(LooperContext context, long startTime, int updateRate, Runnable runnable) {
-        long difference = context.getTick() - startTime;
+        getAttributes().update(context);
 
-        while (difference >= updateRate) {
-            runnable.run();
-            difference -= updateRate;
+        if (stateChanged) {
+            stateChanged = false;
+            onStateChanged();
         }
     }
 
+    /*
+     * Forgets what it was doing without the finish callbacks, as there is no
+     * map left to tell, so none of its timers fire for an entity off the map
+     */
+    @Override
+    public void detach() {
+        lastAttackStartTime = null;
+        lastMoveStartTime = null;
+        clearTargetAnimate();
+        clearTargetPosition();
+        cancelAttackTimer();
+        cancelMoveTimer();
+        getAttributes().detach();
+    }
+
+    /*
+     * Changes made by the map systems during an update, such as combat and
+     * regeneration, are coalesced and reported once by the entity update
+     */
+    protected void markStateChanged() {
+        stateChanged = true;
+    }
+
     private void clearTargetPosition() {
         targetPosition = null;
     }
@@ -279,13 +309,29 @@ public abstract class Animate implements MapEntity {
         targetAnimate = null;
     }
 
+    private void cancelAttackTimer() {
+        if (Objects.nonNull(attackTimer)) {
+            attackTimer.cancel();
+            attackTimer = null;
+        }
+    }
+
+    private void cancelMoveTimer() {
+        if (Objects.nonNull(moveTimer)) {
+            moveTimer.cancel();
+            moveTimer = null;
+        }
+    }
+
     public void stopMoving() {
         lastMoveStartTime = null;
+        cancelMoveTimer();
         onFinishMove();
     }
 
     public void stopAttacking() {
         lastAttackStartTime = null;
+        cancelAttackTimer();
         onFinishAttack();
     }
 
@@ -301,6 +347,10 @@ public abstract class Animate implements MapEntity {
         return Game.getInstance().getMap();
     }
 
+    protected Combat getCombat() {
+        return getMap().getCombat();
+    }
+
     protected void onBeginMove() {
         logger.info("Animate {} has began moving to {}",
                 getInstanceId(),
@@ -345,6 +395,14 @@ public abstract class Animate implements MapEntity {
                 damage);
     }
 
+    protected void onCombatResolved() {
+        logger.trace("Animate {} has resolved the hits taken in this update", getInstanceId());
+    }
+
+    protected void onStateChanged() {
+        logger.trace("Animate {} has changed state", getInstanceId());
+    }
+
     protected void onDie(Animate source) {
         logger.info("Animate {} has died by {}",
                 getInstanceId(),
@@ -352,6 +410,6 @@ public abstract class Animate implements MapEntity {
     }
 
     private static long getNewTick() {
-        return System.currentTimeMillis();
+        return Game.getInstance().getTime();
     }
 }
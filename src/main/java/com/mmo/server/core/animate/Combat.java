@@ -0,0 +1,179 @@
+package com.mmo.server.core.animate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.looper.LooperUpdater;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+import lombok.Builder;
+
+/*
+ * Hits are buffered as they happen and resolved together on the next update.
+ * Hit rate against dodge rate, critical and defense are rolled in one pass,
+ * then every target takes the sum of its damage as a single HP change, dies
+ * at most once, and has its state changed once however many hits it took.
+ *
+ * A hit lands when a roll below hitRate + dodgeRate falls under hitRate, the
+ * critical attribute is the chance in thousandths of dealing 150% of attack,
+ * and defense is taken from the attack leaving at least one point of damage.
+ */
+public class Combat implements LooperUpdater {
+
+    private static final int CRITICAL_CHANCE_SCALE = 1000;
+    private static final int CRITICAL_DAMAGE_PERCENT = 150;
+
+    private final Random random;
+    private final Regeneration regeneration;
+    private final List<Hit> hits = new ArrayList<>();
+    private final Map<Animate, Damage> damages = new IdentityHashMap<>();
+    private final Deque<Damage> damagePool = new ArrayDeque<>();
+    private int size;
+
+    @Builder
+    private Combat(Random random, Regeneration regeneration) {
+        this.random = Objects.requireNonNullElseGet(random, Random::new);
+        this.regeneration = regeneration;
+    }
+
+    public void hit(Animate attacker, Animate target) {
+        Hit hit;
+
+        if (size < hits.size()) {
+            hit = hits.get(size);
+        } else {
+            hit = new Hit();
+            hits.add(hit);
+        }
+
+        hit.attacker = attacker;
+        hit.target = target;
+        hit.damage = 0;
+        size++;
+    }
+
+    public int getPendingHits() {
+        return size;
+    }
+
+    @Override
+    public void update(LooperContext context) {
+        if (size == 0) {
+            return;
+        }
+
+        for (int index = 0; index < size; index++) {
+            roll(hits.get(index));
+        }
+
+        damages.forEach((target, damage) -> target.getAttributes()
+                .modify(Attribute.HP, PropertyModifierAction.DECREMENT, damage.total));
+
+        for (int index = 0; index < size; index++) {
+            notify(hits.get(index));
+        }
+
+        damages.forEach(this::resolve);
+
+        clear();
+    }
+
+    private void roll(Hit hit) {
+        Attributes attacker = hit.attacker.getAttributes();
+        Attributes target = hit.target.getAttributes();
+        Damage damage = damages.get(hit.target);
+        int hp = target.getFinalHP() - (Objects.isNull(damage) ? 0 : damage.total);
+
+        if (hp <= 0) {
+            return;
+        }
+
+        int hitRate = Math.max(attacker.getFinalHitRate(), 0);
+        int dodgeRate = Math.max(target.getFinalDodgeRate(), 0);
+
+        if (hitRate + dodgeRate > 0 && random.nextInt(hitRate + dodgeRate) >= hitRate) {
+            return;
+        }
+
+        int attack = attacker.getFinalAttack();
+
+        if (random.nextInt(CRITICAL_CHANCE_SCALE) < attacker.getFinalCritical()) {
+            attack = attack * CRITICAL_DAMAGE_PERCENT / 100;
+        }
+
+        hit.damage = Math.max(attack - target.getFinalDefense(), 1);
+
+        if (Objects.isNull(damage)) {
+            damage = Objects.requireNonNullElseGet(damagePool.poll(), Damage::new);
+            damages.put(hit.target, damage);
+        }
+
+        damage.total += hit.damage;
+
+        if (Objects.isNull(damage.killer) && hp <= hit.damage) {
+            damage.killer = hit.attacker;
+        }
+    }
+
+    private void notify(Hit hit) {
+        if (hit.damage > 0) {
+            hit.target.onDamage(hit.damage, hit.attacker);
+            hit.attacker.onAttack(hit.damage);
+        }
+
+        if (!hit.target.isAlive() && hit.attacker.isAttacking()
+                && hit.attacker.getTargetAnimate().orElse(null) == hit.target) {
+            hit.attacker.stopAttacking();
+        }
+    }
+
+    private void resolve(Animate target, Damage damage) {
+        if (Objects.nonNull(damage.killer)) {
+            target.onDie(damage.killer);
+        } else if (Objects.nonNull(regeneration)) {
+            regeneration.wound(target);
+        }
+
+        target.onCombatResolved();
+        target.markStateChanged();
+    }
+
+    private void clear() {
+        for (int index = 0; index < size; index++) {
+            Hit hit = hits.get(index);
+            hit.attacker = null;
+            hit.target = null;
+        }
+
+        damages.values().forEach(damage -> {
+            damage.total = 0;
+            damage.killer = null;
+            damagePool.add(damage);
+        });
+
+        damages.clear();
+        size = 0;
+    }
+
+    private static class Hit {
+
+        private Animate attacker;
+        private Animate target;
+        private int damage;
+    }
+
+    private static class Damage {
+
+        private int total;
+        private Animate killer;
+    }
+}
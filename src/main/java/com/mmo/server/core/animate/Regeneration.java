@@ -0,0 +1,164 @@
+package com.mmo.server.core.animate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.looper.LooperUpdater;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * Restores HP_RECOVERY and MP_RECOVERY points to wounded entities once per
+ * period. Only entities which were wounded are tracked, and they are dropped
+ * as soon as they are back at their base HP and MP, dead, have nothing left
+ * to recover with, or leave the map. Each batch copies
+ * the values into int arrays first, so the amounts are computed by plain
+ * loops over primitives before being applied.
+ */
+public class Regeneration implements LooperUpdater {
+
+    private static final long DEFAULT_PERIOD_IN_MILLIS = 3000L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    @Getter
+    private final long period;
+
+    private final Set<Animate> wounded = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Animate[] batch = new Animate[INITIAL_CAPACITY];
+    private int[] hp = new int[INITIAL_CAPACITY];
+    private int[] maxHP = new int[INITIAL_CAPACITY];
+    private int[] hpRecovery = new int[INITIAL_CAPACITY];
+    private int[] mp = new int[INITIAL_CAPACITY];
+    private int[] maxMP = new int[INITIAL_CAPACITY];
+    private int[] mpRecovery = new int[INITIAL_CAPACITY];
+
+    private long nextTime = Long.MIN_VALUE;
+
+    @Builder
+    private Regeneration(Long period) {
+        this.period = Objects.requireNonNullElse(period, DEFAULT_PERIOD_IN_MILLIS);
+    }
+
+    public void wound(Animate animate) {
+        wounded.add(animate);
+    }
+
+    public void forget(Animate animate) {
+        wounded.remove(animate);
+    }
+
+    public boolean isWounded(Animate animate) {
+        return wounded.contains(animate);
+    }
+
+    public int getWoundedCount() {
+        return wounded.size();
+    }
+
+    @Override
+    public void update(LooperContext context) {
+        long time = context.getTick();
+
+        if (nextTime == Long.MIN_VALUE) {
+            nextTime = time + period;
+        }
+
+        if (time < nextTime || wounded.isEmpty()) {
+            return;
+        }
+
+        nextTime = time + period;
+
+        int size = collect();
+
+        regenerate(hp, maxHP, hpRecovery, size);
+        regenerate(mp, maxMP, mpRecovery, size);
+
+        for (int index = 0; index < size; index++) {
+            apply(index);
+            batch[index] = null;
+        }
+    }
+
+    private int collect() {
+        ensureCapacity(wounded.size());
+
+        int size = 0;
+
+        for (Animate animate : wounded) {
+            Attributes attributes = animate.getAttributes();
+
+            batch[size] = animate;
+            hp[size] = attributes.getFinalHP();
+            maxHP[size] = attributes.getHP();
+            hpRecovery[size] = attributes.getFinalHPRecovery();
+            mp[size] = attributes.getFinalMP();
+            maxMP[size] = attributes.getMP();
+            mpRecovery[size] = attributes.getFinalMPRecovery();
+            size++;
+        }
+
+        return size;
+    }
+
+    /* leaves the amount to restore in place of the recovery */
+    private static void regenerate(int[] values, int[] maxValues, int[] recoveries, int size) {
+        for (int index = 0; index < size; index++) {
+            int missing = Math.max(maxValues[index] - values[index], 0);
+            int recovery = Math.max(recoveries[index], 0);
+
+            recoveries[index] = Math.min(missing, recovery);
+        }
+    }
+
+    private void apply(int index) {
+        Animate animate = batch[index];
+
+        /* a recovery of zero would keep it tracked until it gets healed otherwise */
+        if (hp[index] <= 0 || (hpRecovery[index] == 0 && mpRecovery[index] == 0)) {
+            wounded.remove(animate);
+            return;
+        }
+
+        if (hpRecovery[index] > 0) {
+            animate.getAttributes().modify(Attribute.HP, PropertyModifierAction.INCREMENT, hpRecovery[index]);
+        }
+
+        if (mpRecovery[index] > 0) {
+            animate.getAttributes().modify(Attribute.MP, PropertyModifierAction.INCREMENT, mpRecovery[index]);
+        }
+
+        if (hpRecovery[index] > 0 || mpRecovery[index] > 0) {
+            animate.markStateChanged();
+        }
+
+        if (hp[index] + hpRecovery[index] >= maxHP[index] && mp[index] + mpRecovery[index] >= maxMP[index]) {
+            wounded.remove(animate);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (batch.length >= capacity) {
+            return;
+        }
+
+        int length = Math.max(capacity, batch.length * 2);
+
+        batch = Arrays.copyOf(batch, length);
+        hp = Arrays.copyOf(hp, length);
+        maxHP = Arrays.copyOf(maxHP, length);
+        hpRecovery = Arrays.copyOf(hpRecovery, length);
+        mp = Arrays.copyOf(mp, length);
+        maxMP = Arrays.copyOf(maxMP, length);
+        mpRecovery = Arrays.copyOf(mpRecovery, length);
+    }
+}
@@ -0,0 +1,127 @@
+package com.mmo.server.core.attribute;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+import com.mmo.server.core.stat.Stat;
+import com.mmo.server.core.stat.Stats;
+
+/*
+ * Attributes derived from stats, declared as stat terms weighted in hundredths
+ * (50 adds half of the stat) and compiled into one function per attribute when
+ * built, so deriving calls straight into the stats with no terms to walk. Each
+ * stat knows which attributes depend on it, so only those are computed again.
+ */
+public class AttributeDerivation {
+
+    private static final Attribute[] ATTRIBUTES = Attribute.values();
+
+    private static AttributeDerivation instance;
+
+    private final List<ToIntFunction<Stats>> formulas;
+    private final long[] dependents;
+
+    private AttributeDerivation(Map<Attribute, List<Term>> terms) {
+        this.formulas = new ArrayList<>(ATTRIBUTES.length);
+        this.dependents = new long[Stat.values().length];
+
+        for (Attribute attribute : ATTRIBUTES) {
+            List<Term> attributeTerms = terms.get(attribute);
+
+            if (Objects.isNull(attributeTerms)) {
+                formulas.add(null);
+                continue;
+            }
+
+            attributeTerms.forEach(term -> dependents[term.stat.ordinal()] |= 1L << attribute.ordinal());
+            formulas.add(compile(attributeTerms));
+        }
+    }
+
+    public static AttributeDerivation getInstance() {
+        if (Objects.isNull(instance)) {
+            instance = builder()
+                    .derive(Attribute.ATTACK, Stat.STRENGTH, 50)
+                    .derive(Attribute.ATTACK, Stat.DEXTERITY, 25)
+                    .derive(Attribute.DEFENSE, Stat.STRENGTH, 25)
+                    .derive(Attribute.MAGIC_DEFENSE, Stat.INTELLIGENCE, 50)
+                    .derive(Attribute.HIT_RATE, Stat.CONCENTRATION, 50)
+                    .derive(Attribute.CRITICAL, Stat.CHARM, 25)
+                    .derive(Attribute.DODGE_RATE, Stat.DEXTERITY, 50)
+                    .derive(Attribute.HP_RECOVERY, Stat.CONCENTRATION, 25)
+                    .derive(Attribute.MP_RECOVERY, Stat.CONCENTRATION, 25)
+                    .derive(Attribute.MP_RECOVERY, Stat.INTELLIGENCE, 25)
+                    .build();
+        }
+
+        return instance;
+    }
+
+    public boolean isDerived(Attribute attribute) {
+        return Objects.nonNull(formulas.get(attribute.ordinal()));
+    }
+
+    /* attributes depending on the stat, as ordinal bits */
+    public long getDependents(Stat stat) {
+        return dependents[stat.ordinal()];
+    }
+
+    public int compute(Attribute attribute, Stats stats) {
+        ToIntFunction<Stats> formula = formulas.get(attribute.ordinal());
+
+        if (Objects.isNull(formula)) {
+            return 0;
+        }
+
+        return formula.applyAsInt(stats);
+    }
+
+    private static ToIntFunction<Stats> compile(List<Term> terms) {
+        ToIntFunction<Stats> hundredths = stats -> 0;
+
+        for (Term term : terms) {
+            ToIntFunction<Stats> previous = hundredths;
+            Stat stat = term.stat;
+            int weight = term.weight;
+
+            hundredths = stats -> previous.applyAsInt(stats) + stats.getFinalValue(stat) * weight;
+        }
+
+        ToIntFunction<Stats> sum = hundredths;
+
+        return stats -> sum.applyAsInt(stats) / 100;
+    }
+
+    public static AttributeDerivationBuilder builder() {
+        return new AttributeDerivationBuilder();
+    }
+
+    public static class AttributeDerivationBuilder {
+
+        private final Map<Attribute, List<Term>> terms = new EnumMap<>(Attribute.class);
+
+        public AttributeDerivationBuilder derive(Attribute attribute, Stat stat, int weight) {
+            terms.computeIfAbsent(attribute, key -> new ArrayList<>()).add(new Term(stat, weight));
+            return this;
+        }
+
+        public AttributeDerivation build() {
+            return new AttributeDerivation(terms);
+        }
+    }
+
+    private static class Term {
+
+        private final Stat stat;
+        private final int weight;
+
+        private Term(Stat stat, int weight) {
+            this.stat = stat;
+            this.weight = weight;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.mmo.server.core.attribute;
 
+import java.util.Objects;
+
 import com.mmo.server.core.looper.LooperContext;
 import com.mmo.server.core.looper.LooperUpdater;
-import com.mmo.server.core.property.Properties;
-import com.mmo.server.core.property.Property;
+import com.mmo.server.core.property.EnumProperties;
+import com.mmo.server.core.property.PropertyModifierAction;
+import com.mmo.server.core.stat.Stat;
+import com.mmo.server.core.stat.Stats;
 
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -14,7 +18,14 @@ import lombok.ToString;
 @ToString
 public class Attributes implements LooperUpdater {
 
-    private final Properties properties;
+    private static final Attribute[] ATTRIBUTES = Attribute.values();
+    private static final Stat[] STATS = Stat.values();
+
+    private final EnumProperties<Attribute> properties;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int[] derivedFrom;
 
     @Builder
     private Attributes(
@@ -32,20 +43,20 @@ public class Attributes implements LooperUpdater {
             @NonNull Integer mpRecovery,
             @NonNull Integer attackRange) {
 
-        properties = Properties.builder()
-                .add(newProperty(Attribute.HP, hp))
-                .add(newProperty(Attribute.MP, mp))
-                .add(newProperty(Attribute.ATTACK, attack))
-                .add(newProperty(Attribute.DEFENSE, defense))
-                .add(newProperty(Attribute.MAGIC_DEFENSE, magicDefense))
-                .add(newProperty(Attribute.HIT_RATE, hitRate))
-                .add(newProperty(Attribute.CRITICAL, critical))
-                .add(newProperty(Attribute.DODGE_RATE, dodgeRate))
-                .add(newProperty(Attribute.ATTACK_SPEED, attackSpeed))
-                .add(newProperty(Attribute.MOVE_SPEED, moveSpeed))
-                .add(newProperty(Attribute.HP_RECOVERY, hpRecovery))
-                .add(newProperty(Attribute.MP_RECOVERY, mpRecovery))
-                .add(newProperty(Attribute.ATTACK_RANGE, attackRange))
+        properties = EnumProperties.builder(Attribute.class)
+                .add(Attribute.HP, hp)
+                .add(Attribute.MP, mp)
+                .add(Attribute.ATTACK, attack)
+                .add(Attribute.DEFENSE, defense)
+                .add(Attribute.MAGIC_DEFENSE, magicDefense)
+                .add(Attribute.HIT_RATE, hitRate)
+                .add(Attribute.CRITICAL, critical)
+                .add(Attribute.DODGE_RATE, dodgeRate)
+                .add(Attribute.ATTACK_SPEED, attackSpeed)
+                .add(Attribute.MOVE_SPEED, moveSpeed)
+                .add(Attribute.HP_RECOVERY, hpRecovery)
+                .add(Attribute.MP_RECOVERY, mpRecovery)
+                .add(Attribute.ATTACK_RANGE, attackRange)
                 .build();
     }
 
@@ -154,26 +165,87 @@ public class Attributes implements LooperUpdater {
     }
 
     public void modify(AttributeModifier modifier) {
-        properties.modify(modifier.getAttribute().name(), modifier.toPropertyModifier());
+        properties.modify(modifier.getAttribute(), modifier.toPropertyModifier());
+    }
+
+    public void modify(Attribute attribute, PropertyModifierAction action, int value) {
+        properties.modify(attribute, action, value);
+    }
+
+    /*
+     * Stats are compared with the ones last derived from, and only the
+     * attributes depending on a stat which changed are computed again
+     */
+    public void derive(AttributeDerivation derivation, Stats stats) {
+        boolean initial = Objects.isNull(derivedFrom);
+        long affected = 0;
+
+        if (initial) {
+            derivedFrom = new int[STATS.length];
+        }
+
+        for (Stat stat : STATS) {
+            int value = stats.getFinalValue(stat);
+
+            if (initial || derivedFrom[stat.ordinal()] != value) {
+                derivedFrom[stat.ordinal()] = value;
+                affected |= derivation.getDependents(stat);
+            }
+        }
+
+        while (affected != 0) {
+            Attribute attribute = ATTRIBUTES[Long.numberOfTrailingZeros(affected)];
+            affected &= affected - 1;
+
+            properties.derive(attribute, derivation.compute(attribute, stats));
+        }
     }
 
-    private Integer getValue(Attribute Attribute) {
-        return properties.getValue(Attribute.name());
+    public void reset() {
+        properties.reset();
+        derivedFrom = null;
     }
 
-    private Integer getFinalValue(Attribute Attribute) {
-        return properties.getFinalValue(Attribute.name());
+    public void detach() {
+        properties.detach();
     }
 
-    private Property newProperty(Attribute Attribute, Integer value) {
-        return Property.builder()
-                .name(Attribute.name())
-                .value(value)
-                .build();
+    public int getDerivedValue(Attribute attribute) {
+        return properties.getDerivedValue(attribute);
+    }
+
+    /* attributes whose final value may have changed since the last clear */
+    public boolean isChanged(Attribute attribute) {
+        return properties.isChanged(attribute);
+    }
+
+    public long getChanges() {
+        return properties.getChanges();
+    }
+
+    public void clearChanges() {
+        properties.clearChanges();
+    }
+
+    /* attributes changed since the last save, apart from the network delta */
+    public long getUnsavedChanges() {
+        return properties.getUnsavedChanges();
+    }
+
+    public void clearUnsavedChanges() {
+        properties.clearUnsavedChanges();
+    }
+
+    private int getValue(Attribute attribute) {
+        return properties.getValue(attribute);
+    }
+
+    public int getFinalValue(Attribute attribute) {
+        return properties.getFinalValue(attribute);
     }
 
     @Override
     public void update(LooperContext context) {
-        properties.forEach(property -> property.update(context));
+        properties.update(context);
     }
 }
@@ -4,7 +4,9 @@ import java.util.Objects;
 
 import com.mmo.server.core.looper.Looper;
 import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.looper.LooperMetrics;
 import com.mmo.server.core.map.Map;
+import com.mmo.server.core.packet.PacketHandlerDelegator;
 
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -13,9 +15,13 @@ import lombok.ToString;
 @ToString
 public class Game {
 
+    private static final int FPS = 120;
+    private static final int MIN_FPS = 30;
+    private static final int MAX_CATCH_UP = 5;
+
     private static Game instance;
 
-    private Map map;
+    private volatile Map map;
     private final Looper looper;
 
     public static Game getInstance() {
@@ -28,7 +34,9 @@ public class Game {
 
     private Game() {
         looper = Looper.builder()
-                .fps(120)
+                .fps(FPS)
+                .minFps(MIN_FPS)
+                .maxCatchUp(MAX_CATCH_UP)
                 .updater(this::update)
                 .renderer(this::render)
                 .build();
@@ -38,16 +46,45 @@ public class Game {
         return map;
     }
 
+    /*
+     * Current simulation time, which only moves along with the game updates
+     */
+    public long getTime() {
+        return looper.getTime();
+    }
+
+    public long getMsPerUpdate() {
+        return looper.getMsPerUpdate();
+    }
+
+    public LooperMetrics getMetrics() {
+        return looper.getMetrics();
+    }
+
     public void run(Map map) throws GameAlreadyRunningException {
         if (isRunning()) {
             throw new GameAlreadyRunningException("Game is already running");
         }
 
-        this.map = map;
+        setMap(map);
 
         looper.run();
     }
 
+    /*
+     * Runs a single update on the calling thread without waiting for the clock,
+     * so a headless simulation can go as fast as the CPU allows
+     */
+    public void step(Map map) throws GameAlreadyRunningException {
+        if (isRunning()) {
+            throw new GameAlreadyRunningException("Game is already running");
+        }
+
+        setMap(map);
+
+        looper.step();
+    }
+
     public void stop() throws GameNotRunningException {
         if (!isRunning()) {
             throw new GameNotRunningException("Game is not running");
@@ -60,7 +97,17 @@ public class Game {
         return looper.isRunning();
     }
 
+    /* the timers of a map left behind would otherwise keep firing on the game clock */
+    private void setMap(Map map) {
+        if (Objects.nonNull(this.map) && this.map != map) {
+            this.map.detach();
+        }
+
+        this.map = map;
+    }
+
     private void update(LooperContext context) {
+        PacketHandlerDelegator.getInstance().drain();
         map.update(context);
     }
 
@@ -1,36 +1,85 @@
 package com.mmo.server.core.looper;
 
+import java.util.Objects;
 import java.util.Optional;
 
+import com.mmo.server.core.timer.TimerWheel;
+
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
+/*
+ * The clock only decides how many fixed updates are due, while the
+ * simulation time seen by the updater always moves by exactly one step
+ * per update, so the same inputs produce the same outcome at any pace.
+ * ---------------------------------
+ * under load:
+ * at most maxCatchUp updates run per frame, the remaining lag is dropped
+ * and the world slows down instead of spiralling
+ * the dropped time is never replayed, the simulation time falls behind
+ * the clock by metrics.droppedMillis and stays behind until restarted
+ * after a few shedding frames in a row the rate is halved, down to minFps,
+ * and doubled back up to fps once it has kept up for a while
+ * deferred tasks only run with what is left of the frame budget
+ */
 @Getter
 @EqualsAndHashCode
 @ToString
 public class Looper implements Runnable {
 
+    private static final int DEFAULT_MAX_CATCH_UP = 5;
+    private static final int SHEDDING_FRAMES_TO_LOWER_RATE = 3;
+    private static final int HEALTHY_SECONDS_TO_RAISE_RATE = 5;
+
     private final Integer fps;
+    private final Integer minFps;
+    private final Integer maxCatchUp;
     private final LooperRenderer renderer;
     private final LooperUpdater updater;
-    private boolean running;
+    private final LooperClock clock;
+    private final TimerWheel timerWheel;
+    private final LooperMetrics metrics;
+    private volatile boolean running;
     private Long lastTick;
+    private long time;
+    private long msPerUpdate;
+    private int currentFps;
+    private int sheddingFrames;
+    private long healthyUpdates;
     private LooperContextBag context;
 
     @Builder
     private Looper(
             @NonNull Integer fps,
             @NonNull LooperRenderer renderer,
-            @NonNull LooperUpdater updater) {
+            @NonNull LooperUpdater updater,
+            LooperClock clock,
+            Integer maxCatchUp,
+            Integer minFps) {
 
         this.fps = fps;
+        this.minFps = Math.min(fps, Objects.requireNonNullElse(minFps, fps));
+        this.maxCatchUp = Objects.requireNonNullElse(maxCatchUp, DEFAULT_MAX_CATCH_UP);
         this.renderer = renderer;
         this.updater = updater;
+        this.clock = Objects.requireNonNullElse(clock, SystemLooperClock.getInstance());
+        this.metrics = new LooperMetrics(fps);
+        this.time = this.clock.getTime();
+
+        timerWheel = TimerWheel.builder()
+                .startTime(time)
+                .build();
 
         context = new LooperContextBag();
+        context.setClock(this.clock);
+        context.setTimerWheel(timerWheel);
+        context.setTick(time);
+        context.setLag(0L);
+
+        setRate(fps);
     }
 
     public Optional<Long> getLastTick() {
@@ -43,36 +92,128 @@ public class Looper implements Runnable {
             return;
         }
 
-        double msPerUpdate = 1000 / fps;
         long lag = 0;
-        lastTick = getNewTick();
-        context.setDesiredLag(msPerUpdate);
+        lastTick = clock.getTime();
         running = true;
 
+        /* time does not pass while stopped, a real time run resumes from the clock */
+        time = Math.max(time, lastTick);
+
         while (running) {
-            long newTick = getNewTick();
+            long newTick = clock.getTime();
             long elapsed = newTick - lastTick;
 
             lag += elapsed;
             lastTick = newTick;
-            context.setTick(newTick);
             context.setLag(lag);
 
-            while (lag >= msPerUpdate) {
-                updater.update(context);
+            int updates = 0;
+
+            while (lag >= msPerUpdate && updates < maxCatchUp) {
+                update();
                 lag -= msPerUpdate;
+                updates++;
             }
 
+            boolean shedding = lag >= msPerUpdate;
+
+            if (shedding) {
+                long dropped = lag - lag % msPerUpdate;
+
+                /* shedding may change msPerUpdate, the remainder is taken first */
+                shed(lag / msPerUpdate, dropped);
+                lag -= dropped;
+            } else if (updates > 0) {
+                recover(updates);
+            }
+
+            runDeferred(newTick, shedding);
+
             renderer.render(context);
         }
     }
 
+    /*
+     * Runs a single fixed update and render regardless of the clock,
+     * for deterministic or faster than real time simulations
+     */
+    public void step() {
+        context.setLag(0L);
+        update();
+        runDeferred();
+        renderer.render(context);
+    }
+
     public void stop() {
         running = false;
     }
 
-    private static long getNewTick() {
-        return System.currentTimeMillis();
+    private void update() {
+        time += msPerUpdate;
+        context.setTick(time);
+        updater.update(context);
+        timerWheel.advance(time);
+        metrics.incrementUpdates();
+    }
+
+    private void shed(long skippedUpdates, long droppedMillis) {
+        metrics.shed(skippedUpdates, droppedMillis, time);
+        healthyUpdates = 0;
+        sheddingFrames++;
+
+        if (sheddingFrames >= SHEDDING_FRAMES_TO_LOWER_RATE && currentFps > minFps) {
+            setRate(Math.max(minFps, currentFps / 2));
+        }
+    }
+
+    private void recover(int updates) {
+        sheddingFrames = 0;
+        healthyUpdates += updates;
+
+        if (currentFps < fps && healthyUpdates >= (long) currentFps * HEALTHY_SECONDS_TO_RAISE_RATE) {
+            setRate(Math.min(fps, currentFps * 2));
+        }
+    }
+
+    private void setRate(int fps) {
+        if (currentFps != 0) {
+            metrics.changeRate(fps);
+        }
+
+        currentFps = fps;
+        msPerUpdate = 1000 / fps;
+        sheddingFrames = 0;
+        healthyUpdates = 0;
+        context.setDesiredLag((double) msPerUpdate);
+    }
+
+    /*
+     * At least one deferred task runs per frame so nothing starves,
+     * more only while there is frame budget left and no shedding
+     */
+    private void runDeferred(long frameStart, boolean shedding) {
+        long ran = 0;
+        Runnable task;
+
+        while ((ran == 0 || !shedding && clock.getTime() - frameStart < msPerUpdate)
+                && Objects.nonNull(task = context.pollDeferred())) {
+            task.run();
+            ran++;
+        }
+
+        metrics.deferred(ran, context.getDeferredCount());
+    }
+
+    private void runDeferred() {
+        long ran = 0;
+        Runnable task;
+
+        while (Objects.nonNull(task = context.pollDeferred())) {
+            task.run();
+            ran++;
+        }
+
+        metrics.deferred(ran, 0);
     }
 
     @SuppressWarnings("unused")
@@ -0,0 +1,7 @@
+package com.mmo.server.core.looper;
+
+@FunctionalInterface
+public interface LooperClock {
+
+    long getTime();
+}
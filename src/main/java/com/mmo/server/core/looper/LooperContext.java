@@ -4,6 +4,8 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 
+import com.mmo.server.core.timer.TimerWheel;
+
 public interface LooperContext {
 
     Long getTick();
@@ -12,6 +14,16 @@ public interface LooperContext {
 
     Double getDesiredLag();
 
+    LooperClock getClock();
+
+    TimerWheel getTimerWheel();
+
+    /*
+     * Low priority work, run after the updates of a frame within what is left
+     * of the frame budget, and held back while the looper is shedding load
+     */
+    void defer(Runnable task);
+
     default OffsetDateTime getTickDateTime() {
         Instant instant = Instant.ofEpochMilli(getTick());
         ZoneId zoneId = ZoneId.systemDefault();
@@ -20,6 +32,6 @@ public interface LooperContext {
     }
 
     default Long getMillisDuration() {
-        return System.currentTimeMillis() - getTick();
+        return getClock().getTime() - getTick();
     }
 }
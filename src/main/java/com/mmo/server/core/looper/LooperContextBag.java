@@ -1,6 +1,15 @@
 package com.mmo.server.core.looper;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.mmo.server.core.timer.TimerWheel;
+
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 @Data
 public class LooperContextBag implements LooperContext {
@@ -8,4 +17,30 @@ public class LooperContextBag implements LooperContext {
     private Long tick;
     private Long lag;
     private Double desiredLag;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private LooperClock clock;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private TimerWheel timerWheel;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Deque<Runnable> deferredTasks = new ArrayDeque<>();
+
+    @Override
+    public void defer(Runnable task) {
+        deferredTasks.add(task);
+    }
+
+    Runnable pollDeferred() {
+        return deferredTasks.poll();
+    }
+
+    int getDeferredCount() {
+        return deferredTasks.size();
+    }
 }
@@ -0,0 +1,47 @@
+package com.mmo.server.core.looper;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+ * Written by the looper thread only, readable from any thread
+ */
+@Getter
+@ToString
+public class LooperMetrics {
+
+    private volatile long updates;
+    private volatile long skippedUpdates;
+    private volatile long droppedMillis;
+    private volatile long sheddingFrames;
+    private volatile long rateChanges;
+    private volatile long deferredTasks;
+    private volatile int pendingDeferredTasks;
+    private volatile int currentFps;
+    private volatile long lastSheddingTime;
+
+    LooperMetrics(int currentFps) {
+        this.currentFps = currentFps;
+    }
+
+    void incrementUpdates() {
+        updates++;
+    }
+
+    void shed(long skippedUpdates, long droppedMillis, long time) {
+        this.skippedUpdates += skippedUpdates;
+        this.droppedMillis += droppedMillis;
+        this.sheddingFrames++;
+        this.lastSheddingTime = time;
+    }
+
+    void changeRate(int currentFps) {
+        this.currentFps = currentFps;
+        this.rateChanges++;
+    }
+
+    void deferred(long ran, int pending) {
+        this.deferredTasks += ran;
+        this.pendingDeferredTasks = pending;
+    }
+}
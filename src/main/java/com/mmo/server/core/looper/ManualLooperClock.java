@@ -0,0 +1,32 @@
+package com.mmo.server.core.looper;
+
+import java.util.Objects;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/*
+ * A clock which only moves when told to, used to run
+ * the looper deterministically or faster than real time
+ */
+@EqualsAndHashCode
+@ToString
+public class ManualLooperClock implements LooperClock {
+
+    private long time;
+
+    @Builder
+    private ManualLooperClock(Long startTime) {
+        this.time = Objects.requireNonNullElse(startTime, 0L);
+    }
+
+    @Override
+    public long getTime() {
+        return time;
+    }
+
+    public void advance(long millis) {
+        time += millis;
+    }
+}
@@ -0,0 +1,25 @@
+package com.mmo.server.core.looper;
+
+import java.util.Objects;
+
+public class SystemLooperClock implements LooperClock {
+
+    private static SystemLooperClock instance;
+
+    public static SystemLooperClock getInstance() {
+        if (Objects.isNull(instance)) {
+            instance = new SystemLooperClock();
+        }
+
+        return instance;
+    }
+
+    private SystemLooperClock() {
+
+    }
+
+    @Override
+    public long getTime() {
+        return System.currentTimeMillis();
+    }
+}
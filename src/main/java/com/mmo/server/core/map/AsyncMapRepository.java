@@ -0,0 +1,12 @@
+package com.mmo.server.core.map;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncMapRepository {
+
+    CompletableFuture<Optional<Map>> find(UUID id);
+
+    CompletableFuture<Void> persist(Map map);
+}
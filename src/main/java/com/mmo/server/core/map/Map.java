@@ -1,18 +1,32 @@
 package com.mmo.server.core.map;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import com.mmo.server.core.ai.AIRuntime;
+import com.mmo.server.core.animate.Animate;
+import com.mmo.server.core.animate.Combat;
+import com.mmo.server.core.animate.Regeneration;
 import com.mmo.server.core.looper.LooperContext;
 import com.mmo.server.core.looper.LooperUpdater;
+import com.mmo.server.core.math.Vertex;
+import com.mmo.server.core.monster.SpawnRegion;
 import com.mmo.server.core.packet.Packet;
+import com.mmo.server.core.packet.PersistencePacket;
+import com.mmo.server.core.player.PlayerCheckpoint;
 
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -43,9 +57,40 @@ public class Map implements LooperUpdater {
 
     private final ConcurrentHashMap<UUID, MapEntity> entities = new ConcurrentHashMap<>();
 
+    /*
+     * Entities are also indexed by their concrete class, so looking for the
+     * players near a monster does not walk through every monster of the map
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<UUID, MapEntity>> entitiesByType = new ConcurrentHashMap<>();
+
     @Getter(AccessLevel.NONE)
     private final Set<MapPacketDispatchSubscriber> packetSubscribers = new LinkedHashSet<>();
 
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Queue<PersistencePacket> persistencePackets = new ConcurrentLinkedQueue<>();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final AtomicBoolean persistenceDeferred = new AtomicBoolean();
+
+    @ToString.Exclude
+    private final Combat combat;
+
+    @ToString.Exclude
+    private final Regeneration regeneration;
+
+    @ToString.Exclude
+    private final AIRuntime ai;
+
+    @ToString.Exclude
+    private final PlayerCheckpoint checkpoint;
+
+    @ToString.Exclude
+    private final List<SpawnRegion> spawnRegions = new ArrayList<>();
+
     @Builder
     private Map(
             @NonNull UUID id,
@@ -53,17 +98,32 @@ public class Map implements LooperUpdater {
             @NonNull String description,
             @NonNull Integer nearbyRatio,
             @NonNull Terrain terrain,
-            Collection<MapPacketDispatchSubscriber> packetSubscribers) {
+            Collection<MapPacketDispatchSubscriber> packetSubscribers,
+            Combat combat,
+            Regeneration regeneration,
+            AIRuntime ai,
+            PlayerCheckpoint checkpoint,
+            Collection<SpawnRegion> spawnRegions) {
 
         this.id = id;
         this.name = name;
         this.description = description;
         this.nearbyRatio = nearbyRatio;
         this.terrain = terrain;
+        this.regeneration = Objects.requireNonNullElseGet(regeneration, () -> Regeneration.builder().build());
+        this.combat = Objects.requireNonNullElseGet(combat, () -> Combat.builder()
+                .regeneration(this.regeneration)
+                .build());
+        this.ai = Objects.requireNonNullElseGet(ai, () -> AIRuntime.builder().build());
+        this.checkpoint = Objects.requireNonNullElseGet(checkpoint, () -> PlayerCheckpoint.builder().build());
 
         if (Objects.nonNull(packetSubscribers)) {
             this.packetSubscribers.addAll(packetSubscribers);
         }
+
+        if (Objects.nonNull(spawnRegions)) {
+            this.spawnRegions.addAll(spawnRegions);
+        }
     }
 
     public <T extends MapEntity> T getEntity(UUID instanceId, Class<T> type) throws MapEntityNotFoundException {
@@ -91,13 +151,37 @@ public class Map implements LooperUpdater {
         return Collections.unmodifiableCollection(entities.values());
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends MapEntity> List<T> getEntities(Class<T> type) {
+        List<T> typed = new ArrayList<>();
+
+        entitiesByType.forEach((entityType, values) -> {
+            if (type.isAssignableFrom(entityType)) {
+                values.values().forEach(entity -> typed.add((T) entity));
+            }
+        });
+
+        return typed;
+    }
+
     @Override
     public void update(LooperContext context) {
+        combat.update(context);
+        regeneration.update(context);
+        spawnRegions.forEach(region -> region.update(this, context));
+        ai.update(context);
         entities.values().forEach(animate -> animate.update(context));
+        checkpoint.update(this, context);
+
+        if (!persistencePackets.isEmpty() && persistenceDeferred.compareAndSet(false, true)) {
+            context.defer(this::publishPersistence);
+        }
     }
 
     public void addEntity(MapEntity entity) {
         entities.put(entity.getInstanceId(), entity);
+        entitiesByType.computeIfAbsent(entity.getClass(), type -> new ConcurrentHashMap<>())
+                .put(entity.getInstanceId(), entity);
     }
 
     public void removeEntity(MapEntity entity) {
@@ -105,16 +189,72 @@ public class Map implements LooperUpdater {
     }
 
     public void removeEntity(UUID instanceId) {
-        entities.remove(instanceId);
+        MapEntity entity = entities.remove(instanceId);
+
+        if (Objects.nonNull(entity)) {
+            Optional.ofNullable(entitiesByType.get(entity.getClass()))
+                    .ifPresent(typed -> typed.remove(instanceId));
+            entity.detach();
+
+            if (entity instanceof Animate) {
+                regeneration.forget((Animate) entity);
+            }
+        }
+    }
+
+    /* the entities stay on the map but stop, used when the game leaves it */
+    public void detach() {
+        entities.values().forEach(MapEntity::detach);
     }
 
     @SuppressWarnings("unchecked")
     public <T extends MapEntity> Set<T> getNearbyEntities(MapEntity baseEntity, Class<T> type) {
-        return getNearbyEntities(baseEntity)
-                .stream()
-                .filter(entity -> type.isAssignableFrom(entity.getClass()))
-                .map(entity -> (T) entity)
-                .collect(Collectors.toSet());
+        Set<T> nearby = new LinkedHashSet<>();
+
+        entitiesByType.forEach((entityType, typed) -> {
+            if (type.isAssignableFrom(entityType)) {
+                typed.values().stream()
+                        .filter(entity -> isNearby(baseEntity, entity))
+                        .forEach(entity -> nearby.add((T) entity));
+            }
+        });
+
+        return nearby;
+    }
+
+    /* the closest entity of a type inside the square of the given ratio around the center */
+    @SuppressWarnings("unchecked")
+    public <T extends MapEntity> Optional<T> findNearestEntity(
+            Vertex center,
+            int ratio,
+            Class<T> type,
+            Predicate<? super T> filter) {
+
+        T nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+
+        for (Class<?> entityType : entitiesByType.keySet()) {
+            if (!type.isAssignableFrom(entityType)) {
+                continue;
+            }
+
+            for (MapEntity entity : entitiesByType.get(entityType).values()) {
+                Position position = entity.getPosition();
+
+                if (!center.isNearby(position, ratio) || !filter.test((T) entity)) {
+                    continue;
+                }
+
+                int distance = center.getDistance(position);
+
+                if (distance < nearestDistance) {
+                    nearest = (T) entity;
+                    nearestDistance = distance;
+                }
+            }
+        }
+
+        return Optional.ofNullable(nearest);
     }
 
     public Set<MapEntity> getNearbyEntities(MapEntity baseEntity) {
@@ -123,12 +263,38 @@ public class Map implements LooperUpdater {
                 .collect(Collectors.toSet());
     }
 
+    /*
+     * Persistence packets are low priority, they are published as deferred
+     * work on the next update so they can be held back under load
+     * ---------------------------------
+     * a single deferred task publishes everything queued so far, so a
+     * shedding looper running one task per frame never falls behind them
+     */
     public void dispatch(Packet packet) {
-        packetSubscribers.forEach(subscriber -> subscriber.onDispatch(packet, Optional.empty()));
+        if (packet instanceof PersistencePacket) {
+            persistencePackets.add((PersistencePacket) packet);
+        } else {
+            publish(packet, Optional.empty());
+        }
     }
 
     public void dispatch(Packet packet, UUID target) {
-        packetSubscribers.forEach(subscriber -> subscriber.onDispatch(packet, Optional.ofNullable(target)));
+        publish(packet, Optional.ofNullable(target));
+    }
+
+    private void publish(Packet packet, Optional<UUID> target) {
+        packetSubscribers.forEach(subscriber -> subscriber.onDispatch(packet, target));
+    }
+
+    /* packets queued while this runs are picked up here or by the next update */
+    private void publishPersistence() {
+        persistenceDeferred.set(false);
+
+        PersistencePacket packet;
+
+        while (Objects.nonNull(packet = persistencePackets.poll())) {
+            publish(packet, Optional.empty());
+        }
     }
 
     private boolean isNearby(MapEntity baseEntity, MapEntity testingEntity) {
@@ -7,4 +7,9 @@ public interface MapEntity extends MapInstance, LooperUpdater {
     String getName();
 
     Position getPosition();
+
+    /* called once the entity left its map, so whatever it scheduled there stops */
+    default void detach() {
+
+    }
 }
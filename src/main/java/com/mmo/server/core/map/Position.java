@@ -16,6 +16,11 @@ public class Position extends Vertex {
         super(x, z);
     }
 
+    public void teleport(int x, int z) {
+        this.x = x;
+        this.z = z;
+    }
+
     public boolean incrementX(int x) {
         int limit = this.x + x;
 
@@ -0,0 +1,227 @@
+package com.mmo.server.core.monster;
+
+import static com.mmo.server.core.ai.Behaviours.*;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.mmo.server.core.ai.Agent;
+import com.mmo.server.core.ai.Behaviour;
+import com.mmo.server.core.animate.Animate;
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+ * Monsters are owned by their spawn region, which reuses the same instance
+ * on every respawn, and think through the AI runtime of the map, so their
+ * own update only does the Animate bookkeeping.
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class Monster extends Animate implements Agent {
+
+    private static final Behaviour<Monster> BEHAVIOUR = selector(
+            sequence(
+                    condition(Monster::isReturning),
+                    action(Monster::walkHome)),
+            sequence(
+                    condition(Monster::isEngaged),
+                    action(Monster::retarget),
+                    selector(
+                            sequence(
+                                    condition(Monster::hasLostTarget),
+                                    action(Monster::returnHome)),
+                            action(Monster::pursue))),
+            sequence(
+                    condition(Monster::isProvoked),
+                    action(Monster::engage)));
+
+    @ToString.Include
+    private final UUID instanceId = UUID.randomUUID();
+
+    @ToString.Include
+    private final String name;
+
+    private final MonsterTemplate template;
+    private final SpawnRegion region;
+    private final Attributes attributes;
+    private final ThreatTable threats = ThreatTable.builder().build();
+
+    @ToString.Include
+    private final Position position = new Position(0, 0);
+
+    private final Position home = new Position(0, 0);
+
+    @ToString.Include
+    private MonsterState state = MonsterState.DEAD;
+
+    private long diedAt;
+
+    @Getter(AccessLevel.NONE)
+    private Player perceived;
+
+    Monster(MonsterTemplate template, SpawnRegion region) {
+        this.name = template.getName();
+        this.template = template;
+        this.region = region;
+        this.attributes = template.newAttributes();
+    }
+
+    @Override
+    public UUID getId() {
+        return instanceId;
+    }
+
+    public boolean isDead() {
+        return state == MonsterState.DEAD;
+    }
+
+    @Override
+    public boolean isThinking() {
+        return !isDead();
+    }
+
+    @Override
+    public int getPerceptionRange() {
+        return template.getAggroRange();
+    }
+
+    /* anything but resting idle with no threat, so leashing, retargeting and returning keep their pace */
+    @Override
+    public boolean isAwake() {
+        return state != MonsterState.IDLE || !threats.isEmpty();
+    }
+
+    void spawn(int x, int z) {
+        attributes.reset();
+        threats.clear();
+        position.teleport(x, z);
+        home.teleport(x, z);
+        state = MonsterState.IDLE;
+    }
+
+    @Override
+    public void think(Optional<Player> nearest) {
+        threats.update(Game.getInstance().getTime());
+        threats.purge(this::isGone);
+        perceived = nearest.orElse(null);
+        BEHAVIOUR.tick(this);
+        perceived = null;
+    }
+
+    /* dead, or off the map such as a player who logged out */
+    private boolean isGone(Animate source) {
+        return !source.isAlive() || getMap().findEntity(source.getInstanceId()).isEmpty();
+    }
+
+    private boolean isReturning() {
+        return state == MonsterState.RETURN;
+    }
+
+    private boolean isEngaged() {
+        return state == MonsterState.AGGRO || state == MonsterState.CHASE;
+    }
+
+    /* a player came close or someone hit it from afar */
+    private boolean isProvoked() {
+        return state == MonsterState.IDLE && (Objects.nonNull(perceived) || !threats.isEmpty());
+    }
+
+    private boolean hasLostTarget() {
+        Animate target = getTargetAnimate().orElse(null);
+
+        return !isAttacking() || Objects.isNull(target) || isGone(target)
+                || !home.isNearby(position, template.getLeashRange());
+    }
+
+    private void engage() {
+        Animate target = threats.getTop().orElse(perceived);
+
+        attack(target);
+        state = getChaseState(target);
+    }
+
+    /* switches to whoever holds the most threat, even after the current target died */
+    private void retarget() {
+        threats.getTop()
+                .filter(top -> top != getTargetAnimate().orElse(null) || !isAttacking())
+                .ifPresent(this::attack);
+    }
+
+    private void pursue() {
+        state = getChaseState(getTargetAnimate().orElseThrow());
+    }
+
+    private MonsterState getChaseState(Animate target) {
+        return isInsideAttackRange(target.getPosition()) ? MonsterState.AGGRO : MonsterState.CHASE;
+    }
+
+    private void returnHome() {
+        if (isAttacking()) {
+            stopAttacking();
+        }
+
+        threats.clear();
+
+        state = MonsterState.RETURN;
+
+        if (position.equals(home)) {
+            rest();
+        } else {
+            move(home);
+        }
+    }
+
+    private void walkHome() {
+        if (!isMoving()) {
+            rest();
+        }
+    }
+
+    private void rest() {
+        restore(Attribute.HP, attributes.getHP() - attributes.getFinalHP());
+        restore(Attribute.MP, attributes.getMP() - attributes.getFinalMP());
+        state = MonsterState.IDLE;
+    }
+
+    private void restore(Attribute attribute, int missing) {
+        if (missing > 0) {
+            attributes.modify(attribute, PropertyModifierAction.INCREMENT, missing);
+            markStateChanged();
+        }
+    }
+
+    @Override
+    protected void onDamage(int damage, Animate source) {
+        super.onDamage(damage, source);
+        threats.add(source, damage);
+    }
+
+    @Override
+    protected void onDie(Animate source) {
+        super.onDie(source);
+        threats.clear();
+
+        if (isAttacking()) {
+            stopAttacking();
+        }
+
+        if (isMoving()) {
+            stopMoving();
+        }
+
+        state = MonsterState.DEAD;
+        diedAt = Game.getInstance().getTime();
+        getMap().removeEntity(this);
+        region.release(this);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mmo.server.core.monster;
+
+public enum MonsterState {
+
+    /*
+     * Standing at home, looking for players within the aggro range
+     */
+    IDLE,
+
+    /*
+     * Fighting its target, which is within the attack range
+     */
+    AGGRO,
+
+    /*
+     * Moving towards its target, which has gone out of the attack range
+     */
+    CHASE,
+
+    /*
+     * Walking back home after losing its target or leaving the leash range,
+     * players are ignored until it is back
+     */
+    RETURN,
+
+    /*
+     * Waiting in its spawn region to be respawned
+     */
+    DEAD
+}
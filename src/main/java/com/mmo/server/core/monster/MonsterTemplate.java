@@ -0,0 +1,87 @@
+package com.mmo.server.core.monster;
+
+import com.mmo.server.core.attribute.Attributes;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class MonsterTemplate {
+
+    private final String name;
+    private final int hp;
+    private final int mp;
+    private final int attack;
+    private final int defense;
+    private final int magicDefense;
+    private final int hitRate;
+    private final int critical;
+    private final int dodgeRate;
+    private final int attackSpeed;
+    private final int moveSpeed;
+    private final int hpRecovery;
+    private final int mpRecovery;
+    private final int attackRange;
+    private final int aggroRange;
+    private final int leashRange;
+
+    @Builder
+    private MonsterTemplate(
+            @NonNull String name,
+            int hp,
+            int mp,
+            int attack,
+            int defense,
+            int magicDefense,
+            int hitRate,
+            int critical,
+            int dodgeRate,
+            int attackSpeed,
+            int moveSpeed,
+            int hpRecovery,
+            int mpRecovery,
+            int attackRange,
+            int aggroRange,
+            int leashRange) {
+
+        this.name = name;
+        this.hp = hp;
+        this.mp = mp;
+        this.attack = attack;
+        this.defense = defense;
+        this.magicDefense = magicDefense;
+        this.hitRate = hitRate;
+        this.critical = critical;
+        this.dodgeRate = dodgeRate;
+        this.attackSpeed = attackSpeed;
+        this.moveSpeed = moveSpeed;
+        this.hpRecovery = hpRecovery;
+        this.mpRecovery = mpRecovery;
+        this.attackRange = attackRange;
+        this.aggroRange = aggroRange;
+        this.leashRange = leashRange;
+    }
+
+    public Attributes newAttributes() {
+        return Attributes.builder()
+                .hp(hp)
+                .mp(mp)
+                .attack(attack)
+                .defense(defense)
+                .magicDefense(magicDefense)
+                .hitRate(hitRate)
+                .critical(critical)
+                .dodgeRate(dodgeRate)
+                .attackSpeed(attackSpeed)
+                .moveSpeed(moveSpeed)
+                .hpRecovery(hpRecovery)
+                .mpRecovery(mpRecovery)
+                .attackRange(attackRange)
+                .build();
+    }
+}
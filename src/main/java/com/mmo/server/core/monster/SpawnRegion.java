@@ -0,0 +1,120 @@
+package com.mmo.server.core.monster;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.math.Rectangle;
+import com.mmo.server.core.math.Vertex;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/*
+ * Keeps count monsters of a template alive inside an area. Monsters are
+ * created once, on the first update, and dead ones wait in a pool until
+ * their respawn delay is over, so respawning does not allocate. Every dead
+ * monster waits for the same delay, which keeps the pool in respawn order
+ * and each update only looks at its head.
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class SpawnRegion {
+
+    private static final long DEFAULT_RESPAWN_DELAY_IN_MILLIS = 30000L;
+    private static final int SPAWN_ATTEMPTS = 8;
+
+    @ToString.Include
+    private final Rectangle area;
+
+    @ToString.Include
+    private final MonsterTemplate template;
+
+    @ToString.Include
+    private final int count;
+
+    private final long respawnDelay;
+
+    @Getter(AccessLevel.NONE)
+    private final Random random;
+
+    @Getter(AccessLevel.NONE)
+    private final List<Monster> monsters = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Deque<Monster> pool = new ArrayDeque<>();
+
+    @Builder
+    private SpawnRegion(
+            @NonNull Rectangle area,
+            @NonNull MonsterTemplate template,
+            int count,
+            Long respawnDelay,
+            Random random) {
+
+        this.area = area;
+        this.template = template;
+        this.count = count;
+        this.respawnDelay = Objects.requireNonNullElse(respawnDelay, DEFAULT_RESPAWN_DELAY_IN_MILLIS);
+        this.random = Objects.requireNonNullElseGet(random, Random::new);
+    }
+
+    public List<Monster> getMonsters() {
+        return Collections.unmodifiableList(monsters);
+    }
+
+    public int getAliveCount() {
+        return monsters.size() - pool.size();
+    }
+
+    public void update(Map map, LooperContext context) {
+        while (monsters.size() < count) {
+            Monster monster = new Monster(template, this);
+            monsters.add(monster);
+            spawn(map, monster);
+        }
+
+        long tick = context.getTick();
+
+        while (!pool.isEmpty() && pool.peek().getDiedAt() + respawnDelay <= tick) {
+            spawn(map, pool.poll());
+        }
+    }
+
+    void release(Monster monster) {
+        pool.add(monster);
+    }
+
+    private void spawn(Map map, Monster monster) {
+        Vertex origin = area.getBottomLeftVertex();
+
+        for (int attempt = 0; attempt < SPAWN_ATTEMPTS; attempt++) {
+            int x = origin.getX() + random.nextInt(area.getWidth() + 1);
+            int z = origin.getZ() + random.nextInt(area.getDepth() + 1);
+
+            if (!map.getTerrain().isInsideForbiddenArea(x, z)) {
+                monster.spawn(x, z);
+                enter(map, monster);
+                return;
+            }
+        }
+
+        Vertex center = area.getCenter();
+        monster.spawn(center.getX(), center.getZ());
+        enter(map, monster);
+    }
+
+    private void enter(Map map, Monster monster) {
+        map.addEntity(monster);
+        map.getAi().add(monster);
+    }
+}
@@ -0,0 +1,225 @@
+package com.mmo.server.core.monster;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.mmo.server.core.animate.Animate;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+ * Threat by source kept in an indexed max heap: every entry knows its slot
+ * in the heap, so the highest threat is the root and raising or removing
+ * the threat of a source only sifts that entry.
+ * ---------------------------------
+ * decay scales every threat by the same factor, which keeps the heap order,
+ * sources whose threat reaches zero are dropped
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class ThreatTable {
+
+    private static final int DEFAULT_DECAY_PERCENT = 10;
+    private static final long DECAY_PERIOD_IN_MILLIS = 1000L;
+    private static final int INITIAL_CAPACITY = 4;
+
+    @ToString.Include
+    private final int decay;
+
+    @Getter(AccessLevel.NONE)
+    private final IdentityHashMap<Animate, Entry> entries = new IdentityHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private Entry[] heap = new Entry[INITIAL_CAPACITY];
+
+    @ToString.Include
+    private int size;
+
+    @Getter(AccessLevel.NONE)
+    private long lastDecay;
+
+    /* percent of the threat lost every second */
+    @Builder
+    private ThreatTable(Integer decay) {
+        this.decay = Objects.requireNonNullElse(decay, DEFAULT_DECAY_PERCENT);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Optional<Animate> getTop() {
+        return size == 0 ? Optional.empty() : Optional.of(heap[0].source);
+    }
+
+    public long getThreat(Animate source) {
+        Entry entry = entries.get(source);
+
+        return Objects.isNull(entry) ? 0 : entry.threat;
+    }
+
+    public void add(Animate source, int threat) {
+        if (threat <= 0) {
+            return;
+        }
+
+        Entry entry = entries.get(source);
+
+        if (Objects.isNull(entry)) {
+            entry = new Entry(source);
+            entries.put(source, entry);
+            ensureCapacity();
+            entry.index = size;
+            heap[size++] = entry;
+        }
+
+        entry.threat += threat;
+        siftUp(entry.index);
+    }
+
+    public void remove(Animate source) {
+        Entry entry = entries.remove(source);
+
+        if (Objects.isNull(entry)) {
+            return;
+        }
+
+        int index = entry.index;
+        Entry last = heap[--size];
+        heap[size] = null;
+
+        if (index < size) {
+            place(last, index);
+            siftDown(index);
+            siftUp(last.index);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        entries.clear();
+        size = 0;
+    }
+
+    /* applies the decay of the whole seconds elapsed since the last one */
+    public void update(long tick) {
+        if (lastDecay == 0 || size == 0) {
+            lastDecay = tick;
+            return;
+        }
+
+        long periods = (tick - lastDecay) / DECAY_PERIOD_IN_MILLIS;
+
+        if (periods <= 0) {
+            return;
+        }
+
+        lastDecay += periods * DECAY_PERIOD_IN_MILLIS;
+
+        double factor = Math.pow((100 - decay) / 100.0, periods);
+
+        for (int index = 0; index < size; index++) {
+            heap[index].threat = (long) (heap[index].threat * factor);
+        }
+
+        drop(entry -> entry.threat <= 0);
+    }
+
+    /* drops the sources matching the predicate, such as the dead or the ones gone from the map */
+    public void purge(Predicate<? super Animate> predicate) {
+        drop(entry -> predicate.test(entry.source));
+    }
+
+    private void drop(Predicate<Entry> predicate) {
+        int kept = 0;
+
+        for (int index = 0; index < size; index++) {
+            Entry entry = heap[index];
+
+            if (predicate.test(entry)) {
+                entries.remove(entry.source);
+            } else {
+                place(entry, kept++);
+            }
+        }
+
+        if (kept == size) {
+            return;
+        }
+
+        Arrays.fill(heap, kept, size, null);
+        size = kept;
+
+        for (int index = size / 2 - 1; index >= 0; index--) {
+            siftDown(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+
+            if (heap[parent].threat >= entry.threat) {
+                break;
+            }
+
+            place(heap[parent], index);
+            index = parent;
+        }
+
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        int half = size / 2;
+
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+
+            if (right < size && heap[right].threat > heap[child].threat) {
+                child = right;
+            }
+
+            if (entry.threat >= heap[child].threat) {
+                break;
+            }
+
+            place(heap[child], index);
+            index = child;
+        }
+
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap[index] = entry;
+        entry.index = index;
+    }
+
+    private void ensureCapacity() {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+    }
+
+    private static class Entry {
+
+        final Animate source;
+        long threat;
+        int index;
+
+        Entry(Animate source) {
+            this.source = source;
+        }
+    }
+}
@@ -19,6 +19,7 @@ public class PacketHandlerDelegator {
     private static PacketHandlerDelegator instance;
 
     private final ConcurrentHashMap<Class<? extends Packet>, PacketHandler<?>> handlers = new ConcurrentHashMap<>();
+    private final PacketQueue queue = new PacketQueue();
 
     public static PacketHandlerDelegator getInstance() {
         if (Objects.isNull(instance)) {
@@ -42,6 +43,30 @@ public class PacketHandlerDelegator {
         handler.handle(packet);
     }
 
+    /*
+     * Called from the network threads, the packet is handled
+     * by the game thread on its next drain
+     */
+    public void enqueue(Packet packet) {
+        queue.offer(packet);
+    }
+
+    /*
+     * Called from the game thread at the beginning of each update, so every
+     * queued packet is handled on the same thread that updates the map
+     */
+    public int drain() {
+        return queue.drain(this::delegateQueued);
+    }
+
+    private void delegateQueued(Packet packet) {
+        try {
+            delegate(packet);
+        } catch (Exception exception) {
+            logger.error("Failed to handle queued packet {}", packet, exception);
+        }
+    }
+
     private Optional<PacketHandler<?>> get(Packet packet) {
         return Optional.ofNullable(handlers.get(packet.getClass()));
     }
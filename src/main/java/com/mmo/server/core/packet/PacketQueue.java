@@ -0,0 +1,79 @@
+package com.mmo.server.core.packet;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/*
+ * Lock-free multiple producer single consumer queue: producers only swap
+ * the tail and link the previous node, the single consumer walks the head
+ * without any atomic operation. A packet whose producer has swapped the
+ * tail but not linked it yet is simply picked up by the next drain.
+ */
+public class PacketQueue {
+
+    private final AtomicReference<Node> tail;
+    private Node head;
+
+    public PacketQueue() {
+        Node stub = new Node(null);
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    public void offer(Packet packet) {
+        Node node = new Node(Objects.requireNonNull(packet));
+        Node previous = tail.getAndSet(node);
+        previous.next = node;
+    }
+
+    public Packet poll() {
+        Node next = head.next;
+
+        if (Objects.isNull(next)) {
+            return null;
+        }
+
+        Packet packet = next.packet;
+        next.packet = null;
+        head = next;
+
+        return packet;
+    }
+
+    /*
+     * Must only be called from the consumer thread, only drains what
+     * was already queued when the call started
+     */
+    public int drain(Consumer<Packet> consumer) {
+        Node last = tail.get();
+        int count = 0;
+
+        while (head != last) {
+            Packet packet = poll();
+
+            if (Objects.isNull(packet)) {
+                break;
+            }
+
+            consumer.accept(packet);
+            count++;
+        }
+
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return Objects.isNull(head.next);
+    }
+
+    private static class Node {
+
+        private Packet packet;
+        private volatile Node next;
+
+        private Node(Packet packet) {
+            this.packet = packet;
+        }
+    }
+}
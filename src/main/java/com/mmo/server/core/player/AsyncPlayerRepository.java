@@ -0,0 +1,14 @@
+package com.mmo.server.core.player;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPlayerRepository {
+
+    CompletableFuture<Optional<Player>> find(UUID id);
+
+    CompletableFuture<Boolean> existsPlayerOwnedBy(UUID playerId, UUID userId);
+
+    CompletableFuture<Void> persist(Player player);
+}
@@ -3,12 +3,15 @@ package com.mmo.server.core.player;
 import java.util.UUID;
 
 import com.mmo.server.core.animate.Animate;
+import com.mmo.server.core.attribute.AttributeDerivation;
 import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.looper.LooperContext;
 import com.mmo.server.core.map.Position;
 import com.mmo.server.core.packet.PlayerPersistPacket;
 import com.mmo.server.core.packet.PlayerUpdatePacket;
 import com.mmo.server.core.stat.Stats;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -27,6 +30,16 @@ public class Player extends Animate {
     private final Stats stats;
     private final Attributes attributes;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int savedX;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int savedZ;
+
     @Builder
     private Player(
             @NonNull UUID userId,
@@ -42,6 +55,9 @@ public class Player extends Animate {
         this.position = position;
         this.stats = stats;
         this.attributes = attributes;
+        this.attributes.derive(AttributeDerivation.getInstance(), stats);
+
+        markSaved();
     }
 
     @Override
@@ -49,6 +65,47 @@ public class Player extends Animate {
         return instanceId;
     }
 
+    /*
+     * Changed since the last save: moved, or a stat or attribute changed,
+     * including modifiers being added or expiring
+     */
+    public boolean isDirty() {
+        return position.getX() != savedX
+                || position.getZ() != savedZ
+                || stats.getUnsavedChanges() != 0
+                || attributes.getUnsavedChanges() != 0;
+    }
+
+    /* dispatches a persist when dirty, telling whether it did */
+    public boolean checkpoint() {
+        if (!isDirty()) {
+            return false;
+        }
+
+        dispatchPersist();
+        return true;
+    }
+
+    private void markSaved() {
+        savedX = position.getX();
+        savedZ = position.getZ();
+        stats.clearUnsavedChanges();
+        attributes.clearUnsavedChanges();
+    }
+
+    @Override
+    public void detach() {
+        stats.detach();
+        super.detach();
+    }
+
+    @Override
+    public void update(LooperContext context) {
+        stats.update(context);
+        attributes.derive(AttributeDerivation.getInstance(), stats);
+        super.update(context);
+    }
+
     @Override
     public void move(Position target) {
         super.move(target);
@@ -61,6 +118,12 @@ public class Player extends Animate {
         dispatchUpdate();
     }
 
+    @Override
+    protected void onStateChanged() {
+        super.onStateChanged();
+        dispatchUpdate();
+    }
+
     @Override
     protected void onDie(Animate source) {
         super.onDie(source);
@@ -75,6 +138,7 @@ public class Player extends Animate {
     }
 
     private void dispatchPersist() {
+        markSaved();
         dispatch(PlayerPersistPacket.builder()
                 .source(instanceId)
                 .player(this)
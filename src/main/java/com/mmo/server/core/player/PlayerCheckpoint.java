@@ -0,0 +1,56 @@
+package com.mmo.server.core.player;
+
+import java.util.Objects;
+
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.map.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * Saves the players of a map which changed since their last save once per
+ * interval, so a crash only loses the last interval instead of everything
+ * since the last death. Clean players are skipped, and the dirty ones are
+ * handed to the persistence subscribers together, which write them in bulk.
+ */
+@Getter
+public class PlayerCheckpoint {
+
+    private static final long DEFAULT_INTERVAL_IN_MILLIS = 60000L;
+
+    private final long interval;
+    private int lastCheckpointed;
+    private long checkpointed;
+    private long nextTime = Long.MIN_VALUE;
+
+    @Builder
+    private PlayerCheckpoint(Long interval) {
+        this.interval = Objects.requireNonNullElse(interval, DEFAULT_INTERVAL_IN_MILLIS);
+    }
+
+    public void update(Map map, LooperContext context) {
+        long time = context.getTick();
+
+        if (nextTime == Long.MIN_VALUE) {
+            nextTime = time + interval;
+        }
+
+        if (time < nextTime) {
+            return;
+        }
+
+        nextTime = time + interval;
+
+        int count = 0;
+
+        for (Player player : map.getEntities(Player.class)) {
+            if (player.checkpoint()) {
+                count++;
+            }
+        }
+
+        lastCheckpointed = count;
+        checkpointed += count;
+    }
+}
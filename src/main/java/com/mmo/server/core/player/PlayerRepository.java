@@ -7,5 +7,7 @@ public interface PlayerRepository {
 
     Optional<Player> find(UUID id);
 
+    boolean existsPlayerOwnedBy(UUID playerId, UUID userId);
+
     void persist(Player player);
 }
@@ -0,0 +1,244 @@
+package com.mmo.server.core.property;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.looper.LooperUpdater;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/*
+ * Array backed counterpart of Properties for a fixed set of properties named
+ * by an enum: base values live in int arrays indexed by ordinal, so reading a
+ * value is an array load with no hashing nor unboxing, and modifier stacks are
+ * only allocated for the properties which get persisted modifiers. Keys whose
+ * final value may have changed are kept as ordinal bits until cleared, which is
+ * why an enum is limited to 64 keys.
+ * ---------------------------------
+ * the changes and the unsaved bits are set together but cleared apart, the
+ * network delta and the persistence each consume their own
+ * ---------------------------------
+ * non persisted increments and decrements, like damage and regeneration, are
+ * kept apart as a delta added after the modifiers, so a percent or multiplier
+ * bonus scales the property and not what was taken from or given to it
+ */
+@EqualsAndHashCode
+@ToString
+public class EnumProperties<E extends Enum<E>> implements LooperUpdater {
+
+    private final int[] values;
+    private final int[] bases;
+    private final int[] deltas;
+    private final PropertyModifierStack[] stacks;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final int[] derived;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long changes;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long unsaved;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long unarmed;
+
+    private EnumProperties(Class<E> type, Map<E, Integer> values) {
+        E[] keys = type.getEnumConstants();
+
+        if (keys.length > Long.SIZE) {
+            throw new PropertyKeysExceededException(type.getSimpleName(), Long.SIZE);
+        }
+
+        this.values = new int[keys.length];
+        this.bases = new int[keys.length];
+        this.deltas = new int[keys.length];
+        this.derived = new int[keys.length];
+        this.stacks = new PropertyModifierStack[keys.length];
+
+        for (E key : keys) {
+            Integer value = values.get(key);
+
+            if (Objects.isNull(value)) {
+                throw new PropertyNotFoundException(key.name());
+            }
+
+            this.values[key.ordinal()] = value;
+            this.bases[key.ordinal()] = value;
+        }
+    }
+
+    public int getValue(E key) {
+        return values[key.ordinal()];
+    }
+
+    public int getFinalValue(E key) {
+        int index = key.ordinal();
+        int base = bases[index] + derived[index];
+        PropertyModifierStack stack = stacks[index];
+
+        if (Objects.isNull(stack)) {
+            return base + deltas[index];
+        }
+
+        return stack.apply(base) + deltas[index];
+    }
+
+    public int getDerivedValue(E key) {
+        return derived[key.ordinal()];
+    }
+
+    /* part of the value which comes from other properties, added before modifiers */
+    public void derive(E key, int value) {
+        int index = key.ordinal();
+
+        if (derived[index] != value) {
+            derived[index] = value;
+            markChanged(index);
+        }
+    }
+
+    public long getChanges() {
+        return changes;
+    }
+
+    public boolean isChanged(E key) {
+        return (changes & (1L << key.ordinal())) != 0;
+    }
+
+    public void clearChanges() {
+        changes = 0;
+    }
+
+    public long getUnsavedChanges() {
+        return unsaved;
+    }
+
+    public void clearUnsavedChanges() {
+        unsaved = 0;
+    }
+
+    private void markChanged(int index) {
+        changes |= 1L << index;
+        unsaved |= 1L << index;
+    }
+
+    public Set<PropertyModifier> getModifiers(E key) {
+        PropertyModifierStack stack = stacks[key.ordinal()];
+
+        if (Objects.isNull(stack)) {
+            return Collections.emptySet();
+        }
+
+        return stack.getModifiers();
+    }
+
+    public void modify(E key, PropertyModifier modifier) {
+        if (!modifier.isPersisted()) {
+            modify(key, modifier.getAction(), modifier.getValue());
+            return;
+        }
+
+        int index = key.ordinal();
+
+        markChanged(index);
+
+        if (Objects.isNull(stacks[index])) {
+            stacks[index] = new PropertyModifierStack(() -> markChanged(index));
+        }
+
+        stacks[index].add(modifier);
+
+        if (modifier.hasExpiration()) {
+            unarmed |= 1L << index;
+        }
+    }
+
+    /* applies a non persisted modifier, which has nothing to keep around */
+    public void modify(E key, PropertyModifierAction action, int value) {
+        int index = key.ordinal();
+
+        if (action.isFlat()) {
+            deltas[index] = action.apply(deltas[index], value);
+        } else {
+            bases[index] = action.apply(bases[index], value);
+        }
+
+        markChanged(index);
+    }
+
+    /*
+     * Brings every property back to its initial value, dropping derived parts
+     * and modifiers, so the same instance can be reused from scratch
+     */
+    public void reset() {
+        detach();
+        System.arraycopy(values, 0, bases, 0, values.length);
+        Arrays.fill(deltas, 0);
+        Arrays.fill(derived, 0);
+        Arrays.fill(stacks, null);
+        changes = values.length == Long.SIZE ? -1L : (1L << values.length) - 1;
+        unsaved = changes;
+        unarmed = 0;
+    }
+
+    /* stops the expiration timers, the next update arms them again */
+    public void detach() {
+        for (int index = 0; index < stacks.length; index++) {
+            PropertyModifierStack stack = stacks[index];
+
+            if (Objects.nonNull(stack)) {
+                stack.disarm();
+
+                if (stack.hasExpirations()) {
+                    unarmed |= 1L << index;
+                }
+            }
+        }
+    }
+
+    /* only the stacks which got expiring modifiers since the last update are visited */
+    @Override
+    public void update(LooperContext context) {
+        while (unarmed != 0) {
+            int index = Long.numberOfTrailingZeros(unarmed);
+            unarmed &= unarmed - 1;
+
+            stacks[index].arm(context);
+        }
+    }
+
+    public static <E extends Enum<E>> EnumPropertiesBuilder<E> builder(Class<E> type) {
+        return new EnumPropertiesBuilder<>(type);
+    }
+
+    public static class EnumPropertiesBuilder<E extends Enum<E>> {
+
+        private final Class<E> type;
+        private final Map<E, Integer> values;
+
+        private EnumPropertiesBuilder(Class<E> type) {
+            this.type = type;
+            this.values = new EnumMap<>(type);
+        }
+
+        public EnumPropertiesBuilder<E> add(E key, Integer value) {
+            values.put(key, value);
+            return this;
+        }
+
+        public EnumProperties<E> build() throws PropertyNotFoundException {
+            return new EnumProperties<>(type, values);
+        }
+    }
+}
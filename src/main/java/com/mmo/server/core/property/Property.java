@@ -1,12 +1,11 @@
 package com.mmo.server.core.property;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 import com.mmo.server.core.looper.LooperContext;
 import com.mmo.server.core.looper.LooperUpdater;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -18,90 +17,62 @@ import lombok.ToString;
 @ToString
 public class Property implements LooperUpdater {
 
-    private final Set<PropertyModifier> modifiers = new LinkedHashSet<>();
+    @Getter(AccessLevel.NONE)
+    private final PropertyModifierStack stack = new PropertyModifierStack();
+
     private final String name;
     private final Integer value;
-    private Integer finalValue;
+
+    /* value with the non persisted percents and multipliers applied, the stack builds on it */
+    @Getter(AccessLevel.NONE)
+    private int base;
+
+    /* non persisted increments and decrements, added after the stack so its bonuses do not scale them */
+    @Getter(AccessLevel.NONE)
+    private int delta;
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean unarmed;
 
     @Builder
     public Property(@NonNull String name, @NonNull Integer value) {
         this.name = name;
         this.value = value;
-        this.finalValue = value;
+        this.base = value;
     }
 
     public Set<PropertyModifier> getModifiers() {
-        return Collections.unmodifiableSet(modifiers);
+        return stack.getModifiers();
     }
 
     public Integer getFinalValue() {
-        return finalValue;
+        return stack.apply(base) + delta;
     }
 
     public void modify(PropertyModifier modifier) throws PropertyModifierIllegalException {
         if (modifier.isPersisted()) {
-            modifiers.add(modifier);
+            stack.add(modifier);
+            unarmed |= modifier.hasExpiration();
+        } else {
+            modify(modifier.getAction(), modifier.getValue());
         }
-
-        applyModifier(modifier);
-    }
-
-    private void applyModifier(PropertyModifier modifier) {
-        applyModifier(modifier.getAction(), modifier.getValue());
     }
 
-    private void applyModifier(PropertyModifierAction action, Integer value) {
-        switch (action) {
-        case INCREMENT:
-            increment(value);
-            break;
-
-        case DECREMENT:
-            decrement(value);
-            break;
-
-        default:
-            throw new PropertyModifierIllegalException("Invalid modifier, action %s does not exist", action);
+    public void modify(PropertyModifierAction action, int value) {
+        if (action.isFlat()) {
+            delta = action.apply(delta, value);
+        } else {
+            base = action.apply(base, value);
         }
     }
 
-    private void releaveModifier(PropertyModifier modifier) {
-        PropertyModifierAction reversedAction = reverse(modifier.getAction());
-        applyModifier(reversedAction, modifier.getValue());
-        modifiers.remove(modifier);
-    }
-
-    private PropertyModifierAction reverse(PropertyModifierAction action) {
-        switch (action) {
-        case INCREMENT:
-            return PropertyModifierAction.DECREMENT;
-
-        case DECREMENT:
-            return PropertyModifierAction.INCREMENT;
-
-        default:
-            throw new PropertyModifierIllegalException("Invalid modifier, action %s does not exist", action);
-        }
-    }
-
-    private void increment(Integer value) {
-        finalValue += value;
-    }
-
-    private void decrement(Integer value) {
-        finalValue -= value;
-    }
-
-    private void releaveExpiredModifiers() {
-        modifiers
-                .stream()
-                .filter(modifier -> modifier.getExpiration().isPresent())
-                .filter(PropertyModifier::isExpired)
-                .forEach(this::releaveModifier);
-    }
-
     @Override
     public void update(LooperContext context) throws PropertyModifierIllegalException {
-        releaveExpiredModifiers();
+        if (unarmed) {
+            unarmed = false;
+            stack.arm(context);
+        }
     }
 }
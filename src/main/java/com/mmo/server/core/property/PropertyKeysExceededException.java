@@ -0,0 +1,10 @@
+package com.mmo.server.core.property;
+
+public class PropertyKeysExceededException extends PropertyException {
+
+    private static final long serialVersionUID = 6113907346276384011L;
+
+    public PropertyKeysExceededException(String typeName, int limit) {
+        super("Property keys of %s exceed %s", typeName, limit);
+    }
+}
@@ -1,11 +1,6 @@
 package com.mmo.server.core.property;
 
-import java.time.OffsetDateTime;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.UUID;
-
-import com.mmo.server.core.map.MapInstance;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -13,43 +8,46 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
+/*
+ * Small value type, a modifier is identified by a sequential int id and its
+ * expiration is kept in epoch millis, zero when it never expires. Modifiers
+ * which are not persisted are better applied with the action and value
+ * straight away, without building one.
+ */
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString
-public class PropertyModifier implements MapInstance {
+public class PropertyModifier {
+
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    @EqualsAndHashCode.Include
+    private final int id;
 
-    private final UUID instanceId = UUID.randomUUID();
     private final PropertyModifierAction action;
-    private final Integer value;
+    private final int value;
     private final boolean persisted;
-    private final OffsetDateTime expiration;
+    private final long expiration;
 
     @Builder
     public PropertyModifier(
             @NonNull PropertyModifierAction action,
-            @NonNull Integer value,
-            OffsetDateTime expiration,
+            int value,
+            long expiration,
             boolean persisted) {
 
-        if (Objects.nonNull(expiration) && !persisted) {
+        if (expiration > 0 && !persisted) {
             throw new PropertyModifierIllegalException("Must be persisted when has expiration");
         }
 
+        this.id = ids.incrementAndGet();
         this.action = action;
         this.value = value;
-        this.expiration = expiration;
+        this.expiration = Math.max(expiration, 0);
         this.persisted = persisted;
     }
 
-    public Optional<OffsetDateTime> getExpiration() {
-        return Optional.ofNullable(expiration);
-    }
-
-    public boolean isExpired() {
-        if (Objects.isNull(expiration)) {
-            return false;
-        }
-
-        return expiration.isBefore(OffsetDateTime.now());
+    public boolean hasExpiration() {
+        return expiration > 0;
     }
 }
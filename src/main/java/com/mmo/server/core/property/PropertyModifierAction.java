@@ -1,6 +1,43 @@
 package com.mmo.server.core.property;
 
+/*
+ * Flat actions are summed first, percentages are then summed into a single
+ * bonus and multipliers, given in hundredths (150 is x1.5), compound last
+ */
 public enum PropertyModifierAction {
 
-    INCREMENT, DECREMENT
+    INCREMENT {
+        @Override
+        public int apply(int value, int amount) {
+            return value + amount;
+        }
+    },
+
+    DECREMENT {
+        @Override
+        public int apply(int value, int amount) {
+            return value - amount;
+        }
+    },
+
+    PERCENT {
+        @Override
+        public int apply(int value, int amount) {
+            return (int) Math.round(value * (100 + amount) / 100.0);
+        }
+    },
+
+    MULTIPLY {
+        @Override
+        public int apply(int value, int amount) {
+            return (int) Math.round(value * amount / 100.0);
+        }
+    };
+
+    public abstract int apply(int value, int amount);
+
+    /* adds to the value instead of scaling it */
+    public boolean isFlat() {
+        return this == INCREMENT || this == DECREMENT;
+    }
 }
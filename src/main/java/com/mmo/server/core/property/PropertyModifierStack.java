@@ -0,0 +1,155 @@
+package com.mmo.server.core.property;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.timer.Timer;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/*
+ * Persisted modifiers of a single property. The final value is only computed
+ * again from the whole stack when it is read after a change, and expirations
+ * are kept in a min-heap with one timer armed for its head, so an update only
+ * peeks the head instead of going through every modifier.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
+class PropertyModifierStack {
+
+    private static final Comparator<PropertyModifier> EXPIRATION_ORDER = Comparator
+            .comparingLong(PropertyModifier::getExpiration);
+
+    @EqualsAndHashCode.Include
+    @ToString.Include
+    private final Set<PropertyModifier> modifiers = new LinkedHashSet<>();
+
+    private final PriorityQueue<PropertyModifier> expirations = new PriorityQueue<>(EXPIRATION_ORDER);
+    private final Runnable onRelease;
+
+    private Timer timer;
+    private boolean dirty;
+    private int base;
+    private int finalValue;
+
+    PropertyModifierStack() {
+        this(() -> {
+        });
+    }
+
+    PropertyModifierStack(Runnable onRelease) {
+        this.onRelease = onRelease;
+    }
+
+    boolean hasExpirations() {
+        return !expirations.isEmpty();
+    }
+
+    Set<PropertyModifier> getModifiers() {
+        return Collections.unmodifiableSet(modifiers);
+    }
+
+    void add(PropertyModifier modifier) {
+        if (!modifiers.add(modifier)) {
+            return;
+        }
+
+        if (modifier.hasExpiration()) {
+            expirations.add(modifier);
+        }
+
+        dirty = true;
+    }
+
+    int apply(int base) {
+        if (dirty || this.base != base) {
+            this.base = base;
+            this.finalValue = compute(base);
+            this.dirty = false;
+        }
+
+        return finalValue;
+    }
+
+    private int compute(int base) {
+        long flat = base;
+        long percent = 100;
+        double multiplier = 1;
+
+        for (PropertyModifier modifier : modifiers) {
+            int amount = modifier.getValue();
+
+            switch (modifier.getAction()) {
+            case INCREMENT:
+                flat += amount;
+                break;
+            case DECREMENT:
+                flat -= amount;
+                break;
+            case PERCENT:
+                percent += amount;
+                break;
+            case MULTIPLY:
+                multiplier *= amount / 100.0;
+                break;
+            }
+        }
+
+        return (int) Math.round(flat * percent / 100.0 * multiplier);
+    }
+
+    /*
+     * Arms the timer for the heap head, releasing is low priority work so the
+     * timer defers it, which lets it be held back while the game is shedding
+     * load, and arms itself again for whatever is left once released
+     */
+    void arm(LooperContext context) {
+        PropertyModifier head = expirations.peek();
+
+        if (Objects.isNull(head)) {
+            return;
+        }
+
+        long deadline = head.getExpiration();
+
+        if (Objects.isNull(timer)) {
+            timer = context.getTimerWheel().schedule(deadline,
+                    value -> context.defer(() -> {
+                        if (timer == value) {
+                            releaveExpired(context, value.getDeadline());
+                        }
+                    }));
+        } else if (timer.isScheduled() && deadline < timer.getDeadline()) {
+            timer.reschedule(deadline);
+        }
+    }
+
+    /* a release already deferred is dropped too, arming again starts over */
+    void disarm() {
+        if (Objects.nonNull(timer)) {
+            timer.cancel();
+            timer = null;
+        }
+    }
+
+    private void releaveExpired(LooperContext context, long time) {
+        timer = null;
+
+        while (!expirations.isEmpty() && expirations.peek().getExpiration() <= time) {
+            modifiers.remove(expirations.poll());
+            dirty = true;
+        }
+
+        if (dirty) {
+            onRelease.run();
+        }
+
+        arm(context);
+    }
+}
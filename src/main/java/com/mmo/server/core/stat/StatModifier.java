@@ -1,6 +1,7 @@
 package com.mmo.server.core.stat;
 
 import java.time.OffsetDateTime;
+import java.util.Objects;
 
 import com.mmo.server.core.property.PropertyModifier;
 import com.mmo.server.core.property.PropertyModifierAction;
@@ -40,7 +41,7 @@ public class StatModifier {
         return PropertyModifier.builder()
                 .action(action)
                 .value(value)
-                .expiration(expiration)
+                .expiration(Objects.isNull(expiration) ? 0 : expiration.toInstant().toEpochMilli())
                 .persisted(persisted)
                 .build();
     }
@@ -2,8 +2,7 @@ package com.mmo.server.core.stat;
 
 import com.mmo.server.core.looper.LooperContext;
 import com.mmo.server.core.looper.LooperUpdater;
-import com.mmo.server.core.property.Properties;
-import com.mmo.server.core.property.Property;
+import com.mmo.server.core.property.EnumProperties;
 
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -14,7 +13,7 @@ import lombok.ToString;
 @ToString
 public class Stats implements LooperUpdater {
 
-    private final Properties properties;
+    private final EnumProperties<Stat> properties;
 
     @Builder
     private Stats(
@@ -25,13 +24,13 @@ public class Stats implements LooperUpdater {
             @NonNull Integer sense,
             @NonNull Integer charm) {
 
-        properties = Properties.builder()
-                .add(newProperty(Stat.STRENGTH, strength))
-                .add(newProperty(Stat.DEXTERITY, dexterity))
-                .add(newProperty(Stat.INTELLIGENCE, intelligence))
-                .add(newProperty(Stat.CONCENTRATION, concentration))
-                .add(newProperty(Stat.SENSE, sense))
-                .add(newProperty(Stat.CHARM, charm))
+        properties = EnumProperties.builder(Stat.class)
+                .add(Stat.STRENGTH, strength)
+                .add(Stat.DEXTERITY, dexterity)
+                .add(Stat.INTELLIGENCE, intelligence)
+                .add(Stat.CONCENTRATION, concentration)
+                .add(Stat.SENSE, sense)
+                .add(Stat.CHARM, charm)
                 .build();
     }
 
@@ -84,26 +83,45 @@ public class Stats implements LooperUpdater {
     }
 
     public void modify(StatModifier modifier) {
-        properties.modify(modifier.getStat().name(), modifier.toPropertyModifier());
+        properties.modify(modifier.getStat(), modifier.toPropertyModifier());
     }
 
-    private Integer getValue(Stat stat) {
-        return properties.getValue(stat.name());
+    /* stats whose final value may have changed since the last clear */
+    public boolean isChanged(Stat stat) {
+        return properties.isChanged(stat);
     }
 
-    private Integer getFinalValue(Stat stat) {
-        return properties.getFinalValue(stat.name());
+    public long getChanges() {
+        return properties.getChanges();
     }
 
-    private Property newProperty(Stat stat, Integer value) {
-        return Property.builder()
-                .name(stat.name())
-                .value(value)
-                .build();
+    public void clearChanges() {
+        properties.clearChanges();
+    }
+
+    /* stats changed since the last save, apart from the network delta */
+    public long getUnsavedChanges() {
+        return properties.getUnsavedChanges();
+    }
+
+    public void clearUnsavedChanges() {
+        properties.clearUnsavedChanges();
+    }
+
+    private int getValue(Stat stat) {
+        return properties.getValue(stat);
+    }
+
+    public int getFinalValue(Stat stat) {
+        return properties.getFinalValue(stat);
+    }
+
+    public void detach() {
+        properties.detach();
     }
 
     @Override
     public void update(LooperContext context) {
-        properties.forEach(property -> property.update(context));
+        properties.update(context);
     }
 }
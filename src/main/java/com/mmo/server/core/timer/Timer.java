@@ -0,0 +1,51 @@
+package com.mmo.server.core.timer;
+
+import java.util.Objects;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@ToString(onlyExplicitlyIncluded = true)
+public class Timer {
+
+    private final TimerWheel wheel;
+    private final TimerTask task;
+
+    @Getter
+    @ToString.Include
+    private long deadline;
+
+    @Getter
+    @ToString.Include
+    private boolean cancelled;
+
+    Timer previous;
+    Timer next;
+    TimerList list;
+
+    Timer(TimerWheel wheel, long deadline, TimerTask task) {
+        this.wheel = wheel;
+        this.deadline = deadline;
+        this.task = task;
+    }
+
+    public boolean isScheduled() {
+        return Objects.nonNull(list);
+    }
+
+    public void cancel() {
+        cancelled = true;
+        wheel.remove(this);
+    }
+
+    public void reschedule(long deadline) {
+        wheel.remove(this);
+        this.deadline = deadline;
+        this.cancelled = false;
+        wheel.add(this);
+    }
+
+    void run() {
+        task.run(this);
+    }
+}
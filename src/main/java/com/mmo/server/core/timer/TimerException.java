@@ -0,0 +1,16 @@
+package com.mmo.server.core.timer;
+
+import com.mmo.server.core.exception.RuntimeException;
+
+public abstract class TimerException extends RuntimeException {
+
+    private static final long serialVersionUID = 2877019414512683530L;
+
+    public TimerException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+
+    public TimerException(Throwable throwable, String messageFormat, Object... arguments) {
+        super(throwable, messageFormat, arguments);
+    }
+}
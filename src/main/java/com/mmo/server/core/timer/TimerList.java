@@ -0,0 +1,61 @@
+package com.mmo.server.core.timer;
+
+import java.util.Objects;
+
+class TimerList {
+
+    final int level;
+
+    private Timer head;
+    private Timer tail;
+
+    TimerList(int level) {
+        this.level = level;
+    }
+
+    boolean isEmpty() {
+        return Objects.isNull(head);
+    }
+
+    void add(Timer timer) {
+        timer.list = this;
+        timer.previous = tail;
+        timer.next = null;
+
+        if (Objects.isNull(tail)) {
+            head = timer;
+        } else {
+            tail.next = timer;
+        }
+
+        tail = timer;
+    }
+
+    void remove(Timer timer) {
+        if (Objects.isNull(timer.previous)) {
+            head = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+
+        if (Objects.isNull(timer.next)) {
+            tail = timer.previous;
+        } else {
+            timer.next.previous = timer.previous;
+        }
+
+        timer.list = null;
+        timer.previous = null;
+        timer.next = null;
+    }
+
+    Timer poll() {
+        Timer timer = head;
+
+        if (Objects.nonNull(timer)) {
+            remove(timer);
+        }
+
+        return timer;
+    }
+}
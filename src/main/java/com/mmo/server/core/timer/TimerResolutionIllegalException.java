@@ -0,0 +1,10 @@
+package com.mmo.server.core.timer;
+
+public class TimerResolutionIllegalException extends TimerException {
+
+    private static final long serialVersionUID = -4162236311915180925L;
+
+    public TimerResolutionIllegalException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
@@ -0,0 +1,7 @@
+package com.mmo.server.core.timer;
+
+@FunctionalInterface
+public interface TimerTask {
+
+    void run(Timer timer);
+}
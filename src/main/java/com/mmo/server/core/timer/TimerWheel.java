@@ -0,0 +1,228 @@
+package com.mmo.server.core.timer;
+
+import java.util.Objects;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/*
+ * Hierarchical timing wheel: 4 levels of 64 slots, each level covering 64 times
+ * the range of the level below. Timers live in the level of the highest bit
+ * group where their tick differs from the current tick and cascade down as the
+ * wheel turns, so scheduling, cancelling and firing are all O(1), and spans
+ * without due timers are skipped up to the next boundary of the lowest
+ * occupied level.
+ * ---------------------------------
+ * with the default resolution of 1ms:
+ * level 0 -> 64ms
+ * level 1 -> 4s
+ * level 2 -> 4.4min
+ * level 3 -> 4.6h
+ * anything further waits in the overflow list
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class TimerWheel {
+
+    private static final long DEFAULT_RESOLUTION = 1;
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int EXPIRED_LEVEL = -1;
+
+    @Getter
+    @ToString.Include
+    private final long resolution;
+
+    private final TimerList[][] wheels = new TimerList[LEVELS][SLOTS];
+    private final TimerList overflow = new TimerList(LEVELS);
+    private final TimerList expired = new TimerList(EXPIRED_LEVEL);
+    private final TimerList cascading = new TimerList(EXPIRED_LEVEL);
+    private final int[] levelSizes = new int[LEVELS + 1];
+    private long currentTick;
+
+    @Getter
+    @ToString.Include
+    private int size;
+
+    @Builder
+    private TimerWheel(Long resolution, @NonNull Long startTime) {
+        this.resolution = Objects.requireNonNullElse(resolution, DEFAULT_RESOLUTION);
+
+        if (this.resolution <= 0) {
+            throw new TimerResolutionIllegalException("Resolution must be positive, got %d", this.resolution);
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new TimerList(level);
+            }
+        }
+
+        currentTick = Math.floorDiv(startTime, this.resolution);
+    }
+
+    @ToString.Include
+    public long getTime() {
+        return currentTick * resolution;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Timer schedule(long deadline, TimerTask task) {
+        Timer timer = new Timer(this, deadline, task);
+        add(timer);
+
+        return timer;
+    }
+
+    public void advance(long time) {
+        long targetTick = Math.floorDiv(time, resolution);
+
+        runExpired();
+
+        while (currentTick < targetTick) {
+            if (isEmpty()) {
+                currentTick = targetTick;
+                return;
+            }
+
+            int level = getLowestOccupiedLevel();
+
+            if (level > 0) {
+                // nothing can fire before the next boundary of the lowest occupied level
+                long boundary = ((currentTick >>> (level * SLOT_BITS)) + 1) << (level * SLOT_BITS);
+
+                if (boundary > targetTick) {
+                    currentTick = targetTick;
+                    return;
+                }
+
+                currentTick = boundary - 1;
+            }
+
+            currentTick++;
+            cascade();
+            expire(wheels[0][slotOf(currentTick, 0)]);
+            runExpired();
+        }
+    }
+
+    void add(Timer timer) {
+        insert(timer);
+        size++;
+    }
+
+    void remove(Timer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long tick = toTick(timer.getDeadline());
+
+        if (tick <= currentTick) {
+            link(expired, timer);
+            return;
+        }
+
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(tick ^ currentTick)) / SLOT_BITS;
+
+        if (level >= LEVELS) {
+            link(overflow, timer);
+        } else {
+            link(wheels[level][slotOf(tick, level)], timer);
+        }
+    }
+
+    private void link(TimerList list, Timer timer) {
+        list.add(timer);
+
+        if (list.level != EXPIRED_LEVEL) {
+            levelSizes[list.level]++;
+        }
+    }
+
+    private void unlink(Timer timer) {
+        TimerList list = timer.list;
+        list.remove(timer);
+
+        if (list.level != EXPIRED_LEVEL) {
+            levelSizes[list.level]--;
+        }
+    }
+
+    private void cascade() {
+        if (isLevelBoundary(LEVELS)) {
+            reinsert(overflow);
+        }
+
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if (isLevelBoundary(level)) {
+                reinsert(wheels[level][slotOf(currentTick, level)]);
+            }
+        }
+    }
+
+    private void reinsert(TimerList list) {
+        Timer timer;
+
+        while (!list.isEmpty()) {
+            timer = list.poll();
+            levelSizes[list.level]--;
+            cascading.add(timer);
+        }
+
+        while (Objects.nonNull(timer = cascading.poll())) {
+            insert(timer);
+        }
+    }
+
+    private void expire(TimerList list) {
+        Timer timer;
+
+        while (Objects.nonNull(timer = list.poll())) {
+            levelSizes[list.level]--;
+            expired.add(timer);
+        }
+    }
+
+    private void runExpired() {
+        Timer timer;
+
+        while (Objects.nonNull(timer = expired.poll())) {
+            size--;
+            timer.run();
+        }
+    }
+
+    private int getLowestOccupiedLevel() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] > 0) {
+                return level;
+            }
+        }
+
+        return LEVELS;
+    }
+
+    private boolean isLevelBoundary(int level) {
+        long mask = (1L << (level * SLOT_BITS)) - 1;
+
+        return (currentTick & mask) == 0;
+    }
+
+    private long toTick(long deadline) {
+        return Math.floorDiv(deadline + resolution - 1, resolution);
+    }
+
+    private static int slotOf(long tick, int level) {
+        return (int) ((tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+    }
+}
@@ -0,0 +1,16 @@
+package com.mmo.server.core.user;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncUserRepository {
+
+    CompletableFuture<Optional<User>> find(UUID id);
+
+    CompletableFuture<Optional<User>> findByName(String name);
+
+    CompletableFuture<Optional<Credentials>> findCredentials(String name);
+
+    CompletableFuture<Void> persist(User user);
+}
@@ -0,0 +1,25 @@
+package com.mmo.server.core.user;
+
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/* the part of a user needed to authenticate it */
+@Getter
+@EqualsAndHashCode
+@ToString(exclude = "password")
+public class Credentials {
+
+    private final UUID userId;
+    private final String password;
+
+    @Builder
+    private Credentials(@NonNull UUID userId, @NonNull String password) {
+        this.userId = userId;
+        this.password = password;
+    }
+}
@@ -9,5 +9,7 @@ public interface UserRepository {
 
     Optional<User> findByName(String name);
 
+    Optional<Credentials> findCredentials(String name);
+
     void persist(User user);
 }
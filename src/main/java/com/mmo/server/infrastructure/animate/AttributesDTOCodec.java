@@ -0,0 +1,94 @@
+package com.mmo.server.infrastructure.animate;
+
+import static com.mmo.server.infrastructure.mongo.BsonCodecs.*;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class AttributesDTOCodec implements Codec<AttributesDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, AttributesDTO value, EncoderContext context) {
+        writer.writeStartDocument();
+        writeInteger(writer, "attack", value.getAttack());
+        writeInteger(writer, "attackRange", value.getAttackRange());
+        writeInteger(writer, "attackSpeed", value.getAttackSpeed());
+        writeInteger(writer, "critical", value.getCritical());
+        writeInteger(writer, "defense", value.getDefense());
+        writeInteger(writer, "dodgeRate", value.getDodgeRate());
+        writeInteger(writer, "hp", value.getHP());
+        writeInteger(writer, "hpRecovery", value.getHPRecovery());
+        writeInteger(writer, "hitRate", value.getHitRate());
+        writeInteger(writer, "mp", value.getMP());
+        writeInteger(writer, "mpRecovery", value.getMPRecovery());
+        writeInteger(writer, "magicDefense", value.getMagicDefense());
+        writeInteger(writer, "moveSpeed", value.getMoveSpeed());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public AttributesDTO decode(BsonReader reader, DecoderContext context) {
+        AttributesDTO dto = new AttributesDTO();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+            case "attack":
+                dto.setAttack(readInteger(reader));
+                break;
+            case "attackRange":
+                dto.setAttackRange(readInteger(reader));
+                break;
+            case "attackSpeed":
+                dto.setAttackSpeed(readInteger(reader));
+                break;
+            case "critical":
+                dto.setCritical(readInteger(reader));
+                break;
+            case "defense":
+                dto.setDefense(readInteger(reader));
+                break;
+            case "dodgeRate":
+                dto.setDodgeRate(readInteger(reader));
+                break;
+            case "hitRate":
+                dto.setHitRate(readInteger(reader));
+                break;
+            case "hp":
+                dto.setHP(readInteger(reader));
+                break;
+            case "hpRecovery":
+                dto.setHPRecovery(readInteger(reader));
+                break;
+            case "magicDefense":
+                dto.setMagicDefense(readInteger(reader));
+                break;
+            case "moveSpeed":
+                dto.setMoveSpeed(readInteger(reader));
+                break;
+            case "mp":
+                dto.setMP(readInteger(reader));
+                break;
+            case "mpRecovery":
+                dto.setMPRecovery(readInteger(reader));
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return dto;
+    }
+
+    @Override
+    public Class<AttributesDTO> getEncoderClass() {
+        return AttributesDTO.class;
+    }
+}
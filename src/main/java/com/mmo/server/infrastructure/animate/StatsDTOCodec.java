@@ -0,0 +1,66 @@
+package com.mmo.server.infrastructure.animate;
+
+import static com.mmo.server.infrastructure.mongo.BsonCodecs.*;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class StatsDTOCodec implements Codec<StatsDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, StatsDTO value, EncoderContext context) {
+        writer.writeStartDocument();
+        writeInteger(writer, "charm", value.getCharm());
+        writeInteger(writer, "concentration", value.getConcentration());
+        writeInteger(writer, "dexterity", value.getDexterity());
+        writeInteger(writer, "intelligence", value.getIntelligence());
+        writeInteger(writer, "sense", value.getSense());
+        writeInteger(writer, "strength", value.getStrength());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public StatsDTO decode(BsonReader reader, DecoderContext context) {
+        StatsDTO dto = new StatsDTO();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+            case "charm":
+                dto.setCharm(readInteger(reader));
+                break;
+            case "concentration":
+                dto.setConcentration(readInteger(reader));
+                break;
+            case "dexterity":
+                dto.setDexterity(readInteger(reader));
+                break;
+            case "intelligence":
+                dto.setIntelligence(readInteger(reader));
+                break;
+            case "sense":
+                dto.setSense(readInteger(reader));
+                break;
+            case "strength":
+                dto.setStrength(readInteger(reader));
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return dto;
+    }
+
+    @Override
+    public Class<StatsDTO> getEncoderClass() {
+        return StatsDTO.class;
+    }
+}
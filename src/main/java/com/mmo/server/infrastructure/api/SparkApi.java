@@ -1,19 +1,42 @@
 package com.mmo.server.infrastructure.api;
 
+import java.util.concurrent.TimeUnit;
+
 import com.mmo.server.core.map.MapRepository;
 import com.mmo.server.core.player.PlayerRepository;
 import com.mmo.server.core.user.UserRepository;
-import com.mmo.server.infrastructure.map.MongoMapRepository;
-import com.mmo.server.infrastructure.player.MongoPlayerRepository;
+import com.mmo.server.infrastructure.config.ConfigProvider;
+import com.mmo.server.infrastructure.player.CachedPlayerRepository;
+import com.mmo.server.infrastructure.repository.RepositoryProvider;
+import com.mmo.server.infrastructure.repository.RepositoryProviders;
 import com.mmo.server.infrastructure.security.Authenticator;
-import com.mmo.server.infrastructure.user.MongoUserRepository;
+import com.mmo.server.infrastructure.user.CachedUserRepository;
 
 public class SparkApi {
 
+    private static final String CONFIG_REPOSITORY_CACHE_CAPACITY = "repository.cache.capacity";
+    private static final String CONFIG_REPOSITORY_CACHE_TIME_TO_LIVE_IN_SECONDS = "repository.cache.time.to.live.in.seconds";
+
     private SparkApi() {
-        UserRepository userRepository = new MongoUserRepository();
-        PlayerRepository playerRepository = new MongoPlayerRepository();
-        MapRepository mapRepository = new MongoMapRepository();
+        ConfigProvider configProvider = ConfigProvider.getInstance();
+        int cacheCapacity = configProvider.getInt(CONFIG_REPOSITORY_CACHE_CAPACITY);
+        long cacheTimeToLive = TimeUnit.SECONDS.toMillis(
+                configProvider.getLong(CONFIG_REPOSITORY_CACHE_TIME_TO_LIVE_IN_SECONDS));
+        RepositoryProvider repositoryProvider = RepositoryProviders.of(configProvider);
+
+        UserRepository userRepository = CachedUserRepository.builder()
+                .repository(repositoryProvider.getUserRepository())
+                .capacity(cacheCapacity)
+                .timeToLive(cacheTimeToLive)
+                .build();
+
+        PlayerRepository playerRepository = CachedPlayerRepository.builder()
+                .repository(repositoryProvider.getPlayerRepository())
+                .capacity(cacheCapacity)
+                .timeToLive(cacheTimeToLive)
+                .build();
+
+        MapRepository mapRepository = repositoryProvider.getMapRepository();
 
         Authenticator authenticator = Authenticator.builder()
                 .userRepository(userRepository)
@@ -0,0 +1,54 @@
+package com.mmo.server.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.ToString;
+
+/* shared by the caches of a repository, readable from any thread */
+@ToString
+public class CacheMetrics {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public double getHitRatio() {
+        long hits = this.hits.get();
+        long lookups = hits + misses.get();
+
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    void hit() {
+        hits.incrementAndGet();
+    }
+
+    void missed() {
+        misses.incrementAndGet();
+    }
+
+    void evicted() {
+        evictions.incrementAndGet();
+    }
+
+    void invalidated() {
+        invalidations.incrementAndGet();
+    }
+}
@@ -0,0 +1,134 @@
+package com.mmo.server.infrastructure.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.mmo.server.core.looper.LooperClock;
+import com.mmo.server.core.looper.SystemLooperClock;
+
+import lombok.Builder;
+
+/*
+ * A bounded read-through cache, the least recently read entry is evicted
+ * when it is full and an entry is only served for timeToLive after being
+ * loaded. Only values which were found are kept, a missing key is asked
+ * again every time.
+ * ---------------------------------
+ * loading happens outside the lock, a value loaded while any key was
+ * invalidated is returned but not kept, as it may be older than the write
+ * which caused the invalidation
+ */
+public class ExpiringCache<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final long DEFAULT_TIME_TO_LIVE_IN_MILLIS = 60000L;
+
+    private final int capacity;
+    private final long timeToLive;
+    private final LooperClock clock;
+    private final CacheMetrics metrics;
+    private final LinkedHashMap<K, Cached<V>> entries;
+    private long invalidations;
+
+    @Builder
+    private ExpiringCache(Integer capacity, Long timeToLive, LooperClock clock, CacheMetrics metrics) {
+        this.capacity = Objects.requireNonNullElse(capacity, DEFAULT_CAPACITY);
+        this.timeToLive = Objects.requireNonNullElse(timeToLive, DEFAULT_TIME_TO_LIVE_IN_MILLIS);
+        this.clock = Objects.requireNonNullElseGet(clock, SystemLooperClock::getInstance);
+        this.metrics = Objects.requireNonNullElseGet(metrics, CacheMetrics::new);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Cached<V>> eldest) {
+                if (size() <= ExpiringCache.this.capacity) {
+                    return false;
+                }
+
+                ExpiringCache.this.metrics.evicted();
+                return true;
+            }
+        };
+    }
+
+    public Optional<V> get(K key, Function<? super K, Optional<V>> loader) {
+        long generation;
+
+        synchronized (this) {
+            Cached<V> cached = entries.get(key);
+
+            if (Objects.nonNull(cached)) {
+                if (cached.expiresAt > clock.getTime()) {
+                    metrics.hit();
+                    return Optional.of(cached.value);
+                }
+
+                entries.remove(key);
+                metrics.evicted();
+            }
+
+            metrics.missed();
+            generation = invalidations;
+        }
+
+        Optional<V> value = loader.apply(key);
+
+        if (value.isPresent()) {
+            synchronized (this) {
+                if (generation == invalidations) {
+                    entries.put(key, new Cached<>(value.get(), clock.getTime() + timeToLive));
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /* the value kept for the key, without loading it nor counting a hit or a miss */
+    public synchronized Optional<V> peek(K key) {
+        Cached<V> cached = entries.get(key);
+
+        if (Objects.isNull(cached) || cached.expiresAt <= clock.getTime()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(cached.value);
+    }
+
+    /* returns the value which was kept, if any */
+    public synchronized Optional<V> invalidate(K key) {
+        invalidations++;
+        metrics.invalidated();
+
+        return Optional.ofNullable(entries.remove(key))
+                .map(cached -> cached.value);
+    }
+
+    public synchronized void clear() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    public CacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    private static class Cached<V> {
+
+        final V value;
+        final long expiresAt;
+
+        Cached(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
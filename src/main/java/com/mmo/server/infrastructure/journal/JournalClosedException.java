@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.journal;
+
+public class JournalClosedException extends JournalException {
+
+    private static final long serialVersionUID = -7703614850381532840L;
+
+    public JournalClosedException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
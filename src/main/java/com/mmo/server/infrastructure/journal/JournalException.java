@@ -0,0 +1,16 @@
+package com.mmo.server.infrastructure.journal;
+
+import com.mmo.server.core.exception.RuntimeException;
+
+public abstract class JournalException extends RuntimeException {
+
+    private static final long serialVersionUID = 6320584771094852961L;
+
+    public JournalException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+
+    public JournalException(Throwable throwable, String messageFormat, Object... arguments) {
+        super(throwable, messageFormat, arguments);
+    }
+}
@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.journal;
+
+public class JournalIOException extends JournalException {
+
+    private static final long serialVersionUID = -2951647102835519764L;
+
+    public JournalIOException(Throwable throwable, String messageFormat, Object... arguments) {
+        super(throwable, messageFormat, arguments);
+    }
+}
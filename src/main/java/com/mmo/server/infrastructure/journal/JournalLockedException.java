@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.journal;
+
+public class JournalLockedException extends JournalException {
+
+    private static final long serialVersionUID = 3518260447192735806L;
+
+    public JournalLockedException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.journal;
+
+public class JournalRecordTooLargeException extends JournalException {
+
+    private static final long serialVersionUID = 4418309276135027195L;
+
+    public JournalRecordTooLargeException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
@@ -0,0 +1,153 @@
+package com.mmo.server.infrastructure.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+ * A file of fixed size mapped in memory, holding records one after the
+ * other as their length, their CRC32 and their bytes. The file starts
+ * zeroed, so a zero length marks the end of the records, and so does a
+ * record whose checksum does not match, which is what a write cut by a
+ * crash leaves behind.
+ * ---------------------------------
+ * appending only copies into the mapping, the bytes reach the disk when
+ * the segment is forced
+ */
+@Getter
+@ToString(onlyExplicitlyIncluded = true)
+public class JournalSegment {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    @ToString.Include
+    private final long sequence;
+
+    @ToString.Include
+    private final Path path;
+
+    private final int capacity;
+
+    @Getter(AccessLevel.NONE)
+    private final MappedByteBuffer buffer;
+
+    @ToString.Include
+    private volatile int position;
+
+    @Getter(AccessLevel.NONE)
+    private int forced;
+
+    private JournalSegment(long sequence, Path path, int capacity, MappedByteBuffer buffer) {
+        this.sequence = sequence;
+        this.path = path;
+        this.capacity = capacity;
+        this.buffer = buffer;
+    }
+
+    /* an existing file keeps its size and its valid records, appending goes on after the last one */
+    public static JournalSegment open(Path path, long sequence, int capacity) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            int size = (int) Math.max(capacity, channel.size());
+            JournalSegment segment = new JournalSegment(sequence, path, size,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+
+            segment.recover();
+
+            return segment;
+        } catch (IOException exception) {
+            throw new JournalIOException(exception, "Failed to open journal segment %s", path);
+        }
+    }
+
+    public boolean isEmpty() {
+        return position == 0;
+    }
+
+    /* false when the record does not fit in what is left of the segment */
+    public synchronized boolean append(byte[] record) {
+        if (HEADER_SIZE + record.length > capacity - position) {
+            return false;
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(record);
+
+        buffer.putInt(position + Integer.BYTES, (int) checksum.getValue());
+        buffer.put(position + HEADER_SIZE, record);
+        buffer.putInt(position, record.length);
+
+        position += HEADER_SIZE + record.length;
+
+        return true;
+    }
+
+    /* writes to disk what was appended since the last time */
+    public synchronized void force() {
+        if (position > forced) {
+            buffer.force(forced, position - forced);
+            forced = position;
+        }
+    }
+
+    public void read(Consumer<ByteBuffer> reader) {
+        int offset = 0;
+
+        while (offset < position) {
+            int length = buffer.getInt(offset);
+
+            reader.accept(buffer.slice(offset + HEADER_SIZE, length).asReadOnlyBuffer());
+            offset += HEADER_SIZE + length;
+        }
+    }
+
+    public void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new JournalIOException(exception, "Failed to delete journal segment %s", path);
+        }
+    }
+
+    /* a torn record is zeroed along with everything after it, so it is not read again once appended over */
+    private void recover() {
+        int offset = 0;
+
+        while (offset <= capacity - HEADER_SIZE) {
+            int length = buffer.getInt(offset);
+
+            if (length <= 0 || length > capacity - offset - HEADER_SIZE) {
+                break;
+            }
+
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice(offset + HEADER_SIZE, length));
+
+            if ((int) checksum.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                break;
+            }
+
+            offset += HEADER_SIZE + length;
+        }
+
+        position = offset;
+        forced = offset;
+
+        if (offset <= capacity - Integer.BYTES && buffer.getInt(offset) != 0) {
+            for (int index = offset; index < capacity; index++) {
+                buffer.put(index, (byte) 0);
+            }
+        }
+    }
+}
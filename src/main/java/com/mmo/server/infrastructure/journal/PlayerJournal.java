@@ -0,0 +1,293 @@
+package com.mmo.server.infrastructure.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerRepository;
+import com.mmo.server.infrastructure.player.PlayerDTO;
+import com.mmo.server.infrastructure.player.PlayerStore;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/*
+ * Persists players by appending their state to a journal of segments
+ * mapped in memory instead of writing them to the repository. The journal
+ * is forced to disk every flushInterval, so all the records appended in
+ * between share a single write, and it is compacted every
+ * compactionInterval by writing the latest state of each journaled player
+ * to the repository, batchSize players per write, and deleting the
+ * segments it came from.
+ * ---------------------------------
+ * opening the journal replays the segments left behind, a player found in
+ * them is more recent than its document in the repository
+ * a failed compaction keeps its segments and is tried again on the next one
+ */
+public class PlayerJournal implements PlayerStore {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    private static final long DEFAULT_FLUSH_INTERVAL_IN_MILLIS = 10L;
+    private static final long DEFAULT_COMPACTION_INTERVAL_IN_MILLIS = 300000L;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(PlayerJournal.class);
+
+    private final Path directory;
+    private final PlayerRepository repository;
+    private final PlayerWriter writer;
+    private final int segmentSize;
+    private final int batchSize;
+    private final ConcurrentHashMap<UUID, PlayerDTO> journaled = new ConcurrentHashMap<>();
+    private final List<JournalSegment> segments = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private JournalSegment active;
+    private long appended;
+    private long durable;
+    private boolean closed;
+
+    @Builder
+    private PlayerJournal(
+            @NonNull Path directory,
+            @NonNull PlayerRepository repository,
+            @NonNull PlayerWriter writer,
+            Integer segmentSize,
+            Long flushInterval,
+            Long compactionInterval,
+            Integer batchSize) {
+
+        this.directory = directory;
+        this.repository = repository;
+        this.writer = writer;
+        this.segmentSize = Objects.requireNonNullElse(segmentSize, DEFAULT_SEGMENT_SIZE);
+        this.batchSize = Math.max(1, Objects.requireNonNullElse(batchSize, DEFAULT_BATCH_SIZE));
+
+        replay();
+
+        long flushDelay = Objects.requireNonNullElse(flushInterval, DEFAULT_FLUSH_INTERVAL_IN_MILLIS);
+        long compactionDelay = Objects.requireNonNullElse(compactionInterval, DEFAULT_COMPACTION_INTERVAL_IN_MILLIS);
+
+        scheduler.scheduleWithFixedDelay(this::flush, flushDelay, flushDelay, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::compactQuietly, compactionDelay, compactionDelay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<Player> find(UUID id) {
+        PlayerDTO journaledPlayer = journaled.get(id);
+
+        if (Objects.nonNull(journaledPlayer)) {
+            return Optional.of(journaledPlayer.toPlayer());
+        }
+
+        return repository.find(id);
+    }
+
+    @Override
+    public boolean existsPlayerOwnedBy(UUID playerId, UUID userId) {
+        PlayerDTO journaledPlayer = journaled.get(playerId);
+
+        if (Objects.nonNull(journaledPlayer)) {
+            return userId.equals(journaledPlayer.getUserId());
+        }
+
+        return repository.existsPlayerOwnedBy(playerId, userId);
+    }
+
+    /* returns once the state is in the mapping, it is on disk after the next flush */
+    @Override
+    public void persist(Player player) {
+        PlayerDTO snapshot = PlayerDTO.of(player);
+        byte[] record = PlayerRecordCodec.encode(snapshot);
+
+        synchronized (this) {
+            if (closed) {
+                throw new JournalClosedException("Player %s can not be journaled, the journal is closed", player.getId());
+            }
+
+            if (!active.append(record)) {
+                roll();
+
+                if (!active.append(record)) {
+                    throw new JournalRecordTooLargeException("Player %s takes %d bytes, more than a segment holds",
+                            player.getId(), record.length);
+                }
+            }
+
+            journaled.put(snapshot.getId(), snapshot);
+            appended++;
+        }
+    }
+
+    /* waits until everything persisted so far is on disk */
+    public synchronized void sync() throws InterruptedException {
+        long target = appended;
+
+        while (durable < target && !closed) {
+            wait();
+        }
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public int getJournaledCount() {
+        return journaled.size();
+    }
+
+    /*
+     * the players journaled so far are written to the repository, the
+     * segments sealed beforehand are deleted once they all are, and a
+     * player journaled again meanwhile stays journaled
+     * an active segment without records is kept rather than rolled
+     */
+    public void compact() {
+        List<JournalSegment> sealed;
+        List<PlayerDTO> snapshots;
+
+        synchronized (this) {
+            if (journaled.isEmpty() && segments.size() == 1) {
+                return;
+            }
+
+            if (!active.isEmpty()) {
+                roll();
+            }
+
+            sealed = new ArrayList<>(segments.subList(0, segments.size() - 1));
+            snapshots = new ArrayList<>(journaled.values());
+        }
+
+        for (int from = 0; from < snapshots.size(); from += batchSize) {
+            List<PlayerDTO> batch = new ArrayList<>(snapshots.subList(from, Math.min(from + batchSize, snapshots.size())));
+
+            writer.write(batch);
+            batch.forEach(snapshot -> journaled.remove(snapshot.getId(), snapshot));
+        }
+
+        synchronized (this) {
+            segments.removeAll(sealed);
+        }
+
+        sealed.forEach(JournalSegment::delete);
+
+        logger.info("Compacted {} players out of {} journal segments", snapshots.size(), sealed.size());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+
+        try {
+            if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+        compactQuietly();
+
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+    }
+
+    private void flush() {
+        List<JournalSegment> unforced;
+        long target;
+
+        synchronized (this) {
+            if (durable == appended) {
+                return;
+            }
+
+            unforced = new ArrayList<>(segments);
+            target = appended;
+        }
+
+        unforced.forEach(JournalSegment::force);
+
+        synchronized (this) {
+            durable = Math.max(durable, target);
+            notifyAll();
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (RuntimeException exception) {
+            logger.error("Failed to compact the journal, its segments are kept", exception);
+        }
+    }
+
+    /* the state of a player is the last record of it, segments are replayed in the order they were written */
+    private void replay() {
+        try {
+            Files.createDirectories(directory);
+
+            List<Path> paths;
+
+            try (Stream<Path> files = Files.list(directory)) {
+                paths = files
+                        .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+
+            for (Path path : paths) {
+                JournalSegment segment = JournalSegment.open(path, getSequence(path), segmentSize);
+                segment.read(buffer -> {
+                    PlayerDTO snapshot = PlayerRecordCodec.decode(buffer);
+                    journaled.put(snapshot.getId(), snapshot);
+                });
+                segments.add(segment);
+            }
+        } catch (IOException exception) {
+            throw new JournalIOException(exception, "Failed to replay journal %s", directory);
+        }
+
+        logger.info("Replayed {} players from {} journal segments", journaled.size(), segments.size());
+
+        long sequence = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).getSequence() + 1;
+        active = JournalSegment.open(getPath(sequence), sequence, segmentSize);
+        segments.add(active);
+    }
+
+    private void roll() {
+        long sequence = active.getSequence() + 1;
+        active = JournalSegment.open(getPath(sequence), sequence, segmentSize);
+        segments.add(active);
+    }
+
+    private Path getPath(long sequence) {
+        return directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX));
+    }
+
+    private static long getSequence(Path path) {
+        String name = path.getFileName().toString();
+
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
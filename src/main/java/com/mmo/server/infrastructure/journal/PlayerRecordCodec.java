@@ -0,0 +1,112 @@
+package com.mmo.server.infrastructure.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.mmo.server.infrastructure.animate.AttributesDTO;
+import com.mmo.server.infrastructure.animate.StatsDTO;
+import com.mmo.server.infrastructure.map.PositionDTO;
+import com.mmo.server.infrastructure.player.PlayerDTO;
+
+/* the state of a player as a journal record, fixed fields first and the name last */
+public final class PlayerRecordCodec {
+
+    private static final int FIXED_SIZE = Long.BYTES * 4 + Integer.BYTES * (2 + 6 + 13) + Integer.BYTES;
+
+    private PlayerRecordCodec() {
+
+    }
+
+    public static byte[] encode(PlayerDTO player) {
+        byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_SIZE + name.length);
+
+        putUUID(buffer, player.getId());
+        putUUID(buffer, player.getUserId());
+
+        PositionDTO position = player.getPosition();
+        buffer.putInt(position.getX());
+        buffer.putInt(position.getZ());
+
+        StatsDTO stats = player.getStats();
+        buffer.putInt(stats.getStrength());
+        buffer.putInt(stats.getDexterity());
+        buffer.putInt(stats.getIntelligence());
+        buffer.putInt(stats.getConcentration());
+        buffer.putInt(stats.getSense());
+        buffer.putInt(stats.getCharm());
+
+        AttributesDTO attributes = player.getAttributes();
+        buffer.putInt(attributes.getHP());
+        buffer.putInt(attributes.getMP());
+        buffer.putInt(attributes.getAttack());
+        buffer.putInt(attributes.getDefense());
+        buffer.putInt(attributes.getMagicDefense());
+        buffer.putInt(attributes.getHitRate());
+        buffer.putInt(attributes.getCritical());
+        buffer.putInt(attributes.getDodgeRate());
+        buffer.putInt(attributes.getAttackSpeed());
+        buffer.putInt(attributes.getMoveSpeed());
+        buffer.putInt(attributes.getHPRecovery());
+        buffer.putInt(attributes.getMPRecovery());
+        buffer.putInt(attributes.getAttackRange());
+
+        buffer.putInt(name.length);
+        buffer.put(name);
+
+        return buffer.array();
+    }
+
+    public static PlayerDTO decode(ByteBuffer buffer) {
+        PlayerDTO player = new PlayerDTO();
+        player.setId(getUUID(buffer));
+        player.setInstanceId(player.getId());
+        player.setUserId(getUUID(buffer));
+
+        PositionDTO position = new PositionDTO();
+        position.setX(buffer.getInt());
+        position.setZ(buffer.getInt());
+        player.setPosition(position);
+
+        StatsDTO stats = new StatsDTO();
+        stats.setStrength(buffer.getInt());
+        stats.setDexterity(buffer.getInt());
+        stats.setIntelligence(buffer.getInt());
+        stats.setConcentration(buffer.getInt());
+        stats.setSense(buffer.getInt());
+        stats.setCharm(buffer.getInt());
+        player.setStats(stats);
+
+        AttributesDTO attributes = new AttributesDTO();
+        attributes.setHP(buffer.getInt());
+        attributes.setMP(buffer.getInt());
+        attributes.setAttack(buffer.getInt());
+        attributes.setDefense(buffer.getInt());
+        attributes.setMagicDefense(buffer.getInt());
+        attributes.setHitRate(buffer.getInt());
+        attributes.setCritical(buffer.getInt());
+        attributes.setDodgeRate(buffer.getInt());
+        attributes.setAttackSpeed(buffer.getInt());
+        attributes.setMoveSpeed(buffer.getInt());
+        attributes.setHPRecovery(buffer.getInt());
+        attributes.setMPRecovery(buffer.getInt());
+        attributes.setAttackRange(buffer.getInt());
+        player.setAttributes(attributes);
+
+        byte[] name = new byte[buffer.getInt()];
+        buffer.get(name);
+        player.setName(new String(name, StandardCharsets.UTF_8));
+
+        return player;
+    }
+
+    private static void putUUID(ByteBuffer buffer, UUID value) {
+        buffer.putLong(value.getMostSignificantBits());
+        buffer.putLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID getUUID(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,35 @@
+package com.mmo.server.infrastructure.map;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.mmo.server.core.map.AsyncMapRepository;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.MapRepository;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+public class ExecutorMapRepository implements AsyncMapRepository {
+
+    private final MapRepository repository;
+    private final Executor executor;
+
+    @Builder
+    private ExecutorMapRepository(@NonNull MapRepository repository, @NonNull Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Map>> find(UUID id) {
+        return CompletableFuture.supplyAsync(() -> repository.find(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> persist(Map map) {
+        return CompletableFuture.runAsync(() -> repository.persist(map), executor);
+    }
+}
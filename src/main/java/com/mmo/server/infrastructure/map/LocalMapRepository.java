@@ -0,0 +1,34 @@
+package com.mmo.server.infrastructure.map;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.MapRepository;
+import com.mmo.server.infrastructure.repository.Store;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+public class LocalMapRepository implements MapRepository {
+
+    private final Store<MapDTO> store;
+
+    @Builder
+    private LocalMapRepository(@NonNull Store<MapDTO> store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<Map> find(UUID id) {
+        return store.find(id)
+                .map(MapDTO::toMap);
+    }
+
+    @Override
+    public void persist(Map map) {
+        MapDTO entity = MapDTO.of(map);
+
+        store.put(entity.getId(), entity);
+    }
+}
@@ -0,0 +1,50 @@
+package com.mmo.server.infrastructure.map;
+
+import static com.mmo.server.infrastructure.mongo.BsonCodecs.*;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class PositionDTOCodec implements Codec<PositionDTO> {
+
+    @Override
+    public void encode(BsonWriter writer, PositionDTO value, EncoderContext context) {
+        writer.writeStartDocument();
+        writeInteger(writer, "x", value.getX());
+        writeInteger(writer, "z", value.getZ());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public PositionDTO decode(BsonReader reader, DecoderContext context) {
+        PositionDTO dto = new PositionDTO();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+            case "x":
+                dto.setX(readInteger(reader));
+                break;
+            case "z":
+                dto.setZ(readInteger(reader));
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return dto;
+    }
+
+    @Override
+    public Class<PositionDTO> getEncoderClass() {
+        return PositionDTO.class;
+    }
+}
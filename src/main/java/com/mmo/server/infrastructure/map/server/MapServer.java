@@ -1,10 +1,12 @@
 package com.mmo.server.infrastructure.map.server;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -29,14 +31,22 @@ import com.mmo.server.core.packet.PlayerMovePacket;
 import com.mmo.server.core.packet.PlayerPersistPacket;
 import com.mmo.server.core.packet.PlayerUpdatePacket;
 import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerCheckpoint;
 import com.mmo.server.core.player.PlayerRepository;
 import com.mmo.server.core.user.UserRepository;
 import com.mmo.server.infrastructure.config.ConfigProvider;
+import com.mmo.server.infrastructure.journal.PlayerJournal;
 import com.mmo.server.infrastructure.packet.PlayerAttackPacketHandler;
 import com.mmo.server.infrastructure.packet.PlayerMovePacketHandler;
 import com.mmo.server.infrastructure.packet.PlayerPersistPacketHandler;
-import com.mmo.server.infrastructure.player.MongoPlayerRepository;
-import com.mmo.server.infrastructure.security.Authenticator;
+import com.mmo.server.infrastructure.player.CachedPlayerRepository;
+import com.mmo.server.infrastructure.player.ExecutorPlayerRepository;
+import com.mmo.server.infrastructure.player.PlayerStore;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+import com.mmo.server.infrastructure.player.WriteBehindPlayerRepository;
+import com.mmo.server.infrastructure.repository.RepositoryProvider;
+import com.mmo.server.infrastructure.repository.RepositoryProviders;
+import com.mmo.server.infrastructure.security.AsyncAuthenticator;
 import com.mmo.server.infrastructure.security.Decryptor;
 import com.mmo.server.infrastructure.security.Encryptor;
 import com.mmo.server.infrastructure.security.aes.AESDecryptor;
@@ -50,31 +60,52 @@ import com.mmo.server.infrastructure.server.packet.converter.PlayerAttackPacketC
 import com.mmo.server.infrastructure.server.packet.converter.PlayerMovePacketConverter;
 import com.mmo.server.infrastructure.server.packet.converter.PlayerUpdatePacketConverter;
 import com.mmo.server.infrastructure.setup.AdminSetupper;
-import com.mmo.server.infrastructure.user.MongoUserRepository;
+import com.mmo.server.infrastructure.user.CachedUserRepository;
+import com.mmo.server.infrastructure.user.ExecutorUserRepository;
 
 public final class MapServer {
 
     private static final String CONFIG_MAP_SERVER_HELLO_PACKET_WAITING_DELAY_IN_MINUTES = "map.server.hello.packet.waiting.delay.in.minutes";
     private static final String CONFIG_MAP_SERVER_PORT = "map.server.port";
     private static final String CONFIG_MAP_SERVER_CIPHER_KEY = "map.server.cipher.key";
+    private static final String CONFIG_MAP_SERVER_PLAYER_WRITER_CAPACITY = "map.server.player.writer.capacity";
+    private static final String CONFIG_MAP_SERVER_PLAYER_WRITER_THREADS = "map.server.player.writer.threads";
+    private static final String CONFIG_MAP_SERVER_PLAYER_WRITER_BATCH_SIZE = "map.server.player.writer.batch.size";
+    private static final String CONFIG_MAP_SERVER_PLAYER_CHECKPOINT_INTERVAL_IN_SECONDS = "map.server.player.checkpoint.interval.in.seconds";
+    private static final String CONFIG_MAP_SERVER_PLAYER_PERSISTENCE = "map.server.player.persistence";
+    private static final String CONFIG_MAP_SERVER_PLAYER_JOURNAL_DIRECTORY = "map.server.player.journal.directory";
+    private static final String CONFIG_MAP_SERVER_PLAYER_JOURNAL_SEGMENT_SIZE_IN_MEGABYTES = "map.server.player.journal.segment.size.in.megabytes";
+    private static final String CONFIG_MAP_SERVER_PLAYER_JOURNAL_FLUSH_INTERVAL_IN_MILLIS = "map.server.player.journal.flush.interval.in.millis";
+    private static final String CONFIG_MAP_SERVER_PLAYER_JOURNAL_COMPACTION_INTERVAL_IN_SECONDS = "map.server.player.journal.compaction.interval.in.seconds";
+    private static final String PLAYER_PERSISTENCE_JOURNAL = "journal";
+    private static final String CONFIG_REPOSITORY_CACHE_CAPACITY = "repository.cache.capacity";
+    private static final String CONFIG_REPOSITORY_CACHE_TIME_TO_LIVE_IN_SECONDS = "repository.cache.time.to.live.in.seconds";
+    private static final String CONFIG_REPOSITORY_ASYNC_THREADS = "repository.async.threads";
 
     private static final Logger logger = LoggerFactory.getLogger(MapServer.class);
 
     private final ConcurrentHashMap<Client, UUID> clients = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, Client> instanceIds = new ConcurrentHashMap<>();
+    private final Set<Client> handshakes = ConcurrentHashMap.newKeySet();
     private final ConfigProvider configProvider;
     private final Map map;
-    private final Authenticator authenticator;
+    private final AsyncAuthenticator authenticator;
     private final Game game;
     private final Server server;
+    private final RepositoryProvider repositoryProvider;
     private final UserRepository userRepository;
+    private final PlayerStore playerStore;
     private final PlayerRepository playerRepository;
+    private final ExecutorService repositoryPool;
     private final ScheduledExecutorService clientConfirmPool = Executors.newSingleThreadScheduledExecutor();
 
     public MapServer() {
         configProvider = ConfigProvider.getInstance();
-        userRepository = new MongoUserRepository();
-        playerRepository = new MongoPlayerRepository();
+        repositoryProvider = RepositoryProviders.of(configProvider);
+        userRepository = newUserRepository();
+        playerStore = newPlayerStore();
+        playerRepository = newPlayerRepository();
+        repositoryPool = Executors.newFixedThreadPool(configProvider.getInt(CONFIG_REPOSITORY_ASYNC_THREADS));
 
         logger.info("Initializing admin setup");
 
@@ -112,6 +143,9 @@ public final class MapServer {
     public void stop() {
         game.stop();
         server.stop();
+        repositoryPool.shutdown();
+        playerStore.close();
+        repositoryProvider.close();
     }
 
     private void setup() {
@@ -146,6 +180,10 @@ public final class MapServer {
                 .description("Located at the southern end, these plains were quiet and peaceful.")
                 .nearbyRatio(10)
                 .packetSubscribers(Set.of(this::persist, this::send))
+                .checkpoint(PlayerCheckpoint.builder()
+                        .interval(TimeUnit.SECONDS.toMillis(
+                                configProvider.getLong(CONFIG_MAP_SERVER_PLAYER_CHECKPOINT_INTERVAL_IN_SECONDS)))
+                        .build())
                 .terrain(Terrain.builder()
                         .heightMap(List.of(128.f, 128.f, 128.f, 129.f, 130.f, 131.f))
                         .forbiddenAreas(List.of(
@@ -185,10 +223,62 @@ public final class MapServer {
                 .build();
     }
 
-    private Authenticator newAuthenticator() {
-        return Authenticator.builder()
-                .userRepository(userRepository)
-                .playerRepository(playerRepository)
+    private UserRepository newUserRepository() {
+        return CachedUserRepository.builder()
+                .repository(repositoryProvider.getUserRepository())
+                .capacity(configProvider.getInt(CONFIG_REPOSITORY_CACHE_CAPACITY))
+                .timeToLive(TimeUnit.SECONDS.toMillis(
+                        configProvider.getLong(CONFIG_REPOSITORY_CACHE_TIME_TO_LIVE_IN_SECONDS)))
+                .build();
+    }
+
+    private PlayerRepository newPlayerRepository() {
+        return CachedPlayerRepository.builder()
+                .repository(playerStore)
+                .capacity(configProvider.getInt(CONFIG_REPOSITORY_CACHE_CAPACITY))
+                .timeToLive(TimeUnit.SECONDS.toMillis(
+                        configProvider.getLong(CONFIG_REPOSITORY_CACHE_TIME_TO_LIVE_IN_SECONDS)))
+                .build();
+    }
+
+    /* players are written behind to the repository unless they are journaled, the journal compacts into it itself */
+    private PlayerStore newPlayerStore() {
+        PlayerRepository repository = repositoryProvider.getPlayerRepository();
+        PlayerWriter writer = repositoryProvider.getPlayerWriter();
+
+        if (PLAYER_PERSISTENCE_JOURNAL.equals(configProvider.getString(CONFIG_MAP_SERVER_PLAYER_PERSISTENCE))) {
+            return PlayerJournal.builder()
+                    .directory(Path.of(configProvider.getString(CONFIG_MAP_SERVER_PLAYER_JOURNAL_DIRECTORY)))
+                    .repository(repository)
+                    .writer(writer)
+                    .segmentSize(configProvider.getInt(CONFIG_MAP_SERVER_PLAYER_JOURNAL_SEGMENT_SIZE_IN_MEGABYTES)
+                            * 1024 * 1024)
+                    .flushInterval(configProvider.getLong(CONFIG_MAP_SERVER_PLAYER_JOURNAL_FLUSH_INTERVAL_IN_MILLIS))
+                    .compactionInterval(TimeUnit.SECONDS.toMillis(
+                            configProvider.getLong(CONFIG_MAP_SERVER_PLAYER_JOURNAL_COMPACTION_INTERVAL_IN_SECONDS)))
+                    .batchSize(configProvider.getInt(CONFIG_MAP_SERVER_PLAYER_WRITER_BATCH_SIZE))
+                    .build();
+        }
+
+        return WriteBehindPlayerRepository.builder()
+                .repository(repository)
+                .writer(writer)
+                .capacity(configProvider.getInt(CONFIG_MAP_SERVER_PLAYER_WRITER_CAPACITY))
+                .writers(configProvider.getInt(CONFIG_MAP_SERVER_PLAYER_WRITER_THREADS))
+                .batchSize(configProvider.getInt(CONFIG_MAP_SERVER_PLAYER_WRITER_BATCH_SIZE))
+                .build();
+    }
+
+    private AsyncAuthenticator newAuthenticator() {
+        return AsyncAuthenticator.builder()
+                .userRepository(ExecutorUserRepository.builder()
+                        .repository(userRepository)
+                        .executor(repositoryPool)
+                        .build())
+                .playerRepository(ExecutorPlayerRepository.builder()
+                        .repository(playerRepository)
+                        .executor(repositoryPool)
+                        .build())
                 .build();
     }
 
@@ -214,15 +304,24 @@ public final class MapServer {
                 .isPresent();
     }
 
-    private synchronized void addClient(Client client, UUID instanceId) {
-        Player player = playerRepository.find(instanceId).orElseThrow();
+    /* the client only joins if it is still logging in, it may have disconnected meanwhile */
+    private synchronized boolean addClient(Client client, Player player) {
+        if (!handshakes.remove(client)) {
+            return false;
+        }
+
+        UUID instanceId = player.getInstanceId();
 
         clients.put(client, instanceId);
         instanceIds.put(instanceId, client);
         map.addEntity(player);
+
+        return true;
     }
 
     private synchronized void removeClient(Client client) {
+        handshakes.remove(client);
+
         if (isConnected(client)) {
             UUID instanceId = clients.remove(client);
             instanceIds.remove(instanceId);
@@ -233,6 +332,8 @@ public final class MapServer {
                     .source(instanceId)
                     .build());
 
+            /* a last persist so nothing since the previous checkpoint is lost */
+            map.findEntity(instanceId, Player.class).ifPresent(Player::checkpoint);
             map.removeEntity(instanceId);
         }
     }
@@ -257,31 +358,38 @@ public final class MapServer {
 
                 client.disconnect();
             } else {
-                PacketHandlerDelegator.getInstance().delegate(packet);
+                PacketHandlerDelegator.getInstance().enqueue(packet);
             }
+        } else if (handshakes.contains(client)) {
+            logger.info("Client is still logging in, ignoring packet {}", packet);
         } else {
             if (packet instanceof HelloPacket) {
                 HelloPacket helloPacket = (HelloPacket) packet;
 
-                boolean authenticated = authenticator.authenticate(
-                        helloPacket.getUserName(),
-                        helloPacket.getUserPassword(),
-                        helloPacket.getSource());
-
-                if (!authenticated) {
-                    logger.info("Client has not authenticated");
-
-                    client.disconnect();
+                if (!handshakes.add(client)) {
+                    logger.info("Client is already logging in, ignoring packet {}", packet);
+                    return;
                 }
 
-                addClient(client, packet.getSource());
-
-                logger.info("Client has sent HelloPacket, it is now connected");
-
-                send(PlayerUpdatePacket.builder()
-                        .source(helloPacket.getSource())
-                        .player(map.getEntity(helloPacket.getSource(), Player.class))
-                        .build());
+                authenticator.authenticate(
+                        helloPacket.getUserName(),
+                        helloPacket.getUserPassword(),
+                        helloPacket.getSource())
+                        .thenAccept(player -> player.ifPresentOrElse(
+                                value -> connect(client, value),
+                                () -> {
+                                    logger.info("Client has not authenticated");
+
+                                    handshakes.remove(client);
+                                    client.disconnect();
+                                }))
+                        .exceptionally(exception -> {
+                            logger.error("Client could not be authenticated, it will disconnect", exception);
+
+                            handshakes.remove(client);
+                            client.disconnect();
+                            return null;
+                        });
             } else {
                 logger.info("Client is not connected, forcing disconnect");
 
@@ -290,6 +398,20 @@ public final class MapServer {
         }
     }
 
+    private void connect(Client client, Player player) {
+        if (!addClient(client, player)) {
+            logger.info("Client has disconnected while logging in");
+            return;
+        }
+
+        logger.info("Client has sent HelloPacket, it is now connected");
+
+        send(PlayerUpdatePacket.builder()
+                .source(player.getInstanceId())
+                .player(player)
+                .build());
+    }
+
     private boolean isConnected(Client client) {
         return clients.containsKey(client);
     }
@@ -0,0 +1,127 @@
+package com.mmo.server.infrastructure.mongo;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.bson.BsonBinary;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.UuidCodec;
+import org.bson.codecs.UuidCodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.Conventions;
+import org.bson.codecs.pojo.PojoCodecProvider;
+
+import com.mmo.server.infrastructure.animate.AttributesDTOCodec;
+import com.mmo.server.infrastructure.animate.StatsDTOCodec;
+import com.mmo.server.infrastructure.map.PositionDTOCodec;
+import com.mmo.server.infrastructure.player.PlayerDTOCodec;
+import com.mongodb.MongoClientSettings;
+
+/*
+ * Field helpers for the hand written codecs, null fields are left out
+ * when writing and read back as null, like the automatic pojo codec does
+ * ---------------------------------
+ * the registry falls back to the automatic pojo codec for the documents
+ * without a hand written one, and writes UUIDs in the standard
+ * representation even without a client
+ */
+public final class BsonCodecs {
+
+    public static final CodecRegistry CODEC_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(
+                    new UuidCodec(UuidRepresentation.STANDARD),
+                    new PlayerDTOCodec(),
+                    new PositionDTOCodec(),
+                    new StatsDTOCodec(),
+                    new AttributesDTOCodec()),
+            MongoClientSettings.getDefaultCodecRegistry(),
+            CodecRegistries.fromProviders(PojoCodecProvider.builder()
+                    .automatic(true)
+                    .register(UuidCodecProvider.class)
+                    .conventions(List.of(Conventions.ANNOTATION_CONVENTION))
+                    .build()));
+
+    private BsonCodecs() {
+
+    }
+
+    public static void writeInteger(BsonWriter writer, String name, Integer value) {
+        if (Objects.nonNull(value)) {
+            writer.writeInt32(name, value);
+        }
+    }
+
+    public static void writeString(BsonWriter writer, String name, String value) {
+        if (Objects.nonNull(value)) {
+            writer.writeString(name, value);
+        }
+    }
+
+    public static void writeUUID(BsonWriter writer, String name, UUID value) {
+        if (Objects.nonNull(value)) {
+            writer.writeBinaryData(name, new BsonBinary(value, UuidRepresentation.STANDARD));
+        }
+    }
+
+    public static <T> void writeDocument(
+            BsonWriter writer,
+            String name,
+            T value,
+            Codec<T> codec,
+            EncoderContext context) {
+
+        if (Objects.nonNull(value)) {
+            writer.writeName(name);
+            context.encodeWithChildContext(codec, writer, value);
+        }
+    }
+
+    public static Integer readInteger(BsonReader reader) {
+        if (isNull(reader)) {
+            return null;
+        }
+
+        return reader.readInt32();
+    }
+
+    public static String readString(BsonReader reader) {
+        if (isNull(reader)) {
+            return null;
+        }
+
+        return reader.readString();
+    }
+
+    public static UUID readUUID(BsonReader reader) {
+        if (isNull(reader)) {
+            return null;
+        }
+
+        return reader.readBinaryData().asUuid();
+    }
+
+    public static <T> T readDocument(BsonReader reader, Codec<T> codec, DecoderContext context) {
+        if (isNull(reader)) {
+            return null;
+        }
+
+        return context.decodeWithChildContext(codec, reader);
+    }
+
+    private static boolean isNull(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.NULL) {
+            return false;
+        }
+
+        reader.readNull();
+        return true;
+    }
+}
@@ -4,11 +4,6 @@ import java.util.List;
 import java.util.Objects;
 
 import org.bson.UuidRepresentation;
-import org.bson.codecs.UuidCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.codecs.pojo.Conventions;
-import org.bson.codecs.pojo.PojoCodecProvider;
 
 import com.mmo.server.infrastructure.config.ConfigProvider;
 import com.mongodb.ConnectionString;
@@ -17,6 +12,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -47,17 +43,9 @@ public class MongoFactory {
 
         String connectionUri = configProvider.getString(CONFIG_MONGO_FACTORY_CONNECTION_URI);
 
-        CodecRegistry codecRegistry = CodecRegistries.fromRegistries(
-                MongoClientSettings.getDefaultCodecRegistry(),
-                CodecRegistries.fromProviders(PojoCodecProvider.builder()
-                        .automatic(true)
-                        .register(UuidCodecProvider.class)
-                        .conventions(List.of(Conventions.ANNOTATION_CONVENTION))
-                        .build()));
-
         client = MongoClients.create(MongoClientSettings.builder()
                 .uuidRepresentation(UuidRepresentation.STANDARD)
-                .codecRegistry(codecRegistry)
+                .codecRegistry(BsonCodecs.CODEC_REGISTRY)
                 .applyConnectionString(new ConnectionString(connectionUri))
                 .build());
 
@@ -67,4 +55,15 @@ public class MongoFactory {
     public <T> MongoCollection<T> getCollection(String name, Class<T> type) {
         return database.getCollection(name, type);
     }
+
+    /* creating an index which already exists does nothing, so repositories ask for theirs on every startup */
+    public <T> MongoCollection<T> getCollection(String name, Class<T> type, List<IndexModel> indexes) {
+        MongoCollection<T> collection = getCollection(name, type);
+
+        if (!indexes.isEmpty()) {
+            collection.createIndexes(indexes);
+        }
+
+        return collection;
+    }
 }
@@ -0,0 +1,62 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.mmo.server.core.looper.LooperClock;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerRepository;
+import com.mmo.server.infrastructure.cache.CacheMetrics;
+import com.mmo.server.infrastructure.cache.ExpiringCache;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/*
+ * Players are mutable and end up living in a map, so snapshots are cached
+ * and every find builds a player of its own
+ */
+public class CachedPlayerRepository implements PlayerRepository {
+
+    private final PlayerRepository repository;
+    private final ExpiringCache<UUID, PlayerDTO> cache;
+
+    @Builder
+    private CachedPlayerRepository(
+            @NonNull PlayerRepository repository,
+            Integer capacity,
+            Long timeToLive,
+            LooperClock clock) {
+
+        this.repository = repository;
+        this.cache = ExpiringCache.<UUID, PlayerDTO>builder()
+                .capacity(capacity)
+                .timeToLive(timeToLive)
+                .clock(clock)
+                .build();
+    }
+
+    @Override
+    public Optional<Player> find(UUID id) {
+        return cache.get(id, key -> repository.find(key).map(PlayerDTO::of))
+                .map(PlayerDTO::toPlayer);
+    }
+
+    /* a cached snapshot answers it, otherwise it is cheap enough to not be cached itself */
+    @Override
+    public boolean existsPlayerOwnedBy(UUID playerId, UUID userId) {
+        return cache.peek(playerId)
+                .map(snapshot -> userId.equals(snapshot.getUserId()))
+                .orElseGet(() -> repository.existsPlayerOwnedBy(playerId, userId));
+    }
+
+    @Override
+    public void persist(Player player) {
+        repository.persist(player);
+        cache.invalidate(player.getId());
+    }
+
+    public CacheMetrics getMetrics() {
+        return cache.getMetrics();
+    }
+}
@@ -0,0 +1,41 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.mmo.server.core.player.AsyncPlayerRepository;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerRepository;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/* runs a blocking repository on the executor, so only its threads wait on the database */
+public class ExecutorPlayerRepository implements AsyncPlayerRepository {
+
+    private final PlayerRepository repository;
+    private final Executor executor;
+
+    @Builder
+    private ExecutorPlayerRepository(@NonNull PlayerRepository repository, @NonNull Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Player>> find(UUID id) {
+        return CompletableFuture.supplyAsync(() -> repository.find(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsPlayerOwnedBy(UUID playerId, UUID userId) {
+        return CompletableFuture.supplyAsync(() -> repository.existsPlayerOwnedBy(playerId, userId), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> persist(Player player) {
+        return CompletableFuture.runAsync(() -> repository.persist(player), executor);
+    }
+}
@@ -0,0 +1,46 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerRepository;
+import com.mmo.server.infrastructure.repository.Store;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/* keeps player snapshots in a store of this process, a found player is a fresh copy of its snapshot */
+public class LocalPlayerRepository implements PlayerRepository, PlayerWriter {
+
+    private final Store<PlayerDTO> store;
+
+    @Builder
+    private LocalPlayerRepository(@NonNull Store<PlayerDTO> store) {
+        this.store = store;
+    }
+
+    @Override
+    public Optional<Player> find(UUID id) {
+        return store.find(id)
+                .map(PlayerDTO::toPlayer);
+    }
+
+    @Override
+    public boolean existsPlayerOwnedBy(UUID playerId, UUID userId) {
+        return store.find(playerId)
+                .filter(entity -> userId.equals(entity.getUserId()))
+                .isPresent();
+    }
+
+    @Override
+    public void persist(Player player) {
+        write(List.of(PlayerDTO.of(player)));
+    }
+
+    @Override
+    public void write(List<PlayerDTO> entities) {
+        entities.forEach(entity -> store.put(entity.getId(), entity));
+    }
+}
@@ -1,21 +1,66 @@
 package com.mmo.server.infrastructure.player;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.bson.conversions.Bson;
+
 import com.mmo.server.core.player.Player;
 import com.mmo.server.core.player.PlayerRepository;
 import com.mmo.server.infrastructure.mongo.MongoFactory;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+
+/*
+ * Remembers the last snapshot written of each player, so the next write only
+ * sets the fields that changed since then instead of replacing the whole
+ * document, and skips the player when nothing changed at all.
+ * ---------------------------------
+ * a player it does not remember is replaced, and a failed write makes it
+ * forget the players involved, so a document it is not sure about is never
+ * partially updated
+ * a document removed behind its back is upserted by the update, and then
+ * replaced as a whole so it does not stay with the changed fields only
+ */
+public class MongoPlayerRepository implements PlayerRepository, PlayerWriter {
 
-public class MongoPlayerRepository implements PlayerRepository {
+    private static final int WRITTEN_CAPACITY = 10000;
+    private static final Bson USER_ID_INDEX = Indexes.ascending("userId", "_id");
 
     private final MongoCollection<PlayerDTO> collection;
+    private final Map<UUID, PlayerDTO> written = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, PlayerDTO> eldest) {
+                    return size() > WRITTEN_CAPACITY;
+                }
+            });
 
     public MongoPlayerRepository() {
-        collection = MongoFactory.getInstance().getCollection("Player", PlayerDTO.class);
+        collection = MongoFactory.getInstance().getCollection("Player", PlayerDTO.class, List.of(
+                new IndexModel(USER_ID_INDEX, new IndexOptions().name("userId"))));
     }
 
     @Override
@@ -26,12 +71,80 @@ public class MongoPlayerRepository implements PlayerRepository {
                 .map(PlayerDTO::toPlayer);
     }
 
+    /* both fields live in the userId index, so it is answered without reading the document */
+    @Override
+    public boolean existsPlayerOwnedBy(UUID playerId, UUID userId) {
+        PlayerDTO entity = collection.find(Filters.and(Filters.eq("userId", userId), Filters.eq("_id", playerId)))
+                .projection(Projections.include("_id"))
+                .hint(USER_ID_INDEX)
+                .first();
+
+        return Objects.nonNull(entity);
+    }
+
     @Override
     public void persist(Player player) {
-        PlayerDTO entity = PlayerDTO.of(player);
+        write(List.of(PlayerDTO.of(player)));
+    }
+
+    /* a single unordered round trip for the whole batch */
+    @Override
+    public void write(List<PlayerDTO> entities) {
+        List<WriteModel<PlayerDTO>> models = new ArrayList<>();
+        List<PlayerDTO> changed = new ArrayList<>();
+
+        for (PlayerDTO entity : entities) {
+            WriteModel<PlayerDTO> model = toModel(entity);
+
+            if (Objects.nonNull(model)) {
+                models.add(model);
+                changed.add(entity);
+            }
+        }
+
+        if (models.isEmpty()) {
+            return;
+        }
+
+        try {
+            BulkWriteResult result = collection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+            List<WriteModel<PlayerDTO>> missing = new ArrayList<>();
+
+            for (BulkWriteUpsert upsert : result.getUpserts()) {
+                if (models.get(upsert.getIndex()) instanceof UpdateOneModel) {
+                    missing.add(toReplaceModel(changed.get(upsert.getIndex())));
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                collection.bulkWrite(missing, new BulkWriteOptions().ordered(false));
+            }
+        } catch (RuntimeException exception) {
+            changed.forEach(entity -> written.remove(entity.getId()));
+            throw exception;
+        }
+
+        changed.forEach(entity -> written.put(entity.getId(), entity));
+    }
+
+    private WriteModel<PlayerDTO> toModel(PlayerDTO entity) {
+        PlayerDTO previous = written.get(entity.getId());
+
+        if (Objects.isNull(previous)) {
+            return toReplaceModel(entity);
+        }
+
+        List<Bson> updates = PlayerUpdates.of(previous, entity);
+
+        if (updates.isEmpty()) {
+            return null;
+        }
+
+        return new UpdateOneModel<>(Filters.eq("_id", entity.getId()), Updates.combine(updates),
+                new UpdateOptions().upsert(true));
+    }
 
-        collection.replaceOne(
-                Filters.eq("_id", entity.getId()),
-                entity, new ReplaceOptions().upsert(true));
+    private WriteModel<PlayerDTO> toReplaceModel(PlayerDTO entity) {
+        return new ReplaceOneModel<>(Filters.eq("_id", entity.getId()), entity, new ReplaceOptions().upsert(true));
     }
 }
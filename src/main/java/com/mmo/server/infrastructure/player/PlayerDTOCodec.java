@@ -0,0 +1,83 @@
+package com.mmo.server.infrastructure.player;
+
+import static com.mmo.server.infrastructure.mongo.BsonCodecs.*;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import com.mmo.server.infrastructure.animate.AttributesDTOCodec;
+import com.mmo.server.infrastructure.animate.StatsDTOCodec;
+import com.mmo.server.infrastructure.map.PositionDTOCodec;
+
+/*
+ * Writes the same document the automatic pojo codec does, field by field
+ * in the same order but straight to the writer instead of through property
+ * models, so either one reads what the other wrote
+ */
+public class PlayerDTOCodec implements Codec<PlayerDTO> {
+
+    private final PositionDTOCodec positionCodec = new PositionDTOCodec();
+    private final StatsDTOCodec statsCodec = new StatsDTOCodec();
+    private final AttributesDTOCodec attributesCodec = new AttributesDTOCodec();
+
+    @Override
+    public void encode(BsonWriter writer, PlayerDTO value, EncoderContext context) {
+        writer.writeStartDocument();
+        writeDocument(writer, "attributes", value.getAttributes(), attributesCodec, context);
+        writeUUID(writer, "id", value.getId());
+        writeUUID(writer, "instanceId", value.getInstanceId());
+        writeString(writer, "name", value.getName());
+        writeDocument(writer, "position", value.getPosition(), positionCodec, context);
+        writeDocument(writer, "stats", value.getStats(), statsCodec, context);
+        writeUUID(writer, "userId", value.getUserId());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public PlayerDTO decode(BsonReader reader, DecoderContext context) {
+        PlayerDTO dto = new PlayerDTO();
+
+        reader.readStartDocument();
+
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+            case "attributes":
+                dto.setAttributes(readDocument(reader, attributesCodec, context));
+                break;
+            case "id":
+                dto.setId(readUUID(reader));
+                break;
+            case "instanceId":
+                dto.setInstanceId(readUUID(reader));
+                break;
+            case "name":
+                dto.setName(readString(reader));
+                break;
+            case "position":
+                dto.setPosition(readDocument(reader, positionCodec, context));
+                break;
+            case "stats":
+                dto.setStats(readDocument(reader, statsCodec, context));
+                break;
+            case "userId":
+                dto.setUserId(readUUID(reader));
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+
+        reader.readEndDocument();
+
+        return dto;
+    }
+
+    @Override
+    public Class<PlayerDTO> getEncoderClass() {
+        return PlayerDTO.class;
+    }
+}
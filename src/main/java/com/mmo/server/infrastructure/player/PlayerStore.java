@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.player;
+
+import com.mmo.server.core.player.PlayerRepository;
+
+/* a repository keeping players on its own, closing it waits until every persisted player is kept */
+public interface PlayerStore extends PlayerRepository, AutoCloseable {
+
+    @Override
+    void close();
+}
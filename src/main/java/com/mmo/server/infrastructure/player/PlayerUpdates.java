@@ -0,0 +1,68 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.bson.conversions.Bson;
+
+import com.mmo.server.infrastructure.animate.AttributesDTO;
+import com.mmo.server.infrastructure.animate.StatsDTO;
+import com.mmo.server.infrastructure.map.PositionDTO;
+import com.mongodb.client.model.Updates;
+
+public final class PlayerUpdates {
+
+    private PlayerUpdates() {
+
+    }
+
+    /* one $set per document field that differs between the snapshots, none when nothing changed */
+    public static List<Bson> of(PlayerDTO previous, PlayerDTO current) {
+        List<Bson> updates = new ArrayList<>();
+
+        set(updates, "userId", previous.getUserId(), current.getUserId());
+        set(updates, "name", previous.getName(), current.getName());
+
+        PositionDTO previousPosition = previous.getPosition();
+        PositionDTO position = current.getPosition();
+
+        set(updates, "position.x", previousPosition.getX(), position.getX());
+        set(updates, "position.z", previousPosition.getZ(), position.getZ());
+
+        StatsDTO previousStats = previous.getStats();
+        StatsDTO stats = current.getStats();
+
+        set(updates, "stats.strength", previousStats.getStrength(), stats.getStrength());
+        set(updates, "stats.dexterity", previousStats.getDexterity(), stats.getDexterity());
+        set(updates, "stats.intelligence", previousStats.getIntelligence(), stats.getIntelligence());
+        set(updates, "stats.concentration", previousStats.getConcentration(), stats.getConcentration());
+        set(updates, "stats.sense", previousStats.getSense(), stats.getSense());
+        set(updates, "stats.charm", previousStats.getCharm(), stats.getCharm());
+
+        AttributesDTO previousAttributes = previous.getAttributes();
+        AttributesDTO attributes = current.getAttributes();
+
+        set(updates, "attributes.hp", previousAttributes.getHP(), attributes.getHP());
+        set(updates, "attributes.mp", previousAttributes.getMP(), attributes.getMP());
+        set(updates, "attributes.attack", previousAttributes.getAttack(), attributes.getAttack());
+        set(updates, "attributes.defense", previousAttributes.getDefense(), attributes.getDefense());
+        set(updates, "attributes.magicDefense", previousAttributes.getMagicDefense(), attributes.getMagicDefense());
+        set(updates, "attributes.hitRate", previousAttributes.getHitRate(), attributes.getHitRate());
+        set(updates, "attributes.critical", previousAttributes.getCritical(), attributes.getCritical());
+        set(updates, "attributes.dodgeRate", previousAttributes.getDodgeRate(), attributes.getDodgeRate());
+        set(updates, "attributes.attackSpeed", previousAttributes.getAttackSpeed(), attributes.getAttackSpeed());
+        set(updates, "attributes.moveSpeed", previousAttributes.getMoveSpeed(), attributes.getMoveSpeed());
+        set(updates, "attributes.hpRecovery", previousAttributes.getHPRecovery(), attributes.getHPRecovery());
+        set(updates, "attributes.mpRecovery", previousAttributes.getMPRecovery(), attributes.getMPRecovery());
+        set(updates, "attributes.attackRange", previousAttributes.getAttackRange(), attributes.getAttackRange());
+
+        return updates;
+    }
+
+    private static void set(List<Bson> updates, String field, Object previous, Object current) {
+        if (!Objects.equals(previous, current)) {
+            updates.add(Updates.set(field, current));
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface PlayerWriter {
+
+    void write(List<PlayerDTO> players);
+}
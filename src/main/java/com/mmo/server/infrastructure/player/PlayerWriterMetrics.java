@@ -0,0 +1,90 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.ToString;
+
+/*
+ * Written by the writer threads, readable from any thread, latencies are
+ * kept in millis
+ */
+@ToString
+public class PlayerWriterMetrics {
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private final AtomicLong players = new AtomicLong();
+    private final AtomicLong latency = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastLatency;
+
+    PlayerWriterMetrics() {
+
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    /* saves which found their writer queue full and were left for the writer to sweep */
+    public long getOverflows() {
+        return overflows.get();
+    }
+
+    public long getPlayers() {
+        return players.get();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        long count = batches.get();
+
+        return count == 0 ? 0 : (double) players.get() / count;
+    }
+
+    public long getLastLatency() {
+        return lastLatency;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    public double getAverageLatency() {
+        long count = batches.get();
+
+        return count == 0 ? 0 : (double) latency.get() / count;
+    }
+
+    void written(int size, long latency) {
+        this.players.addAndGet(size);
+        this.latency.addAndGet(latency);
+        this.maxBatchSize.accumulateAndGet(size, Math::max);
+        this.maxLatency.accumulateAndGet(latency, Math::max);
+        this.lastBatchSize = size;
+        this.lastLatency = latency;
+        this.batches.incrementAndGet();
+    }
+
+    void failed() {
+        failedBatches.incrementAndGet();
+    }
+
+    void overflowed() {
+        overflows.incrementAndGet();
+    }
+}
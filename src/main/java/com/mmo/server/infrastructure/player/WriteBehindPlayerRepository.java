@@ -0,0 +1,288 @@
+package com.mmo.server.infrastructure.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerRepository;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/*
+ * Persists players off the calling thread. The snapshot is taken when
+ * persist is called, and only the latest snapshot of each player waits to
+ * be written, so a player saved many times before its turn is written once.
+ * Players are spread over the writers by id, every writer drains its own
+ * bounded queue in batches, and a player always goes through the same
+ * writer so its snapshots land in order.
+ * ---------------------------------
+ * when the queue of a writer is full the snapshot stays pending and the
+ * writer is told to sweep pending for its players, so the caller never
+ * waits on the writer nor does any I/O, and nothing is lost
+ * a failed batch is queued again unless a newer snapshot arrived meanwhile
+ * a snapshot being written stays readable until its write succeeds, so a
+ * find meanwhile never reads the previous document from the repository
+ */
+public class WriteBehindPlayerRepository implements PlayerStore {
+
+    private static final int DEFAULT_CAPACITY = 10000;
+    private static final int DEFAULT_WRITERS = 2;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final long DEFAULT_RETRY_DELAY_IN_MILLIS = 1000L;
+    private static final long POLL_TIMEOUT_IN_MILLIS = 100L;
+    private static final long CLOSE_TIMEOUT_IN_SECONDS = 30L;
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindPlayerRepository.class);
+
+    private final PlayerRepository repository;
+    private final PlayerWriter writer;
+    private final int batchSize;
+    private final long retryDelay;
+    private final ConcurrentHashMap<UUID, PlayerDTO> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, PlayerDTO> writing = new ConcurrentHashMap<>();
+    private final List<Partition> partitions = new ArrayList<>();
+    private final ExecutorService pool;
+    private final PlayerWriterMetrics metrics = new PlayerWriterMetrics();
+    private volatile boolean closed;
+
+    @Builder
+    private WriteBehindPlayerRepository(
+            @NonNull PlayerRepository repository,
+            @NonNull PlayerWriter writer,
+            Integer capacity,
+            Integer writers,
+            Integer batchSize,
+            Long retryDelay) {
+
+        this.repository = repository;
+        this.writer = writer;
+        this.batchSize = Objects.requireNonNullElse(batchSize, DEFAULT_BATCH_SIZE);
+        this.retryDelay = Objects.requireNonNullElse(retryDelay, DEFAULT_RETRY_DELAY_IN_MILLIS);
+
+        int partitionCount = Objects.requireNonNullElse(writers, DEFAULT_WRITERS);
+        int partitionCapacity = Math.max(1, Objects.requireNonNullElse(capacity, DEFAULT_CAPACITY) / partitionCount);
+
+        pool = Executors.newFixedThreadPool(partitionCount);
+
+        for (int index = 0; index < partitionCount; index++) {
+            Partition partition = new Partition(partitionCapacity);
+            partitions.add(partition);
+            pool.execute(partition);
+        }
+    }
+
+    /* a player still waiting to be written, or being written, is read from its snapshot */
+    @Override
+    public Optional<Player> find(UUID id) {
+        PlayerDTO snapshot = getSnapshot(id);
+
+        if (Objects.nonNull(snapshot)) {
+            return Optional.of(snapshot.toPlayer());
+        }
+
+        return repository.find(id);
+    }
+
+    @Override
+    public boolean existsPlayerOwnedBy(UUID playerId, UUID userId) {
+        PlayerDTO snapshot = getSnapshot(playerId);
+
+        if (Objects.nonNull(snapshot)) {
+            return userId.equals(snapshot.getUserId());
+        }
+
+        return repository.existsPlayerOwnedBy(playerId, userId);
+    }
+
+    @Override
+    public void persist(Player player) {
+        PlayerDTO snapshot = PlayerDTO.of(player);
+        UUID id = snapshot.getId();
+
+        if (Objects.nonNull(pending.put(id, snapshot))) {
+            return;
+        }
+
+        if (closed) {
+            logger.error("Player {} is kept pending, the repository is closed", id);
+            return;
+        }
+
+        Partition partition = getPartition(id);
+
+        if (!partition.queue.offer(id)) {
+            logger.warn("Player {} is left pending for its writer to sweep, its queue is full", id);
+            metrics.overflowed();
+            partition.overflowed = true;
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public PlayerWriterMetrics getMetrics() {
+        return metrics;
+    }
+
+    /* waits for the queued players to be written */
+    @Override
+    public void close() {
+        closed = true;
+        pool.shutdown();
+
+        try {
+            if (!pool.awaitTermination(CLOSE_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+                logger.error("Closed with {} players not written", pending.size());
+            }
+        } catch (InterruptedException exception) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* pending first, a snapshot is only written once it is out of pending */
+    private PlayerDTO getSnapshot(UUID id) {
+        PlayerDTO snapshot = pending.get(id);
+
+        if (Objects.nonNull(snapshot)) {
+            return snapshot;
+        }
+
+        return writing.get(id);
+    }
+
+    private Partition getPartition(UUID id) {
+        return partitions.get(Math.floorMod(id.hashCode(), partitions.size()));
+    }
+
+    private class Partition implements Runnable {
+
+        final BlockingQueue<UUID> queue;
+        final List<UUID> ids = new ArrayList<>();
+        final List<PlayerDTO> batch = new ArrayList<>();
+        volatile boolean overflowed;
+
+        Partition(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed || !queue.isEmpty() || overflowed) {
+                    if (overflowed) {
+                        overflowed = false;
+
+                        if (!sweep()) {
+                            overflowed = true;
+                            Thread.sleep(retryDelay);
+                        }
+
+                        continue;
+                    }
+
+                    UUID id = queue.poll(POLL_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+
+                    if (Objects.isNull(id)) {
+                        continue;
+                    }
+
+                    ids.add(id);
+                    queue.drainTo(ids, batchSize - 1);
+
+                    if (!flush()) {
+                        Thread.sleep(retryDelay);
+                    }
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /*
+         * writes every pending player of this writer, whether it is queued or
+         * not, a queued one is then skipped as it is no longer pending
+         */
+        boolean sweep() {
+            for (UUID id : pending.keySet()) {
+                if (getPartition(id) != this) {
+                    continue;
+                }
+
+                ids.add(id);
+
+                if (ids.size() == batchSize && !flush()) {
+                    return false;
+                }
+            }
+
+            return flush();
+        }
+
+        boolean flush() {
+            boolean written = write(ids);
+            ids.clear();
+
+            return written;
+        }
+
+        /* only this writer takes its players out of pending, so a later snapshot can not be written first */
+        boolean write(List<UUID> ids) {
+            batch.clear();
+
+            /* moved atomically, a snapshot persisted meanwhile stays pending and queued */
+            for (UUID id : ids) {
+                pending.computeIfPresent(id, (key, snapshot) -> {
+                    writing.put(key, snapshot);
+                    batch.add(snapshot);
+                    return null;
+                });
+            }
+
+            if (batch.isEmpty()) {
+                return true;
+            }
+
+            long start = System.currentTimeMillis();
+
+            try {
+                writer.write(batch);
+                metrics.written(batch.size(), System.currentTimeMillis() - start);
+                batch.forEach(snapshot -> writing.remove(snapshot.getId(), snapshot));
+                return true;
+            } catch (RuntimeException exception) {
+                metrics.failed();
+                logger.error("Failed to write {} players, they will be retried", batch.size(), exception);
+                requeue();
+                return false;
+            }
+        }
+
+        private void requeue() {
+            for (PlayerDTO snapshot : batch) {
+                UUID id = snapshot.getId();
+
+                if (Objects.isNull(pending.putIfAbsent(id, snapshot)) && !queue.offer(id)) {
+                    overflowed = true;
+                }
+
+                writing.remove(id, snapshot);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mmo.server.infrastructure.repository;
+
+import java.nio.file.Path;
+
+import com.mmo.server.infrastructure.map.LocalMapRepository;
+import com.mmo.server.infrastructure.map.MapDTO;
+import com.mmo.server.infrastructure.mongo.BsonCodecs;
+import com.mmo.server.infrastructure.player.LocalPlayerRepository;
+import com.mmo.server.infrastructure.player.PlayerDTO;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+import com.mmo.server.infrastructure.user.LocalUserRepository;
+import com.mmo.server.infrastructure.user.UserDTO;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+/*
+ * Keeps each collection in a store of its own under the directory, as the
+ * same BSON documents the Mongo collections hold, for a single node that
+ * starts without any database
+ */
+@Getter
+public class FileRepositoryProvider implements RepositoryProvider {
+
+    @Getter(AccessLevel.NONE)
+    private final FileStore<UserDTO> userStore;
+
+    @Getter(AccessLevel.NONE)
+    private final FileStore<PlayerDTO> playerStore;
+
+    @Getter(AccessLevel.NONE)
+    private final FileStore<MapDTO> mapStore;
+
+    private final LocalUserRepository userRepository;
+    private final LocalPlayerRepository playerRepository;
+    private final LocalMapRepository mapRepository;
+
+    @Builder
+    private FileRepositoryProvider(@NonNull Path directory, Integer segmentSize) {
+        userStore = FileStore.<UserDTO>builder()
+                .directory(directory.resolve("User"))
+                .codec(BsonCodecs.CODEC_REGISTRY.get(UserDTO.class))
+                .segmentSize(segmentSize)
+                .build();
+
+        playerStore = FileStore.<PlayerDTO>builder()
+                .directory(directory.resolve("Player"))
+                .codec(BsonCodecs.CODEC_REGISTRY.get(PlayerDTO.class))
+                .segmentSize(segmentSize)
+                .build();
+
+        mapStore = FileStore.<MapDTO>builder()
+                .directory(directory.resolve("Map"))
+                .codec(BsonCodecs.CODEC_REGISTRY.get(MapDTO.class))
+                .segmentSize(segmentSize)
+                .build();
+
+        userRepository = LocalUserRepository.builder()
+                .store(userStore)
+                .build();
+
+        playerRepository = LocalPlayerRepository.builder()
+                .store(playerStore)
+                .build();
+
+        mapRepository = LocalMapRepository.builder()
+                .store(mapStore)
+                .build();
+    }
+
+    @Override
+    public PlayerWriter getPlayerWriter() {
+        return playerRepository;
+    }
+
+    @Override
+    public void close() {
+        userStore.close();
+        playerStore.close();
+        mapStore.close();
+    }
+}
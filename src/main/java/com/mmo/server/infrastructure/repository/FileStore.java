@@ -0,0 +1,278 @@
+package com.mmo.server.infrastructure.repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mmo.server.infrastructure.journal.JournalClosedException;
+import com.mmo.server.infrastructure.journal.JournalIOException;
+import com.mmo.server.infrastructure.journal.JournalLockedException;
+import com.mmo.server.infrastructure.journal.JournalRecordTooLargeException;
+import com.mmo.server.infrastructure.journal.JournalSegment;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/*
+ * Keeps every value in memory and appends each put to journal segments
+ * mapped in memory, as the id followed by the BSON document of the value.
+ * Opening the store replays its segments in the order they were written,
+ * so the last record of an id is its value, and appending goes on in the
+ * last one.
+ * ---------------------------------
+ * once the records appended outgrow twice the live ones, the live ones are
+ * rewritten into fresh segments before the old ones are deleted
+ * the records reach the disk when the system writes the mapping back, which
+ * survives the process dying, or when the store is closed
+ * the directory is locked while the store is open, since replaying and
+ * compacting rewrite segments another process may be reading or appending
+ */
+public class FileStore<T> implements Store<T> {
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final String LOCK_FILE = ".lock";
+    private static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int ID_SIZE = Long.BYTES * 2;
+    private static final int COMPACTION_RATIO = 2;
+
+    private static final Logger logger = LoggerFactory.getLogger(FileStore.class);
+
+    private final Path directory;
+    private final Codec<T> codec;
+    private final int segmentSize;
+    private final ConcurrentHashMap<UUID, T> values = new ConcurrentHashMap<>();
+    private final HashMap<UUID, Integer> recordSizes = new HashMap<>();
+    private final List<JournalSegment> segments = new ArrayList<>();
+    private final FileChannel lock;
+    private JournalSegment active;
+    private long appendedSize;
+    private long liveSize;
+    private boolean closed;
+
+    @Builder
+    private FileStore(@NonNull Path directory, @NonNull Codec<T> codec, Integer segmentSize) {
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = Objects.requireNonNullElse(segmentSize, DEFAULT_SEGMENT_SIZE);
+        this.lock = lock();
+
+        try {
+            replay();
+        } catch (RuntimeException exception) {
+            unlock();
+            throw exception;
+        }
+    }
+
+    @Override
+    public Optional<T> find(UUID id) {
+        return Optional.ofNullable(values.get(id));
+    }
+
+    @Override
+    public Collection<T> values() {
+        return Collections.unmodifiableCollection(values.values());
+    }
+
+    /* the value must not change afterwards, it is the one kept in memory */
+    @Override
+    public synchronized void put(UUID id, T value) {
+        if (closed) {
+            throw new JournalClosedException("Value %s can not be stored, the store %s is closed", id, directory);
+        }
+
+        append(id, encode(id, value));
+        values.put(id, value);
+
+        if (segments.size() > 1 && appendedSize > COMPACTION_RATIO * liveSize) {
+            compact();
+        }
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        segments.forEach(JournalSegment::force);
+        closed = true;
+        unlock();
+    }
+
+    /* fails fast rather than waiting, the other process holds it until it stops */
+    private FileChannel lock() {
+        FileChannel channel;
+
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        } catch (IOException exception) {
+            throw new JournalIOException(exception, "Failed to lock store %s", directory);
+        }
+
+        try {
+            if (Objects.nonNull(channel.tryLock())) {
+                return channel;
+            }
+        } catch (OverlappingFileLockException | IOException exception) {
+            logger.debug("Failed to lock store {}", directory, exception);
+        }
+
+        close(channel);
+
+        throw new JournalLockedException("Store %s is already opened by another store or process", directory);
+    }
+
+    /* closing the channel releases its lock */
+    private void unlock() {
+        close(lock);
+    }
+
+    private void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            throw new JournalIOException(exception, "Failed to unlock store %s", directory);
+        }
+    }
+
+    private void append(UUID id, byte[] record) {
+        if (!active.append(record)) {
+            roll();
+
+            if (!active.append(record)) {
+                throw new JournalRecordTooLargeException("Value %s takes %d bytes, more than a segment of %s holds",
+                        id, record.length, directory);
+            }
+        }
+
+        count(id, record.length);
+    }
+
+    private void count(UUID id, int recordSize) {
+        Integer previousSize = recordSizes.put(id, recordSize);
+
+        appendedSize += recordSize;
+        liveSize += recordSize - Objects.requireNonNullElse(previousSize, 0);
+    }
+
+    /* the old segments are only deleted once the new ones are on disk */
+    private void compact() {
+        List<JournalSegment> previous = new ArrayList<>(segments);
+
+        segments.clear();
+        recordSizes.clear();
+        appendedSize = 0;
+        liveSize = 0;
+
+        roll();
+        values.forEach((id, value) -> append(id, encode(id, value)));
+        segments.forEach(JournalSegment::force);
+        previous.forEach(JournalSegment::delete);
+
+        logger.info("Compacted {} values of {} into {} segments", values.size(), directory, segments.size());
+    }
+
+    private void replay() {
+        try {
+            List<Path> paths;
+
+            try (Stream<Path> files = Files.list(directory)) {
+                paths = files
+                        .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+
+            for (Path path : paths) {
+                JournalSegment segment = JournalSegment.open(path, getSequence(path), segmentSize);
+                segment.read(this::replay);
+                segments.add(segment);
+            }
+        } catch (IOException exception) {
+            throw new JournalIOException(exception, "Failed to replay store %s", directory);
+        }
+
+        logger.info("Replayed {} values of {} from {} segments", values.size(), directory, segments.size());
+
+        if (segments.isEmpty()) {
+            active = JournalSegment.open(getPath(0), 0, segmentSize);
+            segments.add(active);
+        } else {
+            active = segments.get(segments.size() - 1);
+        }
+
+        if (segments.size() > 1 && appendedSize > COMPACTION_RATIO * liveSize) {
+            compact();
+        }
+    }
+
+    private void replay(ByteBuffer record) {
+        ByteBuffer buffer = record.order(ByteOrder.LITTLE_ENDIAN);
+        UUID id = new UUID(buffer.getLong(0), buffer.getLong(Long.BYTES));
+
+        try (BsonBinaryReader reader = new BsonBinaryReader(buffer.position(ID_SIZE).slice())) {
+            values.put(id, codec.decode(reader, DecoderContext.builder().build()));
+        }
+
+        count(id, record.limit());
+    }
+
+    private byte[] encode(UUID id, T value) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        buffer.writeInt64(id.getMostSignificantBits());
+        buffer.writeInt64(id.getLeastSignificantBits());
+
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, value, EncoderContext.builder().build());
+        }
+
+        return buffer.toByteArray();
+    }
+
+    private void roll() {
+        long sequence = active.getSequence() + 1;
+        active = JournalSegment.open(getPath(sequence), sequence, segmentSize);
+        segments.add(active);
+    }
+
+    private Path getPath(long sequence) {
+        return directory.resolve(String.format("%020d%s", sequence, SEGMENT_SUFFIX));
+    }
+
+    private static long getSequence(Path path) {
+        String name = path.getFileName().toString();
+
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
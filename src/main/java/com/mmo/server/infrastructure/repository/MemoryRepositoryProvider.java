@@ -0,0 +1,41 @@
+package com.mmo.server.infrastructure.repository;
+
+import com.mmo.server.infrastructure.map.LocalMapRepository;
+import com.mmo.server.infrastructure.player.LocalPlayerRepository;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+import com.mmo.server.infrastructure.user.LocalUserRepository;
+
+import lombok.Getter;
+
+/* everything is lost when the process ends, meant for load tests and local runs */
+@Getter
+public class MemoryRepositoryProvider implements RepositoryProvider {
+
+    private final LocalUserRepository userRepository;
+    private final LocalPlayerRepository playerRepository;
+    private final LocalMapRepository mapRepository;
+
+    public MemoryRepositoryProvider() {
+        userRepository = LocalUserRepository.builder()
+                .store(new MemoryStore<>())
+                .build();
+
+        playerRepository = LocalPlayerRepository.builder()
+                .store(new MemoryStore<>())
+                .build();
+
+        mapRepository = LocalMapRepository.builder()
+                .store(new MemoryStore<>())
+                .build();
+    }
+
+    @Override
+    public PlayerWriter getPlayerWriter() {
+        return playerRepository;
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
@@ -0,0 +1,33 @@
+package com.mmo.server.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* the values are kept as they are put, so they must not change afterwards */
+public class MemoryStore<T> implements Store<T> {
+
+    private final ConcurrentHashMap<UUID, T> values = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<T> find(UUID id) {
+        return Optional.ofNullable(values.get(id));
+    }
+
+    @Override
+    public Collection<T> values() {
+        return Collections.unmodifiableCollection(values.values());
+    }
+
+    @Override
+    public void put(UUID id, T value) {
+        values.put(id, value);
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
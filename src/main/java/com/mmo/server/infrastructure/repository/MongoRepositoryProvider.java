@@ -0,0 +1,32 @@
+package com.mmo.server.infrastructure.repository;
+
+import com.mmo.server.infrastructure.map.MongoMapRepository;
+import com.mmo.server.infrastructure.player.MongoPlayerRepository;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+import com.mmo.server.infrastructure.user.MongoUserRepository;
+
+import lombok.Getter;
+
+@Getter
+public class MongoRepositoryProvider implements RepositoryProvider {
+
+    private final MongoUserRepository userRepository;
+    private final MongoPlayerRepository playerRepository;
+    private final MongoMapRepository mapRepository;
+
+    public MongoRepositoryProvider() {
+        userRepository = new MongoUserRepository();
+        playerRepository = new MongoPlayerRepository();
+        mapRepository = new MongoMapRepository();
+    }
+
+    @Override
+    public PlayerWriter getPlayerWriter() {
+        return playerRepository;
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.repository;
+
+public class RepositoryDuplicateKeyException extends RepositoryException {
+
+    private static final long serialVersionUID = -7793416802271559307L;
+
+    public RepositoryDuplicateKeyException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
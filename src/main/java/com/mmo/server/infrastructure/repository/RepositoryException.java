@@ -0,0 +1,12 @@
+package com.mmo.server.infrastructure.repository;
+
+import com.mmo.server.core.exception.RuntimeException;
+
+public abstract class RepositoryException extends RuntimeException {
+
+    private static final long serialVersionUID = -4127730583925376041L;
+
+    public RepositoryException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
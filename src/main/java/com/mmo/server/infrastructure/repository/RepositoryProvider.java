@@ -0,0 +1,21 @@
+package com.mmo.server.infrastructure.repository;
+
+import com.mmo.server.core.map.MapRepository;
+import com.mmo.server.core.player.PlayerRepository;
+import com.mmo.server.core.user.UserRepository;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+
+public interface RepositoryProvider extends AutoCloseable {
+
+    UserRepository getUserRepository();
+
+    PlayerRepository getPlayerRepository();
+
+    /* writes into the same players the player repository finds */
+    PlayerWriter getPlayerWriter();
+
+    MapRepository getMapRepository();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,10 @@
+package com.mmo.server.infrastructure.repository;
+
+public class RepositoryProviderNotFoundException extends RepositoryException {
+
+    private static final long serialVersionUID = 2260839315807452117L;
+
+    public RepositoryProviderNotFoundException(String messageFormat, Object... arguments) {
+        super(messageFormat, arguments);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mmo.server.infrastructure.repository;
+
+import java.nio.file.Path;
+
+import com.mmo.server.infrastructure.config.ConfigProvider;
+
+public final class RepositoryProviders {
+
+    private static final String CONFIG_REPOSITORY_PROVIDER = "repository.provider";
+    private static final String CONFIG_REPOSITORY_FILE_DIRECTORY = "repository.file.directory";
+    private static final String CONFIG_REPOSITORY_FILE_SEGMENT_SIZE_IN_MEGABYTES = "repository.file.segment.size.in.megabytes";
+    private static final String PROVIDER_MONGO = "mongo";
+    private static final String PROVIDER_MEMORY = "memory";
+    private static final String PROVIDER_FILE = "file";
+
+    private RepositoryProviders() {
+
+    }
+
+    /* only the configured provider is created, so the others never connect or open anything */
+    public static RepositoryProvider of(ConfigProvider configProvider) {
+        String provider = configProvider.getString(CONFIG_REPOSITORY_PROVIDER);
+
+        switch (provider) {
+        case PROVIDER_MONGO:
+            return new MongoRepositoryProvider();
+        case PROVIDER_MEMORY:
+            return new MemoryRepositoryProvider();
+        case PROVIDER_FILE:
+            return FileRepositoryProvider.builder()
+                    .directory(Path.of(configProvider.getString(CONFIG_REPOSITORY_FILE_DIRECTORY)))
+                    .segmentSize(configProvider.getInt(CONFIG_REPOSITORY_FILE_SEGMENT_SIZE_IN_MEGABYTES) * 1024 * 1024)
+                    .build();
+        default:
+            throw new RepositoryProviderNotFoundException("Repository provider %s not found", provider);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.mmo.server.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface Store<T> extends AutoCloseable {
+
+    Optional<T> find(UUID id);
+
+    Collection<T> values();
+
+    void put(UUID id, T value);
+
+    @Override
+    void close();
+}
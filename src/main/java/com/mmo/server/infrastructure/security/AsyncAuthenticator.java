@@ -0,0 +1,51 @@
+package com.mmo.server.infrastructure.security;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.mmo.server.core.player.AsyncPlayerRepository;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.user.AsyncUserRepository;
+import com.mmo.server.core.user.Credentials;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/*
+ * Looks up the user and the player at the same time instead of one after
+ * the other, and hands out the player it found so the caller does not
+ * have to look it up again
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class AsyncAuthenticator {
+
+    private final AsyncUserRepository userRepository;
+    private final AsyncPlayerRepository playerRepository;
+
+    @Builder
+    private AsyncAuthenticator(
+            @NonNull AsyncUserRepository userRepository,
+            @NonNull AsyncPlayerRepository playerRepository) {
+
+        this.userRepository = userRepository;
+        this.playerRepository = playerRepository;
+    }
+
+    /* the player, when the user exists, its password matches and it owns the player */
+    public CompletableFuture<Optional<Player>> authenticate(String userName, String userPassword, UUID playerId) {
+        return userRepository.findCredentials(userName)
+                .thenCombine(playerRepository.find(playerId), (credentials, player) -> credentials
+                        .filter(value -> userPasswordMatches(value, userPassword))
+                        .flatMap(value -> player.filter(found -> found.getUserId().equals(value.getUserId()))));
+    }
+
+    private boolean userPasswordMatches(Credentials credentials, String userPassword) {
+        return credentials.getPassword().equalsIgnoreCase(userPassword);
+    }
+}
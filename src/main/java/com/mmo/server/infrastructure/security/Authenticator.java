@@ -3,7 +3,7 @@ package com.mmo.server.infrastructure.security;
 import java.util.UUID;
 
 import com.mmo.server.core.player.PlayerRepository;
-import com.mmo.server.core.user.User;
+import com.mmo.server.core.user.Credentials;
 import com.mmo.server.core.user.UserRepository;
 
 import lombok.Builder;
@@ -28,22 +28,14 @@ public class Authenticator {
 
     public boolean authenticate(String userName, String userPassword, UUID playerId) {
         return userRepository
-                .findByName(userName)
-                .filter(user -> userPasswordMatches(user, userPassword))
-                .filter(user -> playerBelongsToUser(user, playerId))
-                .map(user -> true)
+                .findCredentials(userName)
+                .filter(credentials -> userPasswordMatches(credentials, userPassword))
+                .map(credentials -> playerRepository.existsPlayerOwnedBy(playerId, credentials.getUserId()))
                 .orElse(false);
 
     }
 
-    private boolean userPasswordMatches(User user, String userPassword) {
-        return user.getPassword().equalsIgnoreCase(userPassword);
-    }
-
-    private boolean playerBelongsToUser(User user, UUID playerId) {
-        return playerRepository.find(playerId)
-                .filter(player -> player.getUserId().equals(user.getId()))
-                .map(player -> true)
-                .orElse(false);
+    private boolean userPasswordMatches(Credentials credentials, String userPassword) {
+        return credentials.getPassword().equalsIgnoreCase(userPassword);
     }
 }
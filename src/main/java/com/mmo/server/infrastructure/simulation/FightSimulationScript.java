@@ -0,0 +1,54 @@
+package com.mmo.server.infrastructure.simulation;
+
+import java.util.List;
+import java.util.Random;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/*
+ * Picks a random living opponent once in a while and revives
+ * dead players so the population stays constant along the run
+ */
+@EqualsAndHashCode
+@ToString
+public class FightSimulationScript implements SimulationScript {
+
+    private final Double aggressiveness;
+
+    @Builder
+    private FightSimulationScript(@NonNull Double aggressiveness) {
+        this.aggressiveness = aggressiveness;
+    }
+
+    @Override
+    public void play(Player player, List<Player> players, Random random) {
+        if (!player.isAlive()) {
+            revive(player);
+            return;
+        }
+
+        if (player.isAttacking() || random.nextDouble() >= aggressiveness) {
+            return;
+        }
+
+        Player target = players.get(random.nextInt(players.size()));
+
+        if (target != player && target.isAlive()) {
+            player.attack(target);
+        }
+    }
+
+    private void revive(Player player) {
+        player.getAttributes().modify(
+                Attribute.HP,
+                PropertyModifierAction.INCREMENT,
+                player.getAttributes().getHP() - player.getAttributes().getFinalHP());
+    }
+}
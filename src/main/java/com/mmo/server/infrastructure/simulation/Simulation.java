@@ -0,0 +1,218 @@
+package com.mmo.server.infrastructure.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.map.Terrain;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.stat.Stats;
+import com.mmo.server.infrastructure.config.ConfigProvider;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/*
+ * Headless capacity run: no sockets, no persistence, the game is stepped
+ * as fast as the CPU allows while synthetic players follow their scripts,
+ * and the cost of each update is measured at growing entity counts
+ */
+public class Simulation {
+
+    private static final String CONFIG_SIMULATION_ENTITY_COUNTS = "simulation.entity.counts";
+    private static final String CONFIG_SIMULATION_WARMUP_UPDATES = "simulation.warmup.updates";
+    private static final String CONFIG_SIMULATION_MEASURED_UPDATES = "simulation.measured.updates";
+    private static final String CONFIG_SIMULATION_SEED = "simulation.seed";
+
+    private static final int SPAWN_SPACING = 10;
+    private static final int WANDER_RADIUS = 30;
+    private static final double AGGRESSIVENESS = 0.01;
+
+    private static final Logger logger = LoggerFactory.getLogger(Simulation.class);
+
+    private final List<Integer> entityCounts;
+    private final Integer warmupUpdates;
+    private final Integer measuredUpdates;
+    private final List<SimulationScript> scripts = new ArrayList<>();
+    private final Random random;
+    private final Game game;
+
+    @Builder
+    private Simulation(
+            @NonNull Collection<Integer> entityCounts,
+            @NonNull Integer warmupUpdates,
+            @NonNull Integer measuredUpdates,
+            Long seed,
+            Collection<SimulationScript> scripts) {
+
+        this.entityCounts = entityCounts.stream()
+                .sorted()
+                .collect(Collectors.toList());
+        this.warmupUpdates = warmupUpdates;
+        this.measuredUpdates = measuredUpdates;
+        this.random = new Random(Objects.requireNonNullElse(seed, 0L));
+        this.game = Game.getInstance();
+
+        if (Objects.nonNull(scripts)) {
+            this.scripts.addAll(scripts);
+        } else {
+            this.scripts.add(WanderSimulationScript.builder()
+                    .radius(WANDER_RADIUS)
+                    .build());
+            this.scripts.add(FightSimulationScript.builder()
+                    .aggressiveness(AGGRESSIVENESS)
+                    .build());
+        }
+    }
+
+    public SimulationReport run() {
+        Map map = newMap();
+        List<Player> players = new ArrayList<>();
+        List<SimulationStage> stages = new ArrayList<>();
+        int side = SPAWN_SPACING * (int) Math.ceil(Math.sqrt(entityCounts.get(entityCounts.size() - 1)));
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(game.getMsPerUpdate());
+
+        for (Integer entityCount : entityCounts) {
+            while (players.size() < entityCount) {
+                Player player = newPlayer(side);
+                players.add(player);
+                map.addEntity(player);
+            }
+
+            for (int i = 0; i < warmupUpdates; i++) {
+                step(map, players);
+            }
+
+            long[] costs = new long[measuredUpdates];
+
+            for (int i = 0; i < measuredUpdates; i++) {
+                costs[i] = step(map, players);
+            }
+
+            SimulationStage stage = SimulationStage.builder()
+                    .entityCount(entityCount)
+                    .budgetNanos(budgetNanos)
+                    .costs(costs)
+                    .build();
+
+            logger.info("Simulation stage finished {}", stage);
+
+            stages.add(stage);
+        }
+
+        players.forEach(player -> dismiss(map, player));
+
+        return SimulationReport.builder()
+                .stages(stages)
+                .build();
+    }
+
+    /*
+     * Scripts play after the update, once the game is bound to the map,
+     * so their actions are picked up by the next measured update
+     */
+    private long step(Map map, List<Player> players) {
+        long start = System.nanoTime();
+        game.step(map);
+        long cost = System.nanoTime() - start;
+
+        players.forEach(player -> scripts.forEach(script -> script.play(player, players, random)));
+
+        return cost;
+    }
+
+    /*
+     * Stops pending attack and move timers, which would otherwise
+     * keep firing on the shared game timer wheel after the run
+     */
+    private void dismiss(Map map, Player player) {
+        if (player.isAttacking()) {
+            player.stopAttacking();
+        }
+
+        if (player.isMoving()) {
+            player.stopMoving();
+        }
+
+        map.removeEntity(player);
+    }
+
+    private Map newMap() {
+        return Map.builder()
+                .id(UUID.randomUUID())
+                .name("simulation")
+                .description("Headless simulation map")
+                .nearbyRatio(10)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of())
+                        .build())
+                .build();
+    }
+
+    private Player newPlayer(int side) {
+        UUID instanceId = new UUID(random.nextLong(), random.nextLong());
+
+        return Player.builder()
+                .userId(instanceId)
+                .instanceId(instanceId)
+                .name("simulation-" + instanceId)
+                .position(Position.builder()
+                        .x(random.nextInt(side))
+                        .z(random.nextInt(side))
+                        .build())
+                .stats(Stats.builder()
+                        .strength(10)
+                        .dexterity(10)
+                        .intelligence(10)
+                        .concentration(10)
+                        .sense(10)
+                        .charm(10)
+                        .build())
+                .attributes(Attributes.builder()
+                        .hp(300)
+                        .mp(30)
+                        .attack(42)
+                        .defense(33)
+                        .magicDefense(34)
+                        .hitRate(35)
+                        .critical(36)
+                        .dodgeRate(37)
+                        .attackSpeed(50)
+                        .moveSpeed(2)
+                        .hpRecovery(40)
+                        .mpRecovery(41)
+                        .attackRange(3)
+                        .build())
+                .build();
+    }
+
+    public static void main(String... args) {
+        ConfigProvider configProvider = ConfigProvider.getInstance();
+
+        SimulationReport report = Simulation.builder()
+                .entityCounts(Arrays.stream(configProvider.getString(CONFIG_SIMULATION_ENTITY_COUNTS).split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toList()))
+                .warmupUpdates(configProvider.getInt(CONFIG_SIMULATION_WARMUP_UPDATES))
+                .measuredUpdates(configProvider.getInt(CONFIG_SIMULATION_MEASURED_UPDATES))
+                .seed(configProvider.getLong(CONFIG_SIMULATION_SEED))
+                .build()
+                .run();
+
+        logger.info("Simulation report\n{}", report.format());
+    }
+}
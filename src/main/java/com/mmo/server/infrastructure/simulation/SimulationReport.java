@@ -0,0 +1,73 @@
+package com.mmo.server.infrastructure.simulation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+@EqualsAndHashCode
+@ToString
+public class SimulationReport {
+
+    private static final String ROW_FORMAT = "%10s %10s %12s %12s %12s %12s %8s%n";
+
+    private final List<SimulationStage> stages = new ArrayList<>();
+
+    @Builder
+    private SimulationReport(@NonNull Collection<SimulationStage> stages) {
+        this.stages.addAll(stages);
+    }
+
+    public List<SimulationStage> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    /*
+     * Largest entity count reached before the first stage
+     * whose p99 tick cost went over the tick budget
+     */
+    public Optional<Integer> getCeiling() {
+        Integer ceiling = null;
+
+        for (SimulationStage stage : stages) {
+            if (!stage.isWithinBudget()) {
+                break;
+            }
+
+            ceiling = stage.getEntityCount();
+        }
+
+        return Optional.ofNullable(ceiling);
+    }
+
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append(String.format(ROW_FORMAT, "entities", "updates", "mean(us)", "p50(us)", "p99(us)", "max(us)", "budget"));
+
+        stages.forEach(stage -> builder.append(String.format(ROW_FORMAT,
+                stage.getEntityCount(),
+                stage.getUpdates(),
+                toMicros(stage.getMeanNanos()),
+                toMicros(stage.getP50Nanos()),
+                toMicros(stage.getP99Nanos()),
+                toMicros(stage.getMaxNanos()),
+                stage.isWithinBudget() ? "ok" : "over")));
+
+        builder.append(getCeiling()
+                .map(ceiling -> "ceiling: " + ceiling + " entities")
+                .orElse("ceiling: below " + stages.stream().findFirst().map(SimulationStage::getEntityCount).orElse(0) + " entities"));
+
+        return builder.toString();
+    }
+
+    private static long toMicros(long nanos) {
+        return nanos / 1000;
+    }
+}
@@ -0,0 +1,12 @@
+package com.mmo.server.infrastructure.simulation;
+
+import java.util.List;
+import java.util.Random;
+
+import com.mmo.server.core.player.Player;
+
+@FunctionalInterface
+public interface SimulationScript {
+
+    void play(Player player, List<Player> players, Random random);
+}
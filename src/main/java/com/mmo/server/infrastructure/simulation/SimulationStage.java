@@ -0,0 +1,55 @@
+package com.mmo.server.infrastructure.simulation;
+
+import java.util.Arrays;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+public class SimulationStage {
+
+    private final Integer entityCount;
+    private final Integer updates;
+    private final Long budgetNanos;
+    private final Long meanNanos;
+    private final Long p50Nanos;
+    private final Long p99Nanos;
+    private final Long maxNanos;
+
+    @Builder
+    private SimulationStage(
+            @NonNull Integer entityCount,
+            @NonNull Long budgetNanos,
+            @NonNull long[] costs) {
+
+        long[] sorted = costs.clone();
+        Arrays.sort(sorted);
+
+        this.entityCount = entityCount;
+        this.updates = sorted.length;
+        this.budgetNanos = budgetNanos;
+        this.meanNanos = (long) Arrays.stream(sorted).average().orElse(0);
+        this.p50Nanos = percentile(sorted, 50);
+        this.p99Nanos = percentile(sorted, 99);
+        this.maxNanos = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    public boolean isWithinBudget() {
+        return p99Nanos <= budgetNanos;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = Math.min(sorted.length - 1, sorted.length * percentile / 100);
+
+        return sorted[index];
+    }
+}
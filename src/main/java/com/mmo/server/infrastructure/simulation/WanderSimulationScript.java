@@ -0,0 +1,38 @@
+package com.mmo.server.infrastructure.simulation;
+
+import java.util.List;
+import java.util.Random;
+
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.player.Player;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+@EqualsAndHashCode
+@ToString
+public class WanderSimulationScript implements SimulationScript {
+
+    private final Integer radius;
+
+    @Builder
+    private WanderSimulationScript(@NonNull Integer radius) {
+        this.radius = radius;
+    }
+
+    @Override
+    public void play(Player player, List<Player> players, Random random) {
+        if (player.isMoving() || player.isAttacking()) {
+            return;
+        }
+
+        Position current = player.getPosition();
+
+        player.move(Position.builder()
+                .x(current.getX() + random.nextInt(radius * 2 + 1) - radius)
+                .z(current.getZ() + random.nextInt(radius * 2 + 1) - radius)
+                .build());
+    }
+}
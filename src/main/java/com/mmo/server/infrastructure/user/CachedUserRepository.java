@@ -0,0 +1,86 @@
+package com.mmo.server.infrastructure.user;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.mmo.server.core.looper.LooperClock;
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+import com.mmo.server.core.user.UserRepository;
+import com.mmo.server.infrastructure.cache.CacheMetrics;
+import com.mmo.server.infrastructure.cache.ExpiringCache;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/* users are immutable, so the cached instance itself is handed out */
+public class CachedUserRepository implements UserRepository {
+
+    private final UserRepository repository;
+    private final CacheMetrics metrics = new CacheMetrics();
+    private final ExpiringCache<UUID, User> byId;
+    private final ExpiringCache<String, User> byName;
+    private final ExpiringCache<String, Credentials> credentials;
+
+    @Builder
+    private CachedUserRepository(
+            @NonNull UserRepository repository,
+            Integer capacity,
+            Long timeToLive,
+            LooperClock clock) {
+
+        this.repository = repository;
+        this.byId = ExpiringCache.<UUID, User>builder()
+                .capacity(capacity)
+                .timeToLive(timeToLive)
+                .clock(clock)
+                .metrics(metrics)
+                .build();
+        this.byName = ExpiringCache.<String, User>builder()
+                .capacity(capacity)
+                .timeToLive(timeToLive)
+                .clock(clock)
+                .metrics(metrics)
+                .build();
+        this.credentials = ExpiringCache.<String, Credentials>builder()
+                .capacity(capacity)
+                .timeToLive(timeToLive)
+                .clock(clock)
+                .metrics(metrics)
+                .build();
+    }
+
+    @Override
+    public Optional<User> find(UUID id) {
+        return byId.get(id, repository::find);
+    }
+
+    @Override
+    public Optional<User> findByName(String name) {
+        return byName.get(name, repository::findByName);
+    }
+
+    @Override
+    public Optional<Credentials> findCredentials(String name) {
+        return credentials.get(name, repository::findCredentials);
+    }
+
+    /* the name the user was cached under may not be its new one */
+    @Override
+    public void persist(User user) {
+        repository.persist(user);
+
+        byId.invalidate(user.getId())
+                .ifPresent(cached -> invalidate(cached.getName()));
+        invalidate(user.getName());
+    }
+
+    private void invalidate(String name) {
+        byName.invalidate(name);
+        credentials.invalidate(name);
+    }
+
+    public CacheMetrics getMetrics() {
+        return metrics;
+    }
+}
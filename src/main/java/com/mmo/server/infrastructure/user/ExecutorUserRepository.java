@@ -0,0 +1,46 @@
+package com.mmo.server.infrastructure.user;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.mmo.server.core.user.AsyncUserRepository;
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+import com.mmo.server.core.user.UserRepository;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+public class ExecutorUserRepository implements AsyncUserRepository {
+
+    private final UserRepository repository;
+    private final Executor executor;
+
+    @Builder
+    private ExecutorUserRepository(@NonNull UserRepository repository, @NonNull Executor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Optional<User>> find(UUID id) {
+        return CompletableFuture.supplyAsync(() -> repository.find(id), executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<User>> findByName(String name) {
+        return CompletableFuture.supplyAsync(() -> repository.findByName(name), executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Credentials>> findCredentials(String name) {
+        return CompletableFuture.supplyAsync(() -> repository.findCredentials(name), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> persist(User user) {
+        return CompletableFuture.runAsync(() -> repository.persist(user), executor);
+    }
+}
@@ -0,0 +1,71 @@
+package com.mmo.server.infrastructure.user;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+import com.mmo.server.core.user.UserRepository;
+import com.mmo.server.infrastructure.repository.RepositoryDuplicateKeyException;
+import com.mmo.server.infrastructure.repository.Store;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+/*
+ * Keeps users in a store of this process, with the names indexed beside
+ * them, which are unique like the name index of the Mongo collection
+ */
+public class LocalUserRepository implements UserRepository {
+
+    private final Store<UserDTO> store;
+    private final ConcurrentHashMap<String, UUID> names = new ConcurrentHashMap<>();
+
+    @Builder
+    private LocalUserRepository(@NonNull Store<UserDTO> store) {
+        this.store = store;
+
+        store.values().forEach(entity -> names.put(entity.getName(), entity.getId()));
+    }
+
+    @Override
+    public Optional<User> find(UUID id) {
+        return store.find(id)
+                .map(UserDTO::toUser);
+    }
+
+    @Override
+    public Optional<User> findByName(String name) {
+        return findEntityByName(name)
+                .map(UserDTO::toUser);
+    }
+
+    @Override
+    public Optional<Credentials> findCredentials(String name) {
+        return findEntityByName(name)
+                .map(UserDTO::toCredentials);
+    }
+
+    @Override
+    public synchronized void persist(User user) {
+        UserDTO entity = UserDTO.of(user);
+        UUID owner = names.get(entity.getName());
+
+        if (Objects.nonNull(owner) && !owner.equals(entity.getId())) {
+            throw new RepositoryDuplicateKeyException("User name %s is already taken by %s", entity.getName(), owner);
+        }
+
+        store.find(entity.getId())
+                .ifPresent(previous -> names.remove(previous.getName(), previous.getId()));
+
+        store.put(entity.getId(), entity);
+        names.put(entity.getName(), entity.getId());
+    }
+
+    private Optional<UserDTO> findEntityByName(String name) {
+        return Optional.ofNullable(names.get(name))
+                .flatMap(store::find);
+    }
+}
@@ -1,13 +1,19 @@
 package com.mmo.server.infrastructure.user;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.mmo.server.core.user.Credentials;
 import com.mmo.server.core.user.User;
 import com.mmo.server.core.user.UserRepository;
 import com.mmo.server.infrastructure.mongo.MongoFactory;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.ReplaceOptions;
 
 public class MongoUserRepository implements UserRepository {
@@ -15,7 +21,8 @@ public class MongoUserRepository implements UserRepository {
     private final MongoCollection<UserDTO> collection;
 
     public MongoUserRepository() {
-        collection = MongoFactory.getInstance().getCollection("User", UserDTO.class);
+        collection = MongoFactory.getInstance().getCollection("User", UserDTO.class, List.of(
+                new IndexModel(Indexes.ascending("name"), new IndexOptions().name("name").unique(true))));
     }
 
     @Override
@@ -34,6 +41,16 @@ public class MongoUserRepository implements UserRepository {
                 .map(UserDTO::toUser);
     }
 
+    @Override
+    public Optional<Credentials> findCredentials(String name) {
+        UserDTO entity = collection.find(Filters.eq("name", name))
+                .projection(Projections.include("id", "password"))
+                .first();
+
+        return Optional.ofNullable(entity)
+                .map(UserDTO::toCredentials);
+    }
+
     @Override
     public void persist(User player) {
         UserDTO entity = UserDTO.of(player);
@@ -2,6 +2,7 @@ package com.mmo.server.infrastructure.user;
 
 import java.util.UUID;
 
+import com.mmo.server.core.user.Credentials;
 import com.mmo.server.core.user.User;
 
 import lombok.Data;
@@ -22,6 +23,13 @@ public class UserDTO {
         return dto;
     }
 
+    public Credentials toCredentials() {
+        return Credentials.builder()
+                .userId(id)
+                .password(password)
+                .build();
+    }
+
     public User toUser() {
         return User.builder()
                 .id(id)
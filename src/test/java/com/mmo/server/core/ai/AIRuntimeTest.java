@@ -0,0 +1,256 @@
+package com.mmo.server.core.ai;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.looper.LooperClock;
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.map.Terrain;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+public class AIRuntimeTest {
+
+    @Test
+    public void thinkOnArrival() {
+        Map map = newMap();
+        AIRuntime runtime = AIRuntime.builder().build();
+        AgentImpl first = new AgentImpl(0, 0);
+        AgentImpl second = new AgentImpl(10, 10);
+
+        runtime.add(first);
+        runtime.add(second);
+        runtime.add(first);
+        runtime.update(context(0L, () -> 0L));
+
+        assertThat(first.thoughts, equalTo(1));
+        assertThat(second.thoughts, equalTo(1));
+        assertThat(runtime.getLastThoughts(), equalTo(2));
+        assertThat(runtime.getAgentCount(), equalTo(2));
+        assertThat(runtime.getDormantCount(), equalTo(2));
+        assertThat(map.getEntities(), empty());
+    }
+
+    @Test
+    public void awakeAgentsThinkMoreOften() {
+        Map map = newMap();
+        Player player = PlayerMocker.newPlayer(100, 100);
+        map.addEntity(player);
+
+        AIRuntime runtime = AIRuntime.builder()
+                .awakeRate(250L)
+                .dormantRate(1000L)
+                .build();
+
+        AgentImpl near = new AgentImpl(90, 90);
+        AgentImpl far = new AgentImpl(500, 500);
+
+        runtime.add(near);
+        runtime.add(far);
+
+        for (long tick = 0; tick <= 1000; tick += 50) {
+            runtime.update(context(tick, () -> 0L));
+        }
+
+        assertThat(near.thoughts, equalTo(5));
+        assertThat(near.nearest, equalTo(Optional.of(player)));
+        assertThat(far.thoughts, equalTo(2));
+        assertThat(far.nearest, equalTo(Optional.empty()));
+        assertThat(runtime.getAwakeCount(), equalTo(1));
+        assertThat(runtime.getDormantCount(), equalTo(1));
+    }
+
+    @Test
+    public void awakeAgentsWithoutNearbyPlayers() {
+        newMap();
+
+        AIRuntime runtime = AIRuntime.builder()
+                .awakeRate(250L)
+                .dormantRate(1000L)
+                .build();
+
+        AgentImpl busy = new AgentImpl(500, 500);
+        busy.awake = true;
+
+        runtime.add(busy);
+
+        for (long tick = 0; tick <= 1000; tick += 50) {
+            runtime.update(context(tick, () -> 0L));
+        }
+
+        assertThat(busy.thoughts, equalTo(5));
+        assertThat(busy.nearest, equalTo(Optional.empty()));
+        assertThat(runtime.getAwakeCount(), equalTo(1));
+    }
+
+    @Test
+    public void ignoreDeadPlayers() {
+        Map map = newMap();
+        Player player = PlayerMocker.newPlayer(100, 100);
+        player.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 100);
+        map.addEntity(player);
+
+        AIRuntime runtime = AIRuntime.builder().build();
+        AgentImpl agent = new AgentImpl(90, 90);
+
+        runtime.add(agent);
+        runtime.update(context(0L, () -> 0L));
+
+        assertThat(agent.nearest, equalTo(Optional.empty()));
+        assertThat(runtime.getDormantCount(), equalTo(1));
+    }
+
+    @Test
+    public void stayWithinBudget() {
+        newMap();
+
+        AIRuntime runtime = AIRuntime.builder()
+                .budget(2L)
+                .build();
+
+        List<AgentImpl> agents = List.of(
+                new AgentImpl(0, 0),
+                new AgentImpl(0, 0),
+                new AgentImpl(0, 0),
+                new AgentImpl(0, 0),
+                new AgentImpl(0, 0));
+
+        agents.forEach(runtime::add);
+
+        /* every read of the clock costs a millisecond */
+        AtomicLong time = new AtomicLong();
+        LooperContext context = context(0L, time::getAndIncrement);
+
+        runtime.update(context);
+
+        assertThat(runtime.getLastThoughts(), equalTo(2));
+        assertThat(agents.get(0).thoughts, equalTo(1));
+        assertThat(agents.get(2).thoughts, equalTo(0));
+
+        runtime.update(context);
+        runtime.update(context);
+
+        assertThat(runtime.getLastThoughts(), equalTo(1));
+        assertThat(agents.stream().allMatch(agent -> agent.thoughts == 1), equalTo(true));
+
+        runtime.update(context);
+
+        assertThat(runtime.getLastThoughts(), equalTo(0));
+    }
+
+    @Test
+    public void dropAgentsNotThinking() {
+        newMap();
+
+        AIRuntime runtime = AIRuntime.builder().build();
+        AgentImpl agent = new AgentImpl(0, 0);
+
+        runtime.add(agent);
+        agent.thinking = false;
+        runtime.update(context(0L, () -> 0L));
+
+        assertThat(agent.thoughts, equalTo(0));
+        assertThat(runtime.contains(agent), equalTo(false));
+        assertThat(runtime.getAgentCount(), equalTo(0));
+
+        agent.thinking = true;
+        runtime.add(agent);
+        runtime.update(context(1L, () -> 0L));
+
+        assertThat(agent.thoughts, equalTo(1));
+        assertThat(runtime.contains(agent), equalTo(true));
+    }
+
+    private static LooperContext context(long tick, LooperClock clock) {
+        LooperContext context = mock(LooperContext.class);
+        when(context.getTick()).thenReturn(tick);
+        when(context.getClock()).thenReturn(clock);
+
+        return context;
+    }
+
+    /* the runtime perceives through the map being updated by the game */
+    private static Map newMap() {
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(5)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f))
+                        .build())
+                .build();
+
+        Game.getInstance().step(map);
+
+        return map;
+    }
+
+    private static class AgentImpl implements Agent {
+
+        UUID instanceId = UUID.randomUUID();
+        Position position;
+        boolean thinking = true;
+        boolean awake;
+        int thoughts;
+        Optional<Player> nearest;
+
+        AgentImpl(int x, int z) {
+            this.position = new Position(x, z);
+        }
+
+        @Override
+        public UUID getInstanceId() {
+            return instanceId;
+        }
+
+        @Override
+        public String getName() {
+            return "agent";
+        }
+
+        @Override
+        public Position getPosition() {
+            return position;
+        }
+
+        @Override
+        public void update(LooperContext context) {
+
+        }
+
+        @Override
+        public boolean isThinking() {
+            return thinking;
+        }
+
+        @Override
+        public int getPerceptionRange() {
+            return 20;
+        }
+
+        @Override
+        public boolean isAwake() {
+            return awake;
+        }
+
+        @Override
+        public void think(Optional<Player> nearest) {
+            this.nearest = nearest;
+            thoughts++;
+        }
+    }
+}
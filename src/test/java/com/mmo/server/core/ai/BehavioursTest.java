@@ -0,0 +1,73 @@
+package com.mmo.server.core.ai;
+
+import static com.mmo.server.core.ai.Behaviours.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BehavioursTest {
+
+    @Test
+    public void sequenceStopsOnFirstFailure() {
+        Behaviour<List<String>> behaviour = sequence(
+                action(visited -> visited.add("first")),
+                condition(visited -> false),
+                action(visited -> visited.add("last")));
+
+        List<String> visited = new ArrayList<>();
+
+        assertThat(behaviour.tick(visited), equalTo(BehaviourStatus.FAILURE));
+        assertThat(visited, contains("first"));
+    }
+
+    @Test
+    public void sequenceSucceedsWhenAllSucceed() {
+        Behaviour<List<String>> behaviour = sequence(
+                action(visited -> visited.add("first")),
+                condition(visited -> true),
+                action(visited -> visited.add("last")));
+
+        List<String> visited = new ArrayList<>();
+
+        assertThat(behaviour.tick(visited), equalTo(BehaviourStatus.SUCCESS));
+        assertThat(visited, contains("first", "last"));
+    }
+
+    @Test
+    public void selectorStopsOnFirstSuccess() {
+        Behaviour<List<String>> behaviour = selector(
+                condition(visited -> false),
+                action(visited -> visited.add("second")),
+                action(visited -> visited.add("last")));
+
+        List<String> visited = new ArrayList<>();
+
+        assertThat(behaviour.tick(visited), equalTo(BehaviourStatus.SUCCESS));
+        assertThat(visited, contains("second"));
+    }
+
+    @Test
+    public void selectorFailsWhenAllFail() {
+        Behaviour<List<String>> behaviour = selector(
+                condition(visited -> false),
+                condition(visited -> false));
+
+        assertThat(behaviour.tick(new ArrayList<>()), equalTo(BehaviourStatus.FAILURE));
+    }
+
+    @Test
+    public void runningStopsComposites() {
+        Behaviour<List<String>> running = visited -> BehaviourStatus.RUNNING;
+        List<String> visited = new ArrayList<>();
+
+        assertThat(sequence(running, action(value -> visited.add("sequence"))).tick(visited),
+                equalTo(BehaviourStatus.RUNNING));
+        assertThat(selector(running, action(value -> visited.add("selector"))).tick(visited),
+                equalTo(BehaviourStatus.RUNNING));
+        assertThat(visited, empty());
+    }
+}
@@ -8,13 +8,14 @@ import static org.mockito.Mockito.*;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
-import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.game.Game;
 import com.mmo.server.core.game.GameRunnerMapMocker;
 import com.mmo.server.core.looper.LooperContextMocker;
 import com.mmo.server.core.map.Map;
@@ -24,15 +25,20 @@ import com.mmo.server.core.math.Vertex;
 public class AnimateTest {
 
     private static Map map;
+    private static Combat combat;
 
+    /* the game is only stepped once to hold the map, its time stays still while the tests wait */
     @BeforeAll
     private static void setup() {
-        map = GameRunnerMapMocker.run();
+        combat = Combat.builder().build();
+        map = GameRunnerMapMocker.mock();
+        when(map.getCombat()).thenReturn(combat);
+        Game.getInstance().step(map);
     }
 
-    @AfterAll
-    private static void clear() {
-        GameRunnerMapMocker.stop();
+    @BeforeEach
+    private void setupEach() {
+        LooperContextMocker.reset();
     }
 
     @AfterEach
@@ -55,7 +61,7 @@ public class AnimateTest {
                         .defense(33)
                         .magicDefense(34)
                         .hitRate(35)
-                        .critical(36)
+                        .critical(0)
                         .dodgeRate(37)
                         .attackSpeed(50)
                         .moveSpeed(2)
@@ -77,7 +83,7 @@ public class AnimateTest {
                         .magicDefense(34)
                         .hitRate(35)
                         .critical(36)
-                        .dodgeRate(37)
+                        .dodgeRate(0)
                         .attackSpeed(38)
                         .moveSpeed(2)
                         .hpRecovery(40)
@@ -90,6 +96,7 @@ public class AnimateTest {
         assertThat(animate.isAttacking(), equalTo(true));
 
         LooperContextMocker.update(animate, 1000);
+        LooperContextMocker.update(combat, 0);
 
         assertThat(animate.isMoving(), equalTo(true));
         assertThat(animate.isAttacking(), equalTo(true));
@@ -97,6 +104,7 @@ public class AnimateTest {
         assertThat(animate.moved, equalTo(true));
 
         LooperContextMocker.update(animate, 3000);
+        LooperContextMocker.update(combat, 0);
 
         assertThat(animate.finishedMove, equalTo(true));
         assertThat(animate.isMoving(), equalTo(false));
@@ -106,6 +114,7 @@ public class AnimateTest {
         assertThat(target.damaged, equalTo(true));
 
         LooperContextMocker.update(animate, 6000);
+        LooperContextMocker.update(combat, 0);
 
         assertThat(animate.isMoving(), equalTo(false));
         assertThat(animate.isAttacking(), equalTo(false));
@@ -316,7 +325,7 @@ public class AnimateTest {
                         .defense(33)
                         .magicDefense(34)
                         .hitRate(35)
-                        .critical(36)
+                        .critical(0)
                         .dodgeRate(37)
                         .attackSpeed(50)
                         .moveSpeed(2)
@@ -338,7 +347,7 @@ public class AnimateTest {
                         .magicDefense(34)
                         .hitRate(35)
                         .critical(36)
-                        .dodgeRate(37)
+                        .dodgeRate(0)
                         .attackSpeed(38)
                         .moveSpeed(2)
                         .hpRecovery(40)
@@ -352,6 +361,7 @@ public class AnimateTest {
         assertThat(animate.beganAttack, equalTo(true));
 
         LooperContextMocker.update(animate, 2100);
+        LooperContextMocker.update(combat, 0);
 
         animate.stopAttacking();
 
@@ -362,6 +372,76 @@ public class AnimateTest {
         assertThat(target.isAlive(), equalTo(true));
     }
 
+    @Test
+    public void detach() {
+        AnimateImpl animate = new AnimateImpl(
+                Position.builder()
+                        .x(10)
+                        .z(15)
+                        .build(),
+                Attributes.builder()
+                        .hp(30)
+                        .mp(31)
+                        .attack(60)
+                        .defense(33)
+                        .magicDefense(34)
+                        .hitRate(35)
+                        .critical(0)
+                        .dodgeRate(37)
+                        .attackSpeed(50)
+                        .moveSpeed(2)
+                        .hpRecovery(40)
+                        .mpRecovery(41)
+                        .attackRange(3)
+                        .build());
+
+        AnimateImpl target = new AnimateImpl(
+                Position.builder()
+                        .x(20)
+                        .z(25)
+                        .build(),
+                Attributes.builder()
+                        .hp(30)
+                        .mp(31)
+                        .attack(42)
+                        .defense(50)
+                        .magicDefense(34)
+                        .hitRate(35)
+                        .critical(36)
+                        .dodgeRate(0)
+                        .attackSpeed(38)
+                        .moveSpeed(2)
+                        .hpRecovery(40)
+                        .mpRecovery(41)
+                        .attackRange(3)
+                        .build());
+
+        animate.attack(target);
+
+        LooperContextMocker.update(animate, 1000);
+
+        assertThat(animate.isMoving(), equalTo(true));
+
+        Position position = Position.builder()
+                .x(animate.getPosition().getX())
+                .z(animate.getPosition().getZ())
+                .build();
+
+        animate.detach();
+        animate.moved = false;
+
+        LooperContextMocker.update(animate, 0);
+        LooperContextMocker.update(combat, 5000);
+
+        assertThat(animate.isAttacking(), equalTo(false));
+        assertThat(animate.isMoving(), equalTo(false));
+        assertThat(animate.moved, equalTo(false));
+        assertThat(animate.attacked, equalTo(false));
+        assertThat(animate.finishedAttack, equalTo(false));
+        assertThat(target.damaged, equalTo(false));
+        assertThat(animate.getPosition(), equalTo(position));
+    }
+
     @Test
     public void getAttackUpdateRateInMillis() {
         AnimateImpl animate = new AnimateImpl(
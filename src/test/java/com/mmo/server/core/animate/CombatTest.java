@@ -0,0 +1,208 @@
+package com.mmo.server.core.animate;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.looper.LooperContextMocker;
+import com.mmo.server.core.map.Position;
+
+public class CombatTest {
+
+    @Test
+    public void applyHitsOnce() {
+        Regeneration regeneration = Regeneration.builder().build();
+        Combat combat = Combat.builder()
+                .random(new RollRandom())
+                .regeneration(regeneration)
+                .build();
+
+        AnimateImpl first = new AnimateImpl(combat, 100, 50, 0, 0);
+        AnimateImpl second = new AnimateImpl(combat, 100, 70, 0, 0);
+        AnimateImpl target = new AnimateImpl(combat, 500, 40, 20, 0);
+
+        first.attack(target);
+        second.attack(target);
+
+        combat.hit(first, target);
+        combat.hit(second, target);
+        combat.hit(first, target);
+
+        assertThat(combat.getPendingHits(), equalTo(3));
+        assertThat(target.getAttributes().getFinalHP(), equalTo(500));
+
+        LooperContextMocker.update(combat, 0);
+
+        assertThat(combat.getPendingHits(), equalTo(0));
+        assertThat(target.getAttributes().getFinalHP(), equalTo(500 - 30 - 50 - 30));
+        assertThat(target.damages, contains(30, 50, 30));
+        assertThat(target.resolved, equalTo(1));
+        assertThat(first.resolved, equalTo(0));
+        assertThat(target.killer, nullValue());
+        assertThat(regeneration.isWounded(target), equalTo(true));
+        assertThat(regeneration.isWounded(first), equalTo(false));
+    }
+
+    @Test
+    public void rollDodgeAndCritical() {
+        RollRandom random = new RollRandom();
+        Combat combat = Combat.builder()
+                .random(random)
+                .build();
+
+        AnimateImpl attacker = new AnimateImpl(combat, 100, 50, 0, 36);
+        AnimateImpl target = new AnimateImpl(combat, 500, 40, 20, 0);
+
+        /* dodged, landed critical, landed */
+        random.rolls.add(35);
+        random.rolls.add(34);
+        random.rolls.add(35);
+        random.rolls.add(34);
+        random.rolls.add(36);
+
+        attacker.attack(target);
+
+        combat.hit(attacker, target);
+        combat.hit(attacker, target);
+        combat.hit(attacker, target);
+
+        LooperContextMocker.update(combat, 0);
+
+        assertThat(target.damages, contains(55, 30));
+        assertThat(target.getAttributes().getFinalHP(), equalTo(500 - 55 - 30));
+    }
+
+    @Test
+    public void killOnceAndStopAttackers() {
+        Combat combat = Combat.builder()
+                .random(new RollRandom())
+                .build();
+
+        AnimateImpl first = new AnimateImpl(combat, 100, 50, 0, 0);
+        AnimateImpl second = new AnimateImpl(combat, 100, 70, 0, 0);
+        AnimateImpl target = new AnimateImpl(combat, 60, 40, 20, 0);
+
+        first.attack(target);
+        second.attack(target);
+
+        combat.hit(first, target);
+        combat.hit(second, target);
+        combat.hit(first, target);
+
+        LooperContextMocker.update(combat, 0);
+
+        assertThat(target.isAlive(), equalTo(false));
+        assertThat(target.getAttributes().getFinalHP(), equalTo(60 - 30 - 50));
+        assertThat(target.damages, contains(30, 50));
+        assertThat(target.killer, sameInstance(second));
+        assertThat(target.died, equalTo(1));
+        assertThat(target.resolved, equalTo(1));
+        assertThat(first.isAttacking(), equalTo(false));
+        assertThat(second.isAttacking(), equalTo(false));
+    }
+
+    /* rolls the queued values, or zero which always lands */
+    private static class RollRandom extends Random {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Deque<Integer> rolls = new ArrayDeque<>();
+
+        @Override
+        public int nextInt(int bound) {
+            return rolls.isEmpty() ? 0 : rolls.poll();
+        }
+    }
+
+    private static class AnimateImpl extends Animate {
+        UUID instanceId = UUID.randomUUID();
+        Combat combat;
+        Position position;
+        Attributes attributes;
+        List<Integer> damages = new ArrayList<>();
+        Animate killer;
+        int died = 0;
+        int resolved = 0;
+
+        AnimateImpl(Combat combat, int hp, int attack, int defense, int critical) {
+            this.combat = combat;
+            this.position = Position.builder()
+                    .x(10)
+                    .z(10)
+                    .build();
+            this.attributes = Attributes.builder()
+                    .hp(hp)
+                    .mp(31)
+                    .attack(attack)
+                    .defense(defense)
+                    .magicDefense(34)
+                    .hitRate(35)
+                    .critical(critical)
+                    .dodgeRate(37)
+                    .attackSpeed(50)
+                    .moveSpeed(2)
+                    .hpRecovery(40)
+                    .mpRecovery(41)
+                    .attackRange(3)
+                    .build();
+        }
+
+        @Override
+        public UUID getId() {
+            return instanceId;
+        }
+
+        @Override
+        public UUID getInstanceId() {
+            return instanceId;
+        }
+
+        @Override
+        public String getName() {
+            return instanceId.toString();
+        }
+
+        @Override
+        public Position getPosition() {
+            return position;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        protected Combat getCombat() {
+            return combat;
+        }
+
+        @Override
+        protected void onDamage(int damage, Animate source) {
+            super.onDamage(damage, source);
+            damages.add(damage);
+        }
+
+        @Override
+        protected void onDie(Animate source) {
+            super.onDie(source);
+            killer = source;
+            died++;
+        }
+
+        @Override
+        protected void onCombatResolved() {
+            super.onCombatResolved();
+            resolved++;
+        }
+    }
+}
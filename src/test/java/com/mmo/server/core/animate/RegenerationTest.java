@@ -0,0 +1,164 @@
+package com.mmo.server.core.animate;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+public class RegenerationTest {
+
+    @Test
+    public void regenerateWoundedUntilFull() {
+        Regeneration regeneration = Regeneration.builder()
+                .period(1000L)
+                .build();
+
+        AnimateImpl wounded = new AnimateImpl(100, 50, 30, 20);
+        AnimateImpl full = new AnimateImpl(100, 50, 30, 20);
+
+        wounded.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 45);
+        wounded.getAttributes().modify(Attribute.MP, PropertyModifierAction.DECREMENT, 10);
+
+        regeneration.wound(wounded);
+        regeneration.wound(full);
+
+        regeneration.update(context(0L));
+        regeneration.update(context(999L));
+
+        assertThat(wounded.getAttributes().getFinalHP(), equalTo(55));
+
+        regeneration.update(context(1000L));
+
+        assertThat(wounded.getAttributes().getFinalHP(), equalTo(85));
+        assertThat(wounded.getAttributes().getFinalMP(), equalTo(50));
+        assertThat(regeneration.isWounded(wounded), equalTo(true));
+        assertThat(regeneration.isWounded(full), equalTo(false));
+
+        regeneration.update(context(2000L));
+
+        assertThat(wounded.getAttributes().getFinalHP(), equalTo(100));
+        assertThat(regeneration.getWoundedCount(), equalTo(0));
+    }
+
+    @Test
+    public void skipDead() {
+        Regeneration regeneration = Regeneration.builder()
+                .period(1000L)
+                .build();
+
+        AnimateImpl dead = new AnimateImpl(100, 50, 30, 20);
+
+        dead.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 100);
+
+        regeneration.wound(dead);
+        regeneration.update(context(0L));
+        regeneration.update(context(1000L));
+
+        assertThat(dead.getAttributes().getFinalHP(), equalTo(0));
+        assertThat(regeneration.getWoundedCount(), equalTo(0));
+    }
+
+    @Test
+    public void dropWithoutRecovery() {
+        Regeneration regeneration = Regeneration.builder()
+                .period(1000L)
+                .build();
+
+        AnimateImpl animate = new AnimateImpl(100, 50, 0, 0);
+
+        animate.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 45);
+
+        regeneration.wound(animate);
+        regeneration.update(context(0L));
+        regeneration.update(context(1000L));
+
+        assertThat(animate.getAttributes().getFinalHP(), equalTo(55));
+        assertThat(regeneration.getWoundedCount(), equalTo(0));
+    }
+
+    @Test
+    public void forget() {
+        Regeneration regeneration = Regeneration.builder()
+                .period(1000L)
+                .build();
+
+        AnimateImpl animate = new AnimateImpl(100, 50, 30, 20);
+
+        animate.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 45);
+
+        regeneration.wound(animate);
+        regeneration.forget(animate);
+        regeneration.update(context(0L));
+        regeneration.update(context(1000L));
+
+        assertThat(animate.getAttributes().getFinalHP(), equalTo(55));
+        assertThat(regeneration.isWounded(animate), equalTo(false));
+    }
+
+    private static LooperContext context(long tick) {
+        LooperContext context = mock(LooperContext.class);
+        when(context.getTick()).thenReturn(tick);
+
+        return context;
+    }
+
+    private static class AnimateImpl extends Animate {
+        UUID instanceId = UUID.randomUUID();
+        Attributes attributes;
+
+        AnimateImpl(int hp, int mp, int hpRecovery, int mpRecovery) {
+            this.attributes = Attributes.builder()
+                    .hp(hp)
+                    .mp(mp)
+                    .attack(42)
+                    .defense(33)
+                    .magicDefense(34)
+                    .hitRate(35)
+                    .critical(36)
+                    .dodgeRate(37)
+                    .attackSpeed(50)
+                    .moveSpeed(2)
+                    .hpRecovery(hpRecovery)
+                    .mpRecovery(mpRecovery)
+                    .attackRange(3)
+                    .build();
+        }
+
+        @Override
+        public UUID getId() {
+            return instanceId;
+        }
+
+        @Override
+        public UUID getInstanceId() {
+            return instanceId;
+        }
+
+        @Override
+        public String getName() {
+            return instanceId.toString();
+        }
+
+        @Override
+        public Position getPosition() {
+            return Position.builder()
+                    .x(0)
+                    .z(0)
+                    .build();
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.mmo.server.core.attribute;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.property.PropertyModifierAction;
+import com.mmo.server.core.stat.Stat;
+import com.mmo.server.core.stat.StatModifier;
+import com.mmo.server.core.stat.Stats;
+
+public class AttributeDerivationTest {
+
+    private static final AttributeDerivation derivation = AttributeDerivation.builder()
+            .derive(Attribute.ATTACK, Stat.STRENGTH, 50)
+            .derive(Attribute.ATTACK, Stat.DEXTERITY, 25)
+            .derive(Attribute.DODGE_RATE, Stat.DEXTERITY, 100)
+            .build();
+
+    @Test
+    public void compute() {
+        Stats stats = newStats();
+
+        assertThat(derivation.compute(Attribute.ATTACK, stats), equalTo(12));
+        assertThat(derivation.compute(Attribute.DODGE_RATE, stats), equalTo(8));
+        assertThat(derivation.compute(Attribute.DEFENSE, stats), equalTo(0));
+        assertThat(derivation.isDerived(Attribute.ATTACK), equalTo(true));
+        assertThat(derivation.isDerived(Attribute.DEFENSE), equalTo(false));
+        assertThat(derivation.getDependents(Stat.STRENGTH), equalTo(1L << Attribute.ATTACK.ordinal()));
+        assertThat(derivation.getDependents(Stat.CHARM), equalTo(0L));
+    }
+
+    @Test
+    public void deriveAffectedOnly() {
+        Stats stats = newStats();
+        Attributes attributes = newAttributes();
+
+        attributes.derive(derivation, stats);
+
+        assertThat(attributes.getAttack(), equalTo(11));
+        assertThat(attributes.getFinalAttack(), equalTo(23));
+        assertThat(attributes.getFinalDodgeRate(), equalTo(24));
+        assertThat(attributes.getFinalDefense(), equalTo(12));
+        assertThat(attributes.isChanged(Attribute.ATTACK), equalTo(true));
+        assertThat(attributes.isChanged(Attribute.DEFENSE), equalTo(false));
+
+        attributes.clearChanges();
+        attributes.derive(derivation, stats);
+
+        assertThat(attributes.getChanges(), equalTo(0L));
+
+        stats.modify(StatModifier.builder()
+                .action(PropertyModifierAction.INCREMENT)
+                .stat(Stat.STRENGTH)
+                .value(10)
+                .persisted(true)
+                .build());
+
+        attributes.derive(derivation, stats);
+
+        assertThat(stats.isChanged(Stat.STRENGTH), equalTo(true));
+        assertThat(attributes.getDerivedValue(Attribute.ATTACK), equalTo(17));
+        assertThat(attributes.getFinalAttack(), equalTo(28));
+        assertThat(attributes.isChanged(Attribute.ATTACK), equalTo(true));
+        assertThat(attributes.isChanged(Attribute.DODGE_RATE), equalTo(false));
+    }
+
+    private static Stats newStats() {
+        return Stats.builder()
+                .strength(20)
+                .dexterity(8)
+                .intelligence(5)
+                .concentration(5)
+                .sense(5)
+                .charm(5)
+                .build();
+    }
+
+    private static Attributes newAttributes() {
+        return Attributes.builder()
+                .hp(33)
+                .mp(10)
+                .attack(11)
+                .defense(12)
+                .magicDefense(13)
+                .hitRate(14)
+                .critical(15)
+                .dodgeRate(16)
+                .attackSpeed(17)
+                .moveSpeed(18)
+                .hpRecovery(19)
+                .mpRecovery(20)
+                .attackRange(21)
+                .build();
+    }
+}
@@ -3,8 +3,6 @@ package com.mmo.server.core.attribute;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
-import java.time.OffsetDateTime;
-
 import org.junit.jupiter.api.Test;
 
 import com.mmo.server.core.looper.LooperContextMocker;
@@ -41,7 +39,7 @@ public class AttributesTest {
                 .action(PropertyModifierAction.DECREMENT)
                 .attribute(Attribute.HP)
                 .value(5)
-                .expiration(OffsetDateTime.now().plusSeconds(2))
+                .expiration(LooperContextMocker.getDateTime().plusSeconds(2))
                 .persisted(true)
                 .build();
 
@@ -3,6 +3,8 @@ package com.mmo.server.core.game;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import org.mockito.Mockito;
+
 import com.mmo.server.core.map.Map;
 import com.mmo.server.core.map.Terrain;
 
@@ -11,20 +13,38 @@ public class GameRunnerMapMocker {
     private static Terrain terrain;
     private static Map map;
 
-    public static Map run() {
-        terrain = mock(Terrain.class);
-        map = mock(Map.class);
+    public static Map mock() {
+        terrain = Mockito.mock(Terrain.class);
+        map = Mockito.mock(Map.class);
 
         when(map.getTerrain()).thenReturn(terrain);
         when(terrain.isInsideForbiddenArea(anyInt(), anyInt())).thenReturn(false);
 
+        return map;
+    }
+
+    public static Map run() {
+        return run(mock());
+    }
+
+    /*
+     * Stubbing a mock while the game thread is calling it is not thread safe,
+     * so stub the map returned by mock() before running it
+     */
+    public static Map run(Map map) {
+        Game game = Game.getInstance();
+
         new Thread() {
             @Override
             public void run() {
-                Game.getInstance().run(map);
+                game.run(map);
             }
         }.start();
 
+        while (game.getMap() != map || !game.isRunning()) {
+            Thread.onSpinWait();
+        }
+
         return map;
     }
 
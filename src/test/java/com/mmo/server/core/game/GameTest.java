@@ -2,6 +2,7 @@ package com.mmo.server.core.game;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.concurrent.Executors;
@@ -28,6 +29,19 @@ public class GameTest {
         assertThat(game, notNullValue());
     }
 
+    @Test
+    public void step() {
+        Map map = mock(Map.class);
+        long time = game.getTime();
+
+        game.step(map);
+        game.step(map);
+
+        verify(map, times(2)).update(any());
+        assertThat(game.getMap(), equalTo(map));
+        assertThat(game.getTime(), equalTo(time + 16));
+    }
+
     @Test
     @Timeout(value = 5100, unit = TimeUnit.MILLISECONDS)
     public void runAndStop() throws InterruptedException {
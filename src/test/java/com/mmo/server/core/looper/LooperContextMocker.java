@@ -1,21 +1,68 @@
 package com.mmo.server.core.looper;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.timer.TimerWheel;
+
+/*
+ * Updates with a manual clock kept on the game time, which is what the
+ * animates read, so the time waited is exact and nobody sleeps
+ */
 public class LooperContextMocker {
 
+    private static ManualLooperClock clock;
+    private static TimerWheel timerWheel;
+
+    static {
+        reset();
+    }
+
+    /* starts over from the game time, dropping the timers of previous tests */
+    public static void reset() {
+        long time = Game.getInstance().getTime();
+
+        clock = ManualLooperClock.builder()
+                .startTime(time)
+                .build();
+
+        timerWheel = TimerWheel.builder()
+                .startTime(time)
+                .build();
+    }
+
+    /* never behind the game, which moves on its own when a test runs it */
+    public static long getTime() {
+        clock.advance(Math.max(Game.getInstance().getTime() - clock.getTime(), 0));
+
+        return clock.getTime();
+    }
+
+    public static OffsetDateTime getDateTime() {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(getTime()), ZoneOffset.UTC);
+    }
+
     public static void update(LooperUpdater updater, long millis) {
-        try {
-            Thread.sleep(millis);
-            long now = System.currentTimeMillis();
-            LooperContext context = mock(LooperContext.class);
-            when(context.getTick()).thenReturn(now);
-            when(context.getLag()).thenReturn(16L);
-            when(context.getDesiredLag()).thenReturn(16.0);
-            when(context.getMillisDuration()).thenReturn(System.currentTimeMillis() - now);
-            updater.update(context);
-        } catch (InterruptedException exception) {
-
-        }
+        clock.advance(getTime() - clock.getTime() + millis);
+
+        long now = clock.getTime();
+        LooperContext context = mock(LooperContext.class);
+        when(context.getTick()).thenReturn(now);
+        when(context.getLag()).thenReturn(16L);
+        when(context.getDesiredLag()).thenReturn(16.0);
+        when(context.getMillisDuration()).thenReturn(0L);
+        when(context.getClock()).thenReturn(clock);
+        when(context.getTimerWheel()).thenReturn(timerWheel);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(context).defer(any());
+        updater.update(context);
+        timerWheel.advance(now);
     }
 }
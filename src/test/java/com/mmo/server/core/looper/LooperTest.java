@@ -3,6 +3,8 @@ package com.mmo.server.core.looper;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -54,6 +56,127 @@ public class LooperTest {
         run(960, 1);
     }
 
+    @Test
+    public void stepWithManualClock() {
+        List<Long> ticks = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+
+        ManualLooperClock clock = ManualLooperClock.builder()
+                .startTime(1000L)
+                .build();
+
+        Looper looper = Looper.builder()
+                .fps(50)
+                .clock(clock)
+                .updater(context -> ticks.add(context.getTick()))
+                .renderer(context -> {
+                })
+                .build();
+
+        looper.getTimerWheel().schedule(1050L, timer -> fired.add(looper.getTime()));
+
+        for (int i = 0; i < 3; i++) {
+            looper.step();
+        }
+
+        assertThat(ticks, contains(1020L, 1040L, 1060L));
+        assertThat(fired, contains(1060L));
+        assertThat(looper.getTime(), equalTo(1060L));
+        assertThat(looper.getContext().getMillisDuration(), equalTo(-60L));
+        assertThat(clock.getTime(), equalTo(1000L));
+    }
+
+    @Test
+    public void stepIsDeterministic() {
+        assertThat(simulate(), equalTo(simulate()));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void shedLoadAndLowerRate() {
+        ManualLooperClock clock = ManualLooperClock.builder().build();
+        List<Long> steps = new ArrayList<>();
+        long[] lastTick = { 0 };
+        Looper[] looper = { null };
+
+        /* every update costs 30ms of clock while the step is only 10ms */
+        looper[0] = Looper.builder()
+                .fps(100)
+                .minFps(25)
+                .maxCatchUp(2)
+                .clock(clock)
+                .updater(context -> {
+                    steps.add(context.getTick() - lastTick[0]);
+                    lastTick[0] = context.getTick();
+                    clock.advance(30);
+
+                    if (steps.size() == 200) {
+                        looper[0].stop();
+                    }
+                })
+                .renderer(context -> clock.advance(1))
+                .build();
+
+        looper[0].run();
+
+        LooperMetrics metrics = looper[0].getMetrics();
+
+        assertThat(metrics.getSkippedUpdates(), greaterThan(0L));
+        assertThat(metrics.getDroppedMillis(), greaterThanOrEqualTo(metrics.getSkippedUpdates() * 10));
+        assertThat(clock.getTime() - looper[0].getTime(), greaterThanOrEqualTo(metrics.getDroppedMillis()));
+        assertThat(metrics.getSheddingFrames(), greaterThan(0L));
+        assertThat(metrics.getRateChanges(), greaterThanOrEqualTo(2L));
+        assertThat(metrics.getCurrentFps(), equalTo(25));
+        assertThat(looper[0].getContext().getDesiredLag(), equalTo(40.0));
+        assertThat(steps.get(steps.size() - 1), equalTo(40L));
+    }
+
+    @Test
+    public void runDeferredAfterUpdate() {
+        List<String> calls = new ArrayList<>();
+
+        Looper looper = Looper.builder()
+                .fps(50)
+                .clock(ManualLooperClock.builder().build())
+                .updater(context -> {
+                    calls.add("update");
+                    context.defer(() -> calls.add("deferred"));
+                })
+                .renderer(context -> calls.add("render"))
+                .build();
+
+        looper.step();
+        looper.step();
+
+        assertThat(calls, contains("update", "deferred", "render", "update", "deferred", "render"));
+        assertThat(looper.getMetrics().getDeferredTasks(), equalTo(2L));
+        assertThat(looper.getMetrics().getUpdates(), equalTo(2L));
+    }
+
+    private List<Long> simulate() {
+        List<Long> fired = new ArrayList<>();
+
+        Looper looper = Looper.builder()
+                .fps(120)
+                .clock(ManualLooperClock.builder().build())
+                .updater(context -> {
+                })
+                .renderer(context -> {
+                })
+                .build();
+
+        looper.getTimerWheel().schedule(100L, timer -> {
+            fired.add(looper.getTime());
+            timer.reschedule(timer.getDeadline() + 333);
+        });
+
+        for (int i = 0; i < 1000; i++) {
+            looper.step();
+        }
+
+        return fired;
+    }
+
     private void run(int fps, int durationInSeconds) {
         var updates = new ContextHandler();
         var renders = new ContextHandler();
@@ -2,7 +2,10 @@ package com.mmo.server.core.map;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +16,9 @@ import org.junit.jupiter.api.Test;
 
 import com.mmo.server.core.looper.LooperContext;
 import com.mmo.server.core.packet.Packet;
+import com.mmo.server.core.packet.PersistencePacket;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
 import com.mmo.server.infrastructure.server.TestPacket;
 
 import lombok.Data;
@@ -101,6 +107,30 @@ public class MapTest {
         assertThat(map.findEntity(entityA.getInstanceId(), Entity.class), equalTo(Optional.empty()));
         assertThat(map.findEntity(entityC.getInstanceId()), equalTo(Optional.empty()));
         assertThat(map.findEntity(entityC.getInstanceId(), Entity.class), equalTo(Optional.empty()));
+        assertThat(entityA.detached, equalTo(true));
+        assertThat(entityB.detached, equalTo(false));
+        assertThat(entityC.detached, equalTo(true));
+    }
+
+    @Test
+    public void forgetRemovedWounded() {
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(5)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f, 128.f, 128.f, 129.f, 130.f, 131.f))
+                        .build())
+                .build();
+
+        Player player = PlayerMocker.newPlayer();
+
+        map.addEntity(player);
+        map.getRegeneration().wound(player);
+        map.removeEntity(player);
+
+        assertThat(map.getRegeneration().isWounded(player), equalTo(false));
     }
 
     @Test
@@ -185,6 +215,62 @@ public class MapTest {
         assertThat(result.size(), equalTo(expected.length));
     }
 
+    @Test
+    public void findNearestEntity() {
+        Entity entityA = new Entity(Position.builder()
+                .x(12)
+                .z(14)
+                .build());
+
+        Entity entityB = new Entity(Position.builder()
+                .x(11)
+                .z(13)
+                .build());
+
+        SubEntity entityC = new SubEntity(Position.builder()
+                .x(14)
+                .z(17)
+                .build());
+
+        SubEntity entityD = new SubEntity(Position.builder()
+                .x(30)
+                .z(30)
+                .build());
+
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(5)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f, 128.f, 128.f, 129.f, 130.f, 131.f))
+                        .build())
+                .build();
+
+        map.addEntity(entityA);
+        map.addEntity(entityB);
+        map.addEntity(entityC);
+        map.addEntity(entityD);
+
+        Position center = Position.builder()
+                .x(10)
+                .z(12)
+                .build();
+
+        assertThat(map.findNearestEntity(center, 10, Entity.class, entity -> true), equalTo(Optional.of(entityB)));
+        assertThat(map.findNearestEntity(center, 10, Entity.class, entity -> entity != entityB),
+                equalTo(Optional.of(entityA)));
+        assertThat(map.findNearestEntity(center, 10, SubEntity.class, entity -> true), equalTo(Optional.of(entityC)));
+        assertThat(map.findNearestEntity(center, 0, Entity.class, entity -> true), equalTo(Optional.empty()));
+
+        assertThat(map.getEntities(SubEntity.class), containsInAnyOrder(entityC, entityD));
+        assertThat(map.getEntities(Entity.class), hasSize(4));
+
+        map.removeEntity(entityC);
+
+        assertThat(map.findNearestEntity(center, 10, SubEntity.class, entity -> true), equalTo(Optional.empty()));
+    }
+
     @Test
     public void sendPacket() {
         PacketDispatchSubscriber packetSubscriber = new PacketDispatchSubscriber();
@@ -241,11 +327,60 @@ public class MapTest {
         assertThat(packetSubscriber.getTarget(), is(Optional.of(expectedTarget)));
     }
 
+    @Test
+    public void deferPersistencePacket() {
+        PacketDispatchSubscriber packetSubscriber = new PacketDispatchSubscriber();
+
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(5)
+                .packetSubscribers(Set.of(packetSubscriber))
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f, 128.f, 128.f, 129.f, 130.f, 131.f))
+                        .build())
+                .build();
+
+        PersistencePacket expected = mock(PersistencePacket.class);
+        List<Runnable> deferred = new ArrayList<>();
+
+        LooperContext context = mock(LooperContext.class);
+        doAnswer(invocation -> deferred.add(invocation.getArgument(0))).when(context).defer(any());
+
+        map.dispatch(mock(PersistencePacket.class));
+        map.dispatch(expected);
+
+        assertThat(packetSubscriber.getPacket(), nullValue());
+
+        map.update(context);
+        map.update(context);
+
+        assertThat(packetSubscriber.getPacket(), nullValue());
+        assertThat(deferred, hasSize(1));
+
+        deferred.forEach(Runnable::run);
+
+        assertThat(packetSubscriber.getPacket(), is(expected));
+        assertThat(packetSubscriber.getTarget(), is(Optional.empty()));
+
+        deferred.clear();
+        map.update(context);
+
+        assertThat(deferred, hasSize(0));
+
+        map.dispatch(expected);
+        map.update(context);
+
+        assertThat(deferred, hasSize(1));
+    }
+
     private class Entity implements MapEntity {
 
         UUID instanceId = UUID.randomUUID();
         String name = UUID.randomUUID().toString();
         Position position;
+        boolean detached;
 
         public Entity(Position position) {
             this.position = position;
@@ -270,6 +405,11 @@ public class MapTest {
         public void update(LooperContext context) {
 
         }
+
+        @Override
+        public void detach() {
+            detached = true;
+        }
     }
 
     private class SubEntity extends Entity {
@@ -0,0 +1,45 @@
+package com.mmo.server.core.monster;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attributes;
+
+public class MonsterTemplateTest {
+
+    @Test
+    public void newAttributes() {
+        MonsterTemplate template = newTemplate(1000, 5);
+
+        Attributes first = template.newAttributes();
+        Attributes second = template.newAttributes();
+
+        assertThat(first, not(sameInstance(second)));
+        assertThat(first.getFinalHP(), equalTo(100));
+        assertThat(first.getFinalAttackSpeed(), equalTo(50));
+        assertThat(first.getFinalAttackRange(), equalTo(3));
+    }
+
+    static MonsterTemplate newTemplate(int aggroRange, int leashRange) {
+        return MonsterTemplate.builder()
+                .name("Wolf")
+                .hp(100)
+                .mp(20)
+                .attack(20)
+                .defense(5)
+                .magicDefense(5)
+                .hitRate(50)
+                .critical(0)
+                .dodgeRate(0)
+                .attackSpeed(50)
+                .moveSpeed(5)
+                .hpRecovery(10)
+                .mpRecovery(10)
+                .attackRange(3)
+                .aggroRange(aggroRange)
+                .leashRange(leashRange)
+                .build();
+    }
+}
@@ -0,0 +1,250 @@
+package com.mmo.server.core.monster;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+public class MonsterTest {
+
+    private static final int MAX_STEPS = 1000;
+
+    @Test
+    public void aggroNearbyPlayer() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(1000, 1000))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        Player player = newPlayer(5, 5);
+        map.addEntity(player);
+
+        Game.getInstance().step(map);
+
+        Monster monster = region.getMonsters().get(0);
+
+        stepUntil(map, () -> monster.getState() != MonsterState.IDLE);
+
+        assertThat(monster.getTargetAnimate().orElseThrow(), sameInstance(player));
+        assertThat(monster.getState(), isOneOf(MonsterState.AGGRO, MonsterState.CHASE));
+    }
+
+    @Test
+    public void ignoreDeadPlayer() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(1000, 1000))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        Player player = newPlayer(5, 5);
+        player.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 100);
+        map.addEntity(player);
+
+        Game game = Game.getInstance();
+        long until = game.getTime() + 2000;
+
+        while (game.getTime() < until) {
+            game.step(map);
+        }
+
+        Monster monster = region.getMonsters().get(0);
+
+        assertThat(monster.getState(), equalTo(MonsterState.IDLE));
+        assertThat(monster.isAttacking(), equalTo(false));
+    }
+
+    @Test
+    public void forgetPlayerLeavingMap() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(1000, 1000))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        Player player = newPlayer(5, 5);
+        map.addEntity(player);
+
+        Game.getInstance().step(map);
+
+        Monster monster = region.getMonsters().get(0);
+
+        stepUntil(map, () -> monster.getTargetAnimate().orElse(null) == player);
+
+        map.removeEntity(player);
+
+        stepUntil(map, () -> !monster.isAttacking());
+
+        assertThat(player.isAlive(), equalTo(true));
+        assertThat(monster.getState(), isOneOf(MonsterState.RETURN, MonsterState.IDLE));
+    }
+
+    @Test
+    public void returnHomeWhenLeashExceeded() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(1000, 10))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        map.addEntity(newPlayer(200, 200));
+
+        Game.getInstance().step(map);
+
+        Monster monster = region.getMonsters().get(0);
+        Position home = monster.getHome();
+
+        stepUntil(map, () -> monster.getState() == MonsterState.CHASE);
+        stepUntil(map, () -> monster.getState() == MonsterState.RETURN);
+
+        assertThat(monster.isAttacking(), equalTo(false));
+        assertThat(monster.isAwake(), equalTo(true));
+        assertThat(home.isNearby(monster.getPosition(), 10), equalTo(false));
+
+        stepUntil(map, () -> monster.getState() == MonsterState.IDLE);
+
+        assertThat(monster.getPosition(), equalTo(home));
+    }
+
+    @Test
+    public void restAfterReturning() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(1000, 1000))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        Player player = newPlayer(5, 5);
+        map.addEntity(player);
+
+        Game.getInstance().step(map);
+
+        Monster monster = region.getMonsters().get(0);
+
+        stepUntil(map, () -> monster.getState() != MonsterState.IDLE);
+
+        monster.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 40);
+        player.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 100);
+
+        stepUntil(map, () -> monster.getState() == MonsterState.IDLE);
+
+        assertThat(monster.getAttributes().getFinalHP(), equalTo(100));
+        assertThat(monster.isAttacking(), equalTo(false));
+    }
+
+    @Test
+    public void switchToHighestThreat() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(1000, 1000))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        Player near = newPlayer(5, 5);
+        Player far = newPlayer(300, 300);
+        map.addEntity(near);
+        map.addEntity(far);
+
+        Game.getInstance().step(map);
+
+        Monster monster = region.getMonsters().get(0);
+
+        stepUntil(map, () -> monster.getTargetAnimate().orElse(null) == near);
+
+        monster.onDamage(10, near);
+        monster.onDamage(50, far);
+
+        stepUntil(map, () -> monster.getTargetAnimate().orElse(null) == far);
+
+        assertThat(monster.getThreats().getTop().orElseThrow(), sameInstance(far));
+        assertThat(monster.isAttacking(), equalTo(true));
+
+        map.removeEntity(far);
+
+        stepUntil(map, () -> monster.getTargetAnimate().orElse(null) == near);
+
+        assertThat(monster.getThreats().getThreat(far), equalTo(0L));
+    }
+
+    @Test
+    public void provokedFromAfar() {
+        SpawnRegion region = SpawnRegion.builder()
+                .area(SpawnRegionTest.rectangle(0, 0, 10, 10))
+                .template(MonsterTemplateTest.newTemplate(20, 1000))
+                .count(1)
+                .build();
+
+        Map map = SpawnRegionTest.newMap(region, Set.of());
+        Player player = newPlayer(300, 300);
+        map.addEntity(player);
+
+        Game.getInstance().step(map);
+
+        Monster monster = region.getMonsters().get(0);
+
+        assertThat(monster.getState(), equalTo(MonsterState.IDLE));
+        assertThat(monster.isAwake(), equalTo(false));
+
+        monster.onDamage(10, player);
+
+        assertThat(monster.isAwake(), equalTo(true));
+
+        stepUntil(map, () -> monster.getState() != MonsterState.IDLE);
+
+        assertThat(monster.getTargetAnimate().orElseThrow(), sameInstance(player));
+        assertThat(monster.getState(), equalTo(MonsterState.CHASE));
+    }
+
+    private static void stepUntil(Map map, BooleanSupplier condition) {
+        Game game = Game.getInstance();
+
+        for (int step = 0; step < MAX_STEPS && !condition.getAsBoolean(); step++) {
+            game.step(map);
+        }
+
+        assertThat(condition.getAsBoolean(), equalTo(true));
+    }
+
+    private static Player newPlayer(int x, int z) {
+        return PlayerMocker.builder()
+                .position(Position.builder()
+                        .x(x)
+                        .z(z)
+                        .build())
+                .attributes(Attributes.builder()
+                        .hp(100)
+                        .mp(31)
+                        .attack(1)
+                        .defense(1000)
+                        .magicDefense(34)
+                        .hitRate(35)
+                        .critical(0)
+                        .dodgeRate(37)
+                        .attackSpeed(50)
+                        .moveSpeed(2)
+                        .hpRecovery(0)
+                        .mpRecovery(0)
+                        .attackRange(3)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.mmo.server.core.monster;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Terrain;
+import com.mmo.server.core.math.Rectangle;
+import com.mmo.server.core.math.Vertex;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+public class SpawnRegionTest {
+
+    @Test
+    public void spawnInsideArea() {
+        SpawnRegion region = newRegion(5, 30000L);
+        Map map = newMap(region, Set.of());
+
+        Game.getInstance().step(map);
+
+        assertThat(region.getMonsters(), hasSize(5));
+        assertThat(region.getAliveCount(), equalTo(5));
+        assertThat(map.getEntities(), hasSize(5));
+
+        for (Monster monster : region.getMonsters()) {
+            assertThat(region.getArea().intersects(monster.getPosition()), equalTo(true));
+            assertThat(monster.getHome(), equalTo(monster.getPosition()));
+            assertThat(monster.getState(), equalTo(MonsterState.IDLE));
+        }
+    }
+
+    @Test
+    public void avoidForbiddenArea() {
+        Rectangle forbidden = rectangle(0, 0, 100, 100);
+        SpawnRegion region = newRegion(3, 30000L);
+        Map map = newMap(region, Set.of(forbidden));
+
+        Game.getInstance().step(map);
+
+        Vertex center = region.getArea().getCenter();
+
+        for (Monster monster : region.getMonsters()) {
+            assertThat(monster.getPosition().getX(), equalTo(center.getX()));
+            assertThat(monster.getPosition().getZ(), equalTo(center.getZ()));
+        }
+    }
+
+    @Test
+    public void respawnFromPool() {
+        SpawnRegion region = newRegion(2, 100L);
+        Map map = newMap(region, Set.of());
+        Game game = Game.getInstance();
+
+        game.step(map);
+
+        List<Monster> monsters = region.getMonsters();
+        Monster killed = monsters.get(0);
+        Monster killer = monsters.get(1);
+
+        killed.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 100);
+        killed.onDie(killer);
+
+        assertThat(killed.isDead(), equalTo(true));
+        assertThat(region.getAliveCount(), equalTo(1));
+        assertThat(map.findEntity(killed.getInstanceId()).isPresent(), equalTo(false));
+
+        long respawnTime = killed.getDiedAt() + 100;
+
+        while (game.getTime() < respawnTime) {
+            game.step(map);
+        }
+
+        assertThat(region.getMonsters(), contains(killed, killer));
+        assertThat(region.getAliveCount(), equalTo(2));
+        assertThat(killed.getState(), equalTo(MonsterState.IDLE));
+        assertThat(killed.getAttributes().getFinalHP(), equalTo(100));
+        assertThat(map.getEntity(killed.getInstanceId()), sameInstance(killed));
+    }
+
+    static SpawnRegion newRegion(int count, long respawnDelay) {
+        return SpawnRegion.builder()
+                .area(rectangle(0, 0, 100, 100))
+                .template(MonsterTemplateTest.newTemplate(1000, 5))
+                .count(count)
+                .respawnDelay(respawnDelay)
+                .build();
+    }
+
+    static Map newMap(SpawnRegion region, Set<Rectangle> forbiddenAreas) {
+        return Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(5)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f))
+                        .forbiddenAreas(forbiddenAreas)
+                        .build())
+                .spawnRegions(List.of(region))
+                .build();
+    }
+
+    static Rectangle rectangle(int left, int bottom, int right, int top) {
+        return Rectangle.builder()
+                .bottomLeftVertex(new Vertex(left, bottom))
+                .bottomRightVertex(new Vertex(right, bottom))
+                .topLeftVertex(new Vertex(left, top))
+                .topRightVertex(new Vertex(right, top))
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.mmo.server.core.monster;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.animate.Animate;
+import com.mmo.server.core.attribute.Attribute;
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.property.PropertyModifierAction;
+
+public class ThreatTableTest {
+
+    @Test
+    public void topIsHighestThreat() {
+        ThreatTable table = ThreatTable.builder().build();
+        AnimateImpl first = new AnimateImpl();
+        AnimateImpl second = new AnimateImpl();
+        AnimateImpl third = new AnimateImpl();
+
+        assertThat(table.getTop(), equalTo(Optional.empty()));
+
+        table.add(first, 10);
+        table.add(second, 30);
+        table.add(third, 20);
+
+        assertThat(table.getTop(), equalTo(Optional.of(second)));
+        assertThat(table.getSize(), equalTo(3));
+
+        table.add(first, 25);
+
+        assertThat(table.getTop(), equalTo(Optional.of(first)));
+        assertThat(table.getThreat(first), equalTo(35L));
+        assertThat(table.getThreat(new AnimateImpl()), equalTo(0L));
+    }
+
+    @Test
+    public void remove() {
+        ThreatTable table = ThreatTable.builder().build();
+        AnimateImpl first = new AnimateImpl();
+        AnimateImpl second = new AnimateImpl();
+        AnimateImpl third = new AnimateImpl();
+
+        table.add(first, 10);
+        table.add(second, 30);
+        table.add(third, 20);
+
+        table.remove(second);
+
+        assertThat(table.getTop(), equalTo(Optional.of(third)));
+        assertThat(table.getSize(), equalTo(2));
+
+        table.remove(second);
+        table.remove(third);
+        table.remove(first);
+
+        assertThat(table.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void decay() {
+        ThreatTable table = ThreatTable.builder()
+                .decay(10)
+                .build();
+
+        AnimateImpl first = new AnimateImpl();
+        AnimateImpl second = new AnimateImpl();
+
+        table.add(first, 100);
+        table.add(second, 1);
+        table.update(1000L);
+        table.update(1999L);
+
+        assertThat(table.getThreat(first), equalTo(100L));
+
+        table.update(3000L);
+
+        assertThat(table.getThreat(first), equalTo(81L));
+        assertThat(table.getThreat(second), equalTo(0L));
+        assertThat(table.getSize(), equalTo(1));
+    }
+
+    @Test
+    public void purge() {
+        ThreatTable table = ThreatTable.builder().build();
+        AnimateImpl first = new AnimateImpl();
+        AnimateImpl second = new AnimateImpl();
+        AnimateImpl third = new AnimateImpl();
+
+        table.add(first, 10);
+        table.add(second, 30);
+        table.add(third, 20);
+
+        second.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 100);
+        table.purge(source -> !source.isAlive());
+
+        assertThat(table.getTop(), equalTo(Optional.of(third)));
+        assertThat(table.getSize(), equalTo(2));
+        assertThat(table.getThreat(second), equalTo(0L));
+    }
+
+    @Test
+    public void keepOrderUnderRandomChanges() {
+        ThreatTable table = ThreatTable.builder().build();
+        IdentityHashMap<Animate, Long> expected = new IdentityHashMap<>();
+        List<AnimateImpl> sources = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int index = 0; index < 50; index++) {
+            sources.add(new AnimateImpl());
+        }
+
+        for (int operation = 0; operation < 5000; operation++) {
+            AnimateImpl source = sources.get(random.nextInt(sources.size()));
+
+            if (random.nextInt(4) == 0) {
+                table.remove(source);
+                expected.remove(source);
+            } else {
+                int threat = 1 + random.nextInt(100);
+                table.add(source, threat);
+                expected.merge(source, (long) threat, Long::sum);
+            }
+
+            long max = expected.values().stream().mapToLong(Long::longValue).max().orElse(0);
+
+            assertThat(table.getSize(), equalTo(expected.size()));
+            assertThat(table.getTop().map(table::getThreat).orElse(0L), equalTo(max));
+        }
+    }
+
+    private static class AnimateImpl extends Animate {
+
+        UUID instanceId = UUID.randomUUID();
+        Position position = new Position(0, 0);
+        Attributes attributes = Attributes.builder()
+                .hp(100)
+                .mp(100)
+                .attack(0)
+                .defense(0)
+                .magicDefense(0)
+                .hitRate(0)
+                .critical(0)
+                .dodgeRate(0)
+                .attackSpeed(100)
+                .moveSpeed(1)
+                .hpRecovery(0)
+                .mpRecovery(0)
+                .attackRange(1)
+                .build();
+
+        @Override
+        public UUID getId() {
+            return instanceId;
+        }
+
+        @Override
+        public UUID getInstanceId() {
+            return instanceId;
+        }
+
+        @Override
+        public String getName() {
+            return "animate";
+        }
+
+        @Override
+        public Position getPosition() {
+            return position;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public void update(LooperContext context) {
+
+        }
+    }
+}
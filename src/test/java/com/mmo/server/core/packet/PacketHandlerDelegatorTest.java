@@ -3,6 +3,8 @@ package com.mmo.server.core.packet;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -37,4 +39,37 @@ public class PacketHandlerDelegatorTest {
 
         assertThat(handler.getPacket(), equalTo(packet));
     }
+
+    @Test
+    public void enqueueAndDrain() {
+        TestPacketHandler handler = new TestPacketHandler();
+
+        PacketHandlerDelegator delegator = PacketHandlerDelegator.getInstance();
+        delegator.bind(TestPacket.class, handler);
+        delegator.enqueue(packet);
+
+        assertThat(handler.getPacket(), nullValue());
+        assertThat(delegator.drain(), equalTo(1));
+        assertThat(handler.getPacket(), equalTo(packet));
+        assertThat(delegator.drain(), equalTo(0));
+    }
+
+    @Test
+    public void drainKeepsGoingAfterFailingHandler() {
+        List<TestPacket> handled = new ArrayList<>();
+
+        PacketHandlerDelegator delegator = PacketHandlerDelegator.getInstance();
+        delegator.bind(TestPacket.class, value -> {
+            handled.add(value);
+
+            if (handled.size() == 1) {
+                throw new IllegalStateException("Failed on purpose");
+            }
+        });
+        delegator.enqueue(packet);
+        delegator.enqueue(packet);
+
+        assertThat(delegator.drain(), equalTo(2));
+        assertThat(handled, hasSize(2));
+    }
 }
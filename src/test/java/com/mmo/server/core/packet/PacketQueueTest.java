@@ -0,0 +1,112 @@
+package com.mmo.server.core.packet;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.mmo.server.infrastructure.server.TestPacket;
+
+public class PacketQueueTest {
+
+    @Test
+    public void offerAndPollInOrder() {
+        PacketQueue queue = new PacketQueue();
+        TestPacket first = newPacket(UUID.randomUUID(), 1);
+        TestPacket second = newPacket(UUID.randomUUID(), 2);
+
+        assertThat(queue.isEmpty(), equalTo(true));
+        assertThat(queue.poll(), nullValue());
+
+        queue.offer(first);
+        queue.offer(second);
+
+        assertThat(queue.isEmpty(), equalTo(false));
+        assertThat(queue.poll(), equalTo(first));
+        assertThat(queue.poll(), equalTo(second));
+        assertThat(queue.poll(), nullValue());
+        assertThat(queue.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void drainOnlyWhatWasQueued() {
+        PacketQueue queue = new PacketQueue();
+        List<Packet> drained = new ArrayList<>();
+
+        queue.offer(newPacket(UUID.randomUUID(), 1));
+        queue.offer(newPacket(UUID.randomUUID(), 2));
+
+        int count = queue.drain(packet -> {
+            drained.add(packet);
+            queue.offer(newPacket(UUID.randomUUID(), 3));
+        });
+
+        assertThat(count, equalTo(2));
+        assertThat(drained, hasSize(2));
+        assertThat(queue.drain(drained::add), equalTo(2));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void keepProducerOrderWithConcurrentProducers() throws InterruptedException {
+        int producers = 4;
+        int packets = 20000;
+
+        PacketQueue queue = new PacketQueue();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        List<UUID> sources = new ArrayList<>();
+
+        for (int i = 0; i < producers; i++) {
+            UUID source = UUID.randomUUID();
+            sources.add(source);
+
+            executor.execute(() -> {
+                for (int j = 0; j < packets; j++) {
+                    queue.offer(newPacket(source, j));
+                }
+
+                latch.countDown();
+            });
+        }
+
+        HashMap<UUID, Integer> last = new HashMap<>();
+        int[] received = { 0 };
+
+        while (received[0] < producers * packets) {
+            queue.drain(packet -> {
+                TestPacket testPacket = (TestPacket) packet;
+                int previous = last.getOrDefault(testPacket.getSource(), -1);
+
+                assertThat(testPacket.getProperty2(), equalTo(previous + 1));
+
+                last.put(testPacket.getSource(), testPacket.getProperty2());
+                received[0]++;
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(queue.isEmpty(), equalTo(true));
+        sources.forEach(source -> assertThat(last.get(source), equalTo(packets - 1)));
+    }
+
+    private static TestPacket newPacket(UUID source, int sequence) {
+        return TestPacket.builder()
+                .source(source)
+                .property1("prop")
+                .property2(sequence)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.mmo.server.core.player;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.game.Game;
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Terrain;
+import com.mmo.server.core.packet.PlayerPersistPacket;
+
+public class PlayerCheckpointTest {
+
+    @Test
+    public void persistDirtyPlayersOncePerInterval() {
+        List<Player> persisted = new ArrayList<>();
+        PlayerCheckpoint checkpoint = PlayerCheckpoint.builder()
+                .interval(1000L)
+                .build();
+
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(5)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f))
+                        .build())
+                .checkpoint(checkpoint)
+                .packetSubscribers(Set.of((packet, target) -> {
+                    if (packet instanceof PlayerPersistPacket) {
+                        persisted.add(((PlayerPersistPacket) packet).getPlayer());
+                    }
+                }))
+                .build();
+
+        Player moved = PlayerMocker.newPlayer();
+        Player idle = PlayerMocker.newPlayer();
+        map.addEntity(moved);
+        map.addEntity(idle);
+
+        Game game = Game.getInstance();
+        game.step(map);
+
+        moved.getPosition().teleport(60, 10);
+
+        long until = game.getTime() + 1000;
+
+        while (game.getTime() < until) {
+            game.step(map);
+        }
+
+        game.step(map);
+
+        assertThat(persisted, contains(moved));
+        assertThat(checkpoint.getLastCheckpointed(), equalTo(1));
+        assertThat(moved.isDirty(), equalTo(false));
+
+        until = game.getTime() + 1000;
+
+        while (game.getTime() < until) {
+            game.step(map);
+        }
+
+        game.step(map);
+
+        assertThat(persisted, contains(moved));
+        assertThat(checkpoint.getLastCheckpointed(), equalTo(0));
+        assertThat(checkpoint.getCheckpointed(), equalTo(1L));
+    }
+}
@@ -0,0 +1,64 @@
+package com.mmo.server.core.player;
+
+import java.util.UUID;
+
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.stat.Stats;
+
+public class PlayerMocker {
+
+    public static Player newPlayer() {
+        return builder().build();
+    }
+
+    public static Player newPlayer(String name) {
+        return builder()
+                .name(name)
+                .build();
+    }
+
+    public static Player newPlayer(int x, int z) {
+        return builder()
+                .position(Position.builder()
+                        .x(x)
+                        .z(z)
+                        .build())
+                .build();
+    }
+
+    /* a player with a unique name, which tests complete or override */
+    public static Player.PlayerBuilder builder() {
+        return Player.builder()
+                .userId(UUID.randomUUID())
+                .instanceId(UUID.randomUUID())
+                .name("PlayerName-" + UUID.randomUUID())
+                .position(Position.builder()
+                        .x(50)
+                        .z(10)
+                        .build())
+                .stats(Stats.builder()
+                        .strength(10)
+                        .dexterity(11)
+                        .intelligence(12)
+                        .concentration(13)
+                        .sense(14)
+                        .charm(15)
+                        .build())
+                .attributes(Attributes.builder()
+                        .hp(100)
+                        .mp(31)
+                        .attack(42)
+                        .defense(33)
+                        .magicDefense(34)
+                        .hitRate(35)
+                        .critical(36)
+                        .dodgeRate(37)
+                        .attackSpeed(38)
+                        .moveSpeed(2)
+                        .hpRecovery(40)
+                        .mpRecovery(41)
+                        .attackRange(3)
+                        .build());
+    }
+}
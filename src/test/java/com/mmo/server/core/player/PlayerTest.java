@@ -1,8 +1,11 @@
 package com.mmo.server.core.player;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Random;
 import java.util.UUID;
 
 import org.junit.jupiter.api.AfterAll;
@@ -11,12 +14,16 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import com.mmo.server.core.animate.Animate;
+import com.mmo.server.core.animate.Combat;
+import com.mmo.server.core.attribute.Attribute;
 import com.mmo.server.core.attribute.Attributes;
 import com.mmo.server.core.game.GameRunnerMapMocker;
+import com.mmo.server.core.looper.LooperContextMocker;
 import com.mmo.server.core.map.Map;
 import com.mmo.server.core.map.Position;
 import com.mmo.server.core.packet.PlayerPersistPacket;
 import com.mmo.server.core.packet.PlayerUpdatePacket;
+import com.mmo.server.core.property.PropertyModifierAction;
 import com.mmo.server.core.stat.Stats;
 
 public class PlayerTest {
@@ -26,7 +33,12 @@ public class PlayerTest {
 
     @BeforeAll
     public static void setup() {
-        player = Player.builder()
+        player = newPlayer();
+        map = GameRunnerMapMocker.run();
+    }
+
+    private static Player newPlayer() {
+        return Player.builder()
                 .userId(UUID.randomUUID())
                 .instanceId(UUID.randomUUID())
                 .name("PlayerName-" + UUID.randomUUID())
@@ -58,8 +70,6 @@ public class PlayerTest {
                         .attackRange(3)
                         .build())
                 .build();
-
-        map = GameRunnerMapMocker.run();
     }
 
     @AfterAll
@@ -95,4 +105,86 @@ public class PlayerTest {
 
         verify(map).dispatch(any(PlayerPersistPacket.class));
     }
+
+    @Test
+    public void checkpointOnlyWhenDirty() {
+        Player player = newPlayer();
+
+        assertThat(player.isDirty(), equalTo(false));
+        assertThat(player.checkpoint(), equalTo(false));
+
+        verify(map, never()).dispatch(any(PlayerPersistPacket.class));
+
+        player.getPosition().teleport(51, 10);
+
+        assertThat(player.isDirty(), equalTo(true));
+        assertThat(player.checkpoint(), equalTo(true));
+        assertThat(player.isDirty(), equalTo(false));
+
+        verify(map, times(1)).dispatch(any(PlayerPersistPacket.class));
+
+        player.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 1);
+
+        assertThat(player.isDirty(), equalTo(true));
+    }
+
+    @Test
+    public void checkpointKeepsNetworkChanges() {
+        Player player = newPlayer();
+
+        player.getAttributes().clearChanges();
+        player.getAttributes().modify(Attribute.HP, PropertyModifierAction.DECREMENT, 1);
+
+        assertThat(player.checkpoint(), equalTo(true));
+        assertThat(player.isDirty(), equalTo(false));
+        assertThat(player.getAttributes().isChanged(Attribute.HP), equalTo(true));
+
+        player.getAttributes().clearChanges();
+
+        assertThat(player.isDirty(), equalTo(false));
+    }
+
+    @Test
+    public void combatDispatchOneUpdatePacket() {
+        Player target = newPlayer();
+        Animate attacker = mock(Animate.class);
+        when(attacker.getAttributes()).thenReturn(Attributes.builder()
+                .hp(30)
+                .mp(31)
+                .attack(40)
+                .defense(33)
+                .magicDefense(34)
+                .hitRate(35)
+                .critical(0)
+                .dodgeRate(37)
+                .attackSpeed(38)
+                .moveSpeed(2)
+                .hpRecovery(40)
+                .mpRecovery(41)
+                .attackRange(3)
+                .build());
+
+        Combat combat = Combat.builder()
+                .random(new Random() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public int nextInt(int bound) {
+                        return 0;
+                    }
+                })
+                .build();
+
+        combat.hit(attacker, target);
+        combat.hit(attacker, target);
+
+        LooperContextMocker.update(combat, 0);
+
+        verify(map, never()).dispatch(any(PlayerUpdatePacket.class));
+
+        LooperContextMocker.update(target, 0);
+
+        verify(map, times(1)).dispatch(any(PlayerUpdatePacket.class));
+        verify(map, never()).dispatch(any(PlayerPersistPacket.class));
+    }
 }
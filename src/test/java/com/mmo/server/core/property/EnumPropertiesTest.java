@@ -0,0 +1,184 @@
+package com.mmo.server.core.property;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.looper.LooperContextMocker;
+
+public class EnumPropertiesTest {
+
+    private enum Key {
+        STR, DEX
+    }
+
+    @Test
+    public void getValues() {
+        EnumProperties<Key> properties = EnumProperties.builder(Key.class)
+                .add(Key.STR, 20)
+                .add(Key.DEX, 89)
+                .build();
+
+        assertThat(properties.getValue(Key.STR), equalTo(20));
+        assertThat(properties.getFinalValue(Key.STR), equalTo(20));
+        assertThat(properties.getValue(Key.DEX), equalTo(89));
+        assertThat(properties.getFinalValue(Key.DEX), equalTo(89));
+        assertThat(properties.getModifiers(Key.STR), empty());
+    }
+
+    @Test
+    public void buildThrowsExceptionWhenMissing() {
+        assertThrows(PropertyNotFoundException.class, () -> EnumProperties.builder(Key.class)
+                .add(Key.STR, 20)
+                .build());
+    }
+
+    @Test
+    public void modify() {
+        EnumProperties<Key> properties = EnumProperties.builder(Key.class)
+                .add(Key.STR, 34)
+                .add(Key.DEX, 257)
+                .build();
+
+        PropertyModifier incrementStr15 = PropertyModifier.builder()
+                .action(PropertyModifierAction.INCREMENT)
+                .value(15)
+                .persisted(true)
+                .build();
+
+        PropertyModifier decrementStr5 = PropertyModifier.builder()
+                .action(PropertyModifierAction.DECREMENT)
+                .value(5)
+                .expiration(LooperContextMocker.getTime() + 2000)
+                .persisted(true)
+                .build();
+
+        PropertyModifier decrementStr = PropertyModifier.builder()
+                .action(PropertyModifierAction.DECREMENT)
+                .value(1)
+                .build();
+
+        properties.modify(Key.STR, incrementStr15);
+        properties.modify(Key.STR, decrementStr5);
+        properties.modify(Key.STR, decrementStr);
+
+        assertThat(properties.getValue(Key.STR), equalTo(34));
+        assertThat(properties.getFinalValue(Key.STR), equalTo(43));
+        assertThat(properties.getModifiers(Key.STR), containsInAnyOrder(incrementStr15, decrementStr5));
+        assertThat(properties.getFinalValue(Key.DEX), equalTo(257));
+        assertThat(properties.getModifiers(Key.DEX), empty());
+
+        LooperContextMocker.update(properties, 5000);
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(48));
+        assertThat(properties.getModifiers(Key.STR), contains(incrementStr15));
+    }
+
+    @Test
+    public void detach() {
+        EnumProperties<Key> properties = EnumProperties.builder(Key.class)
+                .add(Key.STR, 34)
+                .add(Key.DEX, 257)
+                .build();
+
+        PropertyModifier decrementStr5 = PropertyModifier.builder()
+                .action(PropertyModifierAction.DECREMENT)
+                .value(5)
+                .expiration(LooperContextMocker.getTime() + 2000)
+                .persisted(true)
+                .build();
+
+        properties.modify(Key.STR, decrementStr5);
+
+        LooperContextMocker.update(properties, 0);
+        properties.detach();
+        LooperContextMocker.update(context -> {
+        }, 5000);
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(29));
+
+        LooperContextMocker.update(properties, 0);
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(34));
+        assertThat(properties.getModifiers(Key.STR), empty());
+    }
+
+    @Test
+    public void reset() {
+        EnumProperties<Key> properties = EnumProperties.builder(Key.class)
+                .add(Key.STR, 34)
+                .add(Key.DEX, 257)
+                .build();
+
+        PropertyModifier incrementStr15 = PropertyModifier.builder()
+                .action(PropertyModifierAction.INCREMENT)
+                .value(15)
+                .persisted(true)
+                .build();
+
+        properties.modify(Key.STR, incrementStr15);
+        properties.modify(Key.DEX, PropertyModifierAction.DECREMENT, 57);
+        properties.derive(Key.STR, 6);
+        properties.clearChanges();
+
+        properties.reset();
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(34));
+        assertThat(properties.getFinalValue(Key.DEX), equalTo(257));
+        assertThat(properties.getDerivedValue(Key.STR), equalTo(0));
+        assertThat(properties.getModifiers(Key.STR), empty());
+        assertThat(properties.isChanged(Key.STR), equalTo(true));
+        assertThat(properties.isChanged(Key.DEX), equalTo(true));
+        assertThat(properties.getUnsavedChanges(), equalTo(properties.getChanges()));
+    }
+
+    @Test
+    public void clearChangesApart() {
+        EnumProperties<Key> properties = EnumProperties.builder(Key.class)
+                .add(Key.STR, 34)
+                .add(Key.DEX, 57)
+                .build();
+
+        properties.modify(Key.STR, PropertyModifierAction.DECREMENT, 4);
+        properties.clearChanges();
+
+        assertThat(properties.getChanges(), equalTo(0L));
+        assertThat(properties.getUnsavedChanges(), equalTo(1L << Key.STR.ordinal()));
+
+        properties.modify(Key.DEX, PropertyModifierAction.DECREMENT, 4);
+        properties.clearUnsavedChanges();
+
+        assertThat(properties.getChanges(), equalTo(1L << Key.DEX.ordinal()));
+        assertThat(properties.getUnsavedChanges(), equalTo(0L));
+    }
+
+    @Test
+    public void percentDoesNotScaleDeltas() {
+        EnumProperties<Key> properties = EnumProperties.builder(Key.class)
+                .add(Key.STR, 100)
+                .add(Key.DEX, 257)
+                .build();
+
+        PropertyModifier percentStr50 = PropertyModifier.builder()
+                .action(PropertyModifierAction.PERCENT)
+                .value(50)
+                .expiration(LooperContextMocker.getTime() + 2000)
+                .persisted(true)
+                .build();
+
+        properties.modify(Key.STR, percentStr50);
+        properties.modify(Key.STR, PropertyModifierAction.DECREMENT, 100);
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(50));
+
+        properties.modify(Key.STR, PropertyModifierAction.INCREMENT, 20);
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(70));
+
+        LooperContextMocker.update(properties, 5000);
+
+        assertThat(properties.getFinalValue(Key.STR), equalTo(20));
+    }
+}
@@ -0,0 +1,92 @@
+package com.mmo.server.core.property;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mmo.server.core.attribute.Attribute;
+
+/*
+ * Compares the map backed Properties with the array backed EnumProperties
+ * on the getters read by every move and attack update, run with:
+ * mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.mmo.server.core.property.PropertiesBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesBenchmark {
+
+    private Properties properties;
+    private EnumProperties<Attribute> enumProperties;
+
+    @Setup
+    public void setup() {
+        Properties.PropertiesBuilder propertiesBuilder = Properties.builder();
+        EnumProperties.EnumPropertiesBuilder<Attribute> enumPropertiesBuilder = EnumProperties.builder(Attribute.class);
+
+        for (Attribute attribute : Attribute.values()) {
+            int value = 100 + attribute.ordinal() * 10;
+
+            propertiesBuilder.add(Property.builder()
+                    .name(attribute.name())
+                    .value(value)
+                    .build());
+
+            enumPropertiesBuilder.add(attribute, value);
+        }
+
+        properties = propertiesBuilder.build();
+        enumProperties = enumPropertiesBuilder.build();
+    }
+
+    @Benchmark
+    public int propertiesFinalMoveSpeed() {
+        return properties.getFinalValue(Attribute.MOVE_SPEED.name());
+    }
+
+    @Benchmark
+    public int enumPropertiesFinalMoveSpeed() {
+        return enumProperties.getFinalValue(Attribute.MOVE_SPEED);
+    }
+
+    @Benchmark
+    public int propertiesAttackUpdate() {
+        return properties.getFinalValue(Attribute.ATTACK.name())
+                - properties.getFinalValue(Attribute.DEFENSE.name())
+                + properties.getFinalValue(Attribute.ATTACK_SPEED.name())
+                + properties.getFinalValue(Attribute.ATTACK_RANGE.name())
+                + properties.getFinalValue(Attribute.HP.name());
+    }
+
+    @Benchmark
+    public int enumPropertiesAttackUpdate() {
+        return enumProperties.getFinalValue(Attribute.ATTACK)
+                - enumProperties.getFinalValue(Attribute.DEFENSE)
+                + enumProperties.getFinalValue(Attribute.ATTACK_SPEED)
+                + enumProperties.getFinalValue(Attribute.ATTACK_RANGE)
+                + enumProperties.getFinalValue(Attribute.HP);
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PropertiesBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
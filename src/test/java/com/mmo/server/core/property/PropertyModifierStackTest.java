@@ -0,0 +1,77 @@
+package com.mmo.server.core.property;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.looper.LooperContext;
+import com.mmo.server.core.timer.TimerWheel;
+
+public class PropertyModifierStackTest {
+
+    @Test
+    public void applyInOrder() {
+        PropertyModifierStack stack = new PropertyModifierStack();
+
+        stack.add(modifier(PropertyModifierAction.MULTIPLY, 200, 0));
+        stack.add(modifier(PropertyModifierAction.PERCENT, 10, 0));
+        stack.add(modifier(PropertyModifierAction.INCREMENT, 20, 0));
+        stack.add(modifier(PropertyModifierAction.PERCENT, 15, 0));
+        stack.add(modifier(PropertyModifierAction.DECREMENT, 40, 0));
+
+        assertThat(stack.apply(100), equalTo(200));
+        assertThat(stack.apply(120), equalTo(250));
+    }
+
+    @Test
+    public void releaveExpiredInExpirationOrder() {
+        TimerWheel timerWheel = TimerWheel.builder()
+                .startTime(0L)
+                .build();
+
+        LooperContext context = mock(LooperContext.class);
+        when(context.getTimerWheel()).thenReturn(timerWheel);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(context).defer(any());
+
+        PropertyModifierStack stack = new PropertyModifierStack();
+        PropertyModifier late = modifier(PropertyModifierAction.INCREMENT, 5, 3000L);
+        PropertyModifier early = modifier(PropertyModifierAction.INCREMENT, 10, 1000L);
+        PropertyModifier permanent = modifier(PropertyModifierAction.PERCENT, 100, 0);
+
+        stack.add(late);
+        stack.arm(context);
+        stack.add(early);
+        stack.add(permanent);
+        stack.arm(context);
+
+        assertThat(stack.apply(10), equalTo(50));
+        assertThat(timerWheel.getSize(), equalTo(1));
+
+        timerWheel.advance(1000L);
+
+        assertThat(stack.getModifiers(), contains(late, permanent));
+        assertThat(stack.apply(10), equalTo(30));
+        assertThat(timerWheel.getSize(), equalTo(1));
+
+        timerWheel.advance(3000L);
+
+        assertThat(stack.getModifiers(), contains(permanent));
+        assertThat(stack.apply(10), equalTo(20));
+        assertThat(timerWheel.isEmpty(), equalTo(true));
+    }
+
+    private static PropertyModifier modifier(PropertyModifierAction action, int value, long expiration) {
+        return PropertyModifier.builder()
+                .action(action)
+                .value(value)
+                .expiration(expiration)
+                .persisted(true)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.mmo.server.core.property;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class PropertyModifierTest {
+
+    @Test
+    public void build() {
+        PropertyModifier modifier = PropertyModifier.builder()
+                .action(PropertyModifierAction.PERCENT)
+                .value(20)
+                .expiration(1500L)
+                .persisted(true)
+                .build();
+
+        PropertyModifier other = PropertyModifier.builder()
+                .action(PropertyModifierAction.PERCENT)
+                .value(20)
+                .expiration(1500L)
+                .persisted(true)
+                .build();
+
+        assertThat(modifier.getValue(), equalTo(20));
+        assertThat(modifier.getExpiration(), equalTo(1500L));
+        assertThat(modifier.hasExpiration(), equalTo(true));
+        assertThat(modifier.getId(), not(equalTo(other.getId())));
+        assertThat(modifier, not(equalTo(other)));
+    }
+
+    @Test
+    public void buildWithoutExpiration() {
+        PropertyModifier modifier = PropertyModifier.builder()
+                .action(PropertyModifierAction.INCREMENT)
+                .value(3)
+                .build();
+
+        assertThat(modifier.getExpiration(), equalTo(0L));
+        assertThat(modifier.hasExpiration(), equalTo(false));
+    }
+
+    @Test
+    public void buildThrowsExceptionWhenExpiringNotPersisted() {
+        assertThrows(PropertyModifierIllegalException.class, () -> PropertyModifier.builder()
+                .action(PropertyModifierAction.INCREMENT)
+                .value(3)
+                .expiration(1500L)
+                .build());
+    }
+}
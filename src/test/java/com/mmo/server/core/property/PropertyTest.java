@@ -3,8 +3,6 @@ package com.mmo.server.core.property;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
-import java.time.OffsetDateTime;
-
 import org.junit.jupiter.api.Test;
 
 import com.mmo.server.core.looper.LooperContextMocker;
@@ -32,7 +30,7 @@ public class PropertyTest {
         PropertyModifier decrementStr5 = PropertyModifier.builder()
                 .action(PropertyModifierAction.DECREMENT)
                 .value(5)
-                .expiration(OffsetDateTime.now().plusSeconds(2))
+                .expiration(LooperContextMocker.getTime() + 2000)
                 .persisted(true)
                 .build();
 
@@ -56,4 +54,25 @@ public class PropertyTest {
 
         assertThat(str.getFinalValue(), equalTo(48));
     }
+
+    @Test
+    public void percentDoesNotScaleDeltas() {
+        Property hp = Property.builder()
+                .name("HP")
+                .value(100)
+                .build();
+
+        hp.modify(PropertyModifier.builder()
+                .action(PropertyModifierAction.PERCENT)
+                .value(50)
+                .persisted(true)
+                .build());
+        hp.modify(PropertyModifierAction.DECREMENT, 100);
+
+        assertThat(hp.getFinalValue(), equalTo(50));
+
+        hp.modify(PropertyModifierAction.MULTIPLY, 200);
+
+        assertThat(hp.getFinalValue(), equalTo(200));
+    }
 }
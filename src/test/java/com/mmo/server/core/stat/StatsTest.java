@@ -3,8 +3,6 @@ package com.mmo.server.core.stat;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
-import java.time.OffsetDateTime;
-
 import org.junit.jupiter.api.Test;
 
 import com.mmo.server.core.looper.LooperContextMocker;
@@ -34,7 +32,7 @@ public class StatsTest {
                 .action(PropertyModifierAction.DECREMENT)
                 .stat(Stat.STRENGTH)
                 .value(5)
-                .expiration(OffsetDateTime.now().plusSeconds(2))
+                .expiration(LooperContextMocker.getDateTime().plusSeconds(2))
                 .persisted(true)
                 .build();
 
@@ -0,0 +1,142 @@
+package com.mmo.server.core.timer;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    public void fireInDeadlineOrder() {
+        TimerWheel wheel = TimerWheel.builder()
+                .startTime(1000L)
+                .build();
+
+        List<Long> fired = new ArrayList<>();
+
+        wheel.schedule(1000L + 5000, timer -> fired.add(timer.getDeadline()));
+        wheel.schedule(1000L + 70, timer -> fired.add(timer.getDeadline()));
+        wheel.schedule(1000L + 300000, timer -> fired.add(timer.getDeadline()));
+        wheel.schedule(1000L + 3, timer -> fired.add(timer.getDeadline()));
+
+        assertThat(wheel.getSize(), equalTo(4));
+
+        wheel.advance(1000L + 100);
+
+        assertThat(fired, contains(1003L, 1070L));
+
+        wheel.advance(1000L + 400000);
+
+        assertThat(fired, contains(1003L, 1070L, 6000L, 301000L));
+        assertThat(wheel.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void fireBeyondLastLevel() {
+        TimerWheel wheel = TimerWheel.builder()
+                .startTime(0L)
+                .build();
+
+        List<Long> fired = new ArrayList<>();
+        long deadline = 48L * 60 * 60 * 1000;
+
+        wheel.schedule(deadline, timer -> fired.add(timer.getDeadline()));
+        wheel.advance(deadline - 1);
+
+        assertThat(fired, empty());
+
+        wheel.advance(deadline);
+
+        assertThat(fired, contains(deadline));
+    }
+
+    @Test
+    public void fireOverdueOnNextAdvance() {
+        TimerWheel wheel = TimerWheel.builder()
+                .startTime(500L)
+                .build();
+
+        List<Long> fired = new ArrayList<>();
+
+        wheel.schedule(100L, timer -> fired.add(timer.getDeadline()));
+        wheel.advance(500L);
+
+        assertThat(fired, contains(100L));
+    }
+
+    @Test
+    public void rescheduleCatchesUp() {
+        TimerWheel wheel = TimerWheel.builder()
+                .startTime(0L)
+                .build();
+
+        List<Long> fired = new ArrayList<>();
+
+        wheel.schedule(300L, timer -> {
+            fired.add(timer.getDeadline());
+
+            if (fired.size() < 5) {
+                timer.reschedule(timer.getDeadline() + 300);
+            }
+        });
+
+        wheel.advance(1000L);
+
+        assertThat(fired, contains(300L, 600L, 900L));
+
+        wheel.advance(5000L);
+
+        assertThat(fired, contains(300L, 600L, 900L, 1200L, 1500L));
+        assertThat(wheel.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void cancel() {
+        TimerWheel wheel = TimerWheel.builder()
+                .startTime(0L)
+                .build();
+
+        List<Long> fired = new ArrayList<>();
+
+        Timer timer = wheel.schedule(2000L, value -> fired.add(value.getDeadline()));
+        timer.cancel();
+        wheel.advance(3000L);
+
+        assertThat(fired, empty());
+        assertThat(timer.isCancelled(), equalTo(true));
+        assertThat(timer.isScheduled(), equalTo(false));
+        assertThat(wheel.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void coarseResolution() {
+        TimerWheel wheel = TimerWheel.builder()
+                .resolution(10L)
+                .startTime(0L)
+                .build();
+
+        List<Long> fired = new ArrayList<>();
+
+        wheel.schedule(25L, timer -> fired.add(timer.getDeadline()));
+        wheel.advance(29L);
+
+        assertThat(fired, empty());
+
+        wheel.advance(30L);
+
+        assertThat(fired, contains(25L));
+    }
+
+    @Test
+    public void illegalResolution() {
+        assertThrows(TimerResolutionIllegalException.class, () -> TimerWheel.builder()
+                .resolution(0L)
+                .startTime(0L)
+                .build());
+    }
+}
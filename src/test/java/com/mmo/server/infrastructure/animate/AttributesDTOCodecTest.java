@@ -0,0 +1,37 @@
+package com.mmo.server.infrastructure.animate;
+
+import static com.mmo.server.infrastructure.mongo.CodecHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attributes;
+
+public class AttributesDTOCodecTest {
+
+    private final AttributesDTOCodec codec = new AttributesDTOCodec();
+
+    @Test
+    public void sameDocumentAsPojoCodec() {
+        AttributesDTO expected = AttributesDTO.of(Attributes.builder()
+                .hp(30)
+                .mp(31)
+                .attack(42)
+                .defense(33)
+                .magicDefense(34)
+                .hitRate(35)
+                .critical(36)
+                .dodgeRate(37)
+                .attackSpeed(38)
+                .moveSpeed(2)
+                .hpRecovery(40)
+                .mpRecovery(41)
+                .attackRange(3)
+                .build());
+
+        assertThat(encode(codec, expected).toJson(), equalTo(encode(pojo(AttributesDTO.class), expected).toJson()));
+        assertThat(decode(codec, encode(pojo(AttributesDTO.class), expected)), equalTo(expected));
+        assertThat(decode(codec, encode(codec, expected)), equalTo(expected));
+    }
+}
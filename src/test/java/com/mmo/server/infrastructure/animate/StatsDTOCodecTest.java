@@ -0,0 +1,30 @@
+package com.mmo.server.infrastructure.animate;
+
+import static com.mmo.server.infrastructure.mongo.CodecHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.stat.Stats;
+
+public class StatsDTOCodecTest {
+
+    private final StatsDTOCodec codec = new StatsDTOCodec();
+
+    @Test
+    public void sameDocumentAsPojoCodec() {
+        StatsDTO expected = StatsDTO.of(Stats.builder()
+                .strength(10)
+                .dexterity(11)
+                .intelligence(12)
+                .concentration(13)
+                .sense(14)
+                .charm(15)
+                .build());
+
+        assertThat(encode(codec, expected).toJson(), equalTo(encode(pojo(StatsDTO.class), expected).toJson()));
+        assertThat(decode(codec, encode(pojo(StatsDTO.class), expected)), equalTo(expected));
+        assertThat(decode(codec, encode(codec, expected)), equalTo(expected));
+    }
+}
@@ -0,0 +1,137 @@
+package com.mmo.server.infrastructure.cache;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.looper.ManualLooperClock;
+
+public class ExpiringCacheTest {
+
+    @Test
+    public void readThrough() {
+        List<Integer> loaded = new ArrayList<>();
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        assertThat(cache.get(1, key -> load(loaded, key)), equalTo(Optional.of("1")));
+        assertThat(cache.get(1, key -> load(loaded, key)), equalTo(Optional.of("1")));
+        assertThat(cache.get(2, key -> Optional.empty()), equalTo(Optional.empty()));
+        assertThat(cache.get(2, key -> Optional.empty()), equalTo(Optional.empty()));
+
+        assertThat(loaded, contains(1));
+        assertThat(cache.getSize(), equalTo(1));
+        assertThat(cache.getMetrics().getHits(), equalTo(1L));
+        assertThat(cache.getMetrics().getMisses(), equalTo(3L));
+        assertThat(cache.getMetrics().getHitRatio(), equalTo(0.25));
+    }
+
+    @Test
+    public void expire() {
+        List<Integer> loaded = new ArrayList<>();
+        ManualLooperClock clock = ManualLooperClock.builder().build();
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .timeToLive(1000L)
+                .clock(clock)
+                .build();
+
+        cache.get(1, key -> load(loaded, key));
+        clock.advance(999);
+        cache.get(1, key -> load(loaded, key));
+
+        assertThat(loaded, contains(1));
+
+        clock.advance(1);
+        cache.get(1, key -> load(loaded, key));
+
+        assertThat(loaded, contains(1, 1));
+        assertThat(cache.getMetrics().getEvictions(), equalTo(1L));
+    }
+
+    @Test
+    public void evictLeastRecentlyRead() {
+        List<Integer> loaded = new ArrayList<>();
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .capacity(2)
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        cache.get(1, key -> load(loaded, key));
+        cache.get(2, key -> load(loaded, key));
+        cache.get(1, key -> load(loaded, key));
+        cache.get(3, key -> load(loaded, key));
+        cache.get(1, key -> load(loaded, key));
+        cache.get(2, key -> load(loaded, key));
+
+        assertThat(loaded, contains(1, 2, 3, 2));
+        assertThat(cache.getSize(), equalTo(2));
+        assertThat(cache.getMetrics().getEvictions(), equalTo(2L));
+    }
+
+    @Test
+    public void peek() {
+        ManualLooperClock clock = ManualLooperClock.builder().build();
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .timeToLive(1000L)
+                .clock(clock)
+                .build();
+
+        assertThat(cache.peek(1), equalTo(Optional.empty()));
+
+        cache.get(1, key -> Optional.of("1"));
+
+        assertThat(cache.peek(1), equalTo(Optional.of("1")));
+
+        clock.advance(1000);
+
+        assertThat(cache.peek(1), equalTo(Optional.empty()));
+        assertThat(cache.getMetrics().getHits(), equalTo(0L));
+        assertThat(cache.getMetrics().getMisses(), equalTo(1L));
+    }
+
+    @Test
+    public void invalidate() {
+        List<Integer> loaded = new ArrayList<>();
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        cache.get(1, key -> load(loaded, key));
+
+        assertThat(cache.invalidate(1), equalTo(Optional.of("1")));
+        assertThat(cache.invalidate(1), equalTo(Optional.empty()));
+
+        cache.get(1, key -> load(loaded, key));
+
+        assertThat(loaded, contains(1, 1));
+        assertThat(cache.getMetrics().getInvalidations(), equalTo(2L));
+    }
+
+    @Test
+    public void dropValueLoadedDuringInvalidation() {
+        ExpiringCache<Integer, String> cache = ExpiringCache.<Integer, String>builder()
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        Optional<String> value = cache.get(1, key -> {
+            cache.invalidate(key);
+            return Optional.of("stale");
+        });
+
+        assertThat(value, equalTo(Optional.of("stale")));
+        assertThat(cache.getSize(), equalTo(0));
+        assertThat(cache.get(1, key -> Optional.of("fresh")), equalTo(Optional.of("fresh")));
+        assertThat(cache.getSize(), equalTo(1));
+    }
+
+    private static Optional<String> load(List<Integer> loaded, Integer key) {
+        loaded.add(key);
+        return Optional.of(String.valueOf(key));
+    }
+}
@@ -0,0 +1,94 @@
+package com.mmo.server.infrastructure.journal;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JournalSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void appendAndRead() {
+        JournalSegment segment = JournalSegment.open(directory.resolve("0.journal"), 0, 1024);
+
+        assertThat(segment.append(bytes("first")), equalTo(true));
+        assertThat(segment.append(bytes("second")), equalTo(true));
+
+        assertThat(read(segment), contains("first", "second"));
+    }
+
+    @Test
+    public void refuseWhenFull() {
+        JournalSegment segment = JournalSegment.open(directory.resolve("0.journal"), 0, 32);
+
+        assertThat(segment.append(bytes("0123456789")), equalTo(true));
+        assertThat(segment.append(bytes("0123456789")), equalTo(false));
+        assertThat(segment.append(bytes("012345")), equalTo(true));
+        assertThat(segment.getPosition(), equalTo(32));
+    }
+
+    @Test
+    public void reopen() {
+        Path path = directory.resolve("0.journal");
+        JournalSegment segment = JournalSegment.open(path, 0, 1024);
+
+        segment.append(bytes("first"));
+        segment.force();
+
+        JournalSegment reopened = JournalSegment.open(path, 0, 1024);
+        reopened.append(bytes("second"));
+
+        assertThat(read(reopened), contains("first", "second"));
+    }
+
+    @Test
+    public void ignoreTornRecord() throws IOException {
+        Path path = directory.resolve("0.journal");
+        JournalSegment segment = JournalSegment.open(path, 0, 1024);
+
+        segment.append(bytes("first"));
+        segment.append(bytes("second"));
+        segment.force();
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(8 + 5 + 8 + 2);
+            file.write('X');
+        }
+
+        JournalSegment reopened = JournalSegment.open(path, 0, 1024);
+
+        assertThat(read(reopened), contains("first"));
+
+        reopened.append(bytes("third"));
+        reopened.force();
+
+        assertThat(read(JournalSegment.open(path, 0, 1024)), contains("first", "third"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> read(JournalSegment segment) {
+        List<String> records = new ArrayList<>();
+
+        segment.read(buffer -> {
+            byte[] record = new byte[buffer.remaining()];
+            buffer.get(record);
+            records.add(new String(record, StandardCharsets.UTF_8));
+        });
+
+        return records;
+    }
+}
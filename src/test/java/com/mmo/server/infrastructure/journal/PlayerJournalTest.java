@@ -0,0 +1,202 @@
+package com.mmo.server.infrastructure.journal;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.core.player.PlayerRepository;
+import com.mmo.server.infrastructure.player.PlayerDTO;
+import com.mmo.server.infrastructure.player.PlayerWriter;
+
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+public class PlayerJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void findJournaled() throws InterruptedException {
+        PlayerRepository repository = mock(PlayerRepository.class);
+        PlayerJournal journal = newJournal(repository, new RecordingWriter(), null);
+        Player player = PlayerMocker.newPlayer("name");
+
+        journal.persist(player);
+        journal.sync();
+
+        assertThat(journal.find(player.getId()), equalTo(Optional.of(player)));
+        assertThat(journal.existsPlayerOwnedBy(player.getId(), player.getUserId()), equalTo(true));
+        verify(repository, never()).find(player.getId());
+    }
+
+    @Test
+    public void replayAfterCrash() throws InterruptedException {
+        PlayerRepository repository = mock(PlayerRepository.class);
+        PlayerJournal journal = newJournal(repository, new RecordingWriter(), null);
+        Player player = PlayerMocker.newPlayer("name");
+
+        journal.persist(player);
+        player.getPosition().teleport(70, 20);
+        journal.persist(player);
+        journal.sync();
+
+        PlayerJournal recovered = newJournal(repository, new RecordingWriter(), null);
+
+        assertThat(recovered.find(player.getId()), equalTo(Optional.of(player)));
+        assertThat(recovered.getJournaledCount(), equalTo(1));
+    }
+
+    @Test
+    public void rollSegments() throws InterruptedException {
+        PlayerJournal journal = newJournal(mock(PlayerRepository.class), new RecordingWriter(), 256);
+
+        for (int index = 0; index < 5; index++) {
+            journal.persist(PlayerMocker.newPlayer("name"));
+        }
+
+        journal.sync();
+
+        assertThat(journal.getSegmentCount(), equalTo(5));
+        assertThat(newJournal(mock(PlayerRepository.class), new RecordingWriter(), 256).getJournaledCount(),
+                equalTo(5));
+    }
+
+    @Test
+    public void refuseLargerThanSegment() {
+        PlayerJournal journal = newJournal(mock(PlayerRepository.class), new RecordingWriter(), 256);
+
+        assertThrows(JournalRecordTooLargeException.class,
+                () -> journal.persist(PlayerMocker.newPlayer("n".repeat(256))));
+    }
+
+    @Test
+    public void compact() throws Exception {
+        PlayerRepository repository = mock(PlayerRepository.class);
+        RecordingWriter writer = new RecordingWriter();
+        PlayerJournal journal = newJournal(repository, writer, null);
+        Player first = PlayerMocker.newPlayer("first");
+        Player second = PlayerMocker.newPlayer("second");
+
+        journal.persist(first);
+        journal.persist(second);
+        first.getPosition().teleport(70, 20);
+        journal.persist(first);
+
+        journal.compact();
+
+        assertThat(writer.written, hasSize(1));
+        assertThat(writer.written.get(0), containsInAnyOrder(PlayerDTO.of(first), PlayerDTO.of(second)));
+        assertThat(journal.getJournaledCount(), equalTo(0));
+        assertThat(journal.getSegmentCount(), equalTo(1));
+        assertThat(segmentFiles(), hasSize(1));
+
+        journal.find(first.getId());
+        verify(repository).find(first.getId());
+    }
+
+    @Test
+    public void keepSegmentsWhenCompactionFails() throws Exception {
+        RecordingWriter writer = new RecordingWriter();
+        writer.failing = true;
+
+        PlayerJournal journal = newJournal(mock(PlayerRepository.class), writer, null);
+        Player player = PlayerMocker.newPlayer("name");
+
+        journal.persist(player);
+
+        assertThrows(IllegalStateException.class, journal::compact);
+        assertThat(journal.getJournaledCount(), equalTo(1));
+        assertThat(segmentFiles(), hasSize(2));
+
+        writer.failing = false;
+        journal.compact();
+
+        assertThat(writer.written.get(0), contains(PlayerDTO.of(player)));
+        assertThat(segmentFiles(), hasSize(1));
+    }
+
+    @Test
+    public void compactInBatches() throws Exception {
+        RecordingWriter writer = new RecordingWriter();
+        PlayerJournal journal = PlayerJournal.builder()
+                .directory(directory)
+                .repository(mock(PlayerRepository.class))
+                .writer(writer)
+                .flushInterval(1L)
+                .compactionInterval(TimeUnit.HOURS.toMillis(1))
+                .batchSize(2)
+                .build();
+
+        for (int index = 0; index < 5; index++) {
+            journal.persist(PlayerMocker.newPlayer("name"));
+        }
+
+        journal.compact();
+
+        assertThat(writer.written.stream().map(List::size).collect(Collectors.toList()), contains(2, 2, 1));
+        assertThat(journal.getJournaledCount(), equalTo(0));
+        assertThat(segmentFiles(), hasSize(1));
+    }
+
+    @Test
+    public void keepEmptyActiveSegment() throws Exception {
+        RecordingWriter writer = new RecordingWriter();
+        writer.failing = true;
+
+        PlayerJournal journal = newJournal(mock(PlayerRepository.class), writer, null);
+
+        journal.persist(PlayerMocker.newPlayer("name"));
+
+        assertThrows(IllegalStateException.class, journal::compact);
+        assertThrows(IllegalStateException.class, journal::compact);
+        assertThat(journal.getSegmentCount(), equalTo(2));
+        assertThat(segmentFiles(), hasSize(2));
+    }
+
+    private PlayerJournal newJournal(PlayerRepository repository, RecordingWriter writer, Integer segmentSize) {
+        return PlayerJournal.builder()
+                .directory(directory)
+                .repository(repository)
+                .writer(writer)
+                .segmentSize(segmentSize)
+                .flushInterval(1L)
+                .compactionInterval(TimeUnit.HOURS.toMillis(1))
+                .build();
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private static class RecordingWriter implements PlayerWriter {
+
+        final List<List<PlayerDTO>> written = new ArrayList<>();
+        volatile boolean failing;
+
+        @Override
+        public void write(List<PlayerDTO> players) {
+            if (failing) {
+                throw new IllegalStateException();
+            }
+
+            written.add(new ArrayList<>(players));
+        }
+    }
+}
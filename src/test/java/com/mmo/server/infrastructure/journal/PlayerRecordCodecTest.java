@@ -0,0 +1,27 @@
+package com.mmo.server.infrastructure.journal;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.infrastructure.player.PlayerDTO;
+
+public class PlayerRecordCodecTest {
+
+    @Test
+    public void encodeAndDecode() {
+        Player player = PlayerMocker.newPlayer("Plàyer");
+        player.getPosition().teleport(-13, 24);
+
+        PlayerDTO expected = PlayerDTO.of(player);
+        PlayerDTO result = PlayerRecordCodec.decode(ByteBuffer.wrap(PlayerRecordCodec.encode(expected)));
+
+        assertThat(result, equalTo(expected));
+        assertThat(result.toPlayer(), equalTo(player));
+    }
+}
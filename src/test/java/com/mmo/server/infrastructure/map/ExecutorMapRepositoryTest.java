@@ -0,0 +1,46 @@
+package com.mmo.server.infrastructure.map;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.MapRepository;
+
+public class ExecutorMapRepositoryTest {
+
+    @Test
+    public void runOnExecutor() {
+        Map map = mock(Map.class);
+        UUID id = UUID.randomUUID();
+
+        MapRepository delegate = mock(MapRepository.class);
+        when(delegate.find(id)).thenReturn(Optional.of(map));
+
+        List<Runnable> tasks = new ArrayList<>();
+        ExecutorMapRepository repository = ExecutorMapRepository.builder()
+                .repository(delegate)
+                .executor(tasks::add)
+                .build();
+
+        CompletableFuture<Optional<Map>> found = repository.find(id);
+        CompletableFuture<Void> persisted = repository.persist(map);
+
+        assertThat(found.isDone(), equalTo(false));
+        verifyNoInteractions(delegate);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(found.join(), equalTo(Optional.of(map)));
+        assertThat(persisted.isDone(), equalTo(true));
+        verify(delegate).persist(map);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mmo.server.infrastructure.map;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Terrain;
+import com.mmo.server.infrastructure.repository.MemoryStore;
+
+public class LocalMapRepositoryTest {
+
+    @Test
+    public void findAndPersist() {
+        LocalMapRepository repository = LocalMapRepository.builder()
+                .store(new MemoryStore<>())
+                .build();
+
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(1)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f, 128.f, 128.f, 129.f, 130.f, 131.f))
+                        .build())
+                .build();
+
+        assertThat(repository.find(map.getId()), equalTo(Optional.empty()));
+
+        repository.persist(map);
+
+        assertThat(repository.find(map.getId()), equalTo(Optional.of(map)));
+    }
+}
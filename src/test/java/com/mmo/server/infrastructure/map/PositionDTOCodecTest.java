@@ -0,0 +1,26 @@
+package com.mmo.server.infrastructure.map;
+
+import static com.mmo.server.infrastructure.mongo.CodecHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.map.Position;
+
+public class PositionDTOCodecTest {
+
+    private final PositionDTOCodec codec = new PositionDTOCodec();
+
+    @Test
+    public void sameDocumentAsPojoCodec() {
+        PositionDTO expected = PositionDTO.of(Position.builder()
+                .x(-13)
+                .z(24)
+                .build());
+
+        assertThat(encode(codec, expected).toJson(), equalTo(encode(pojo(PositionDTO.class), expected).toJson()));
+        assertThat(decode(codec, encode(pojo(PositionDTO.class), expected)), equalTo(expected));
+        assertThat(decode(codec, encode(codec, expected)), equalTo(expected));
+    }
+}
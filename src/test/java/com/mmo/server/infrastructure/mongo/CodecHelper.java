@@ -0,0 +1,51 @@
+package com.mmo.server.infrastructure.mongo;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.UuidCodec;
+import org.bson.codecs.UuidCodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.Conventions;
+import org.bson.codecs.pojo.PojoCodecProvider;
+
+import com.mongodb.MongoClientSettings;
+
+/* encodes and decodes through a codec, or through the automatic pojo codec MongoFactory falls back to */
+public final class CodecHelper {
+
+    private static final CodecRegistry POJO_REGISTRY = CodecRegistries.fromRegistries(
+            CodecRegistries.fromCodecs(new UuidCodec(UuidRepresentation.STANDARD)),
+            MongoClientSettings.getDefaultCodecRegistry(),
+            CodecRegistries.fromProviders(PojoCodecProvider.builder()
+                    .automatic(true)
+                    .register(UuidCodecProvider.class)
+                    .conventions(List.of(Conventions.ANNOTATION_CONVENTION))
+                    .build()));
+
+    private CodecHelper() {
+
+    }
+
+    public static <T> Codec<T> pojo(Class<T> type) {
+        return POJO_REGISTRY.get(type);
+    }
+
+    public static <T> BsonDocument encode(Codec<T> codec, T value) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+
+        return document;
+    }
+
+    public static <T> T decode(Codec<T> codec, BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
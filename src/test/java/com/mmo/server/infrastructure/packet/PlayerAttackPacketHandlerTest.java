@@ -24,7 +24,7 @@ public class PlayerAttackPacketHandlerTest {
 
     @BeforeAll
     public static void setup() {
-        map = GameRunnerMapMocker.run();
+        map = GameRunnerMapMocker.mock();
         packet = PlayerAttackPacket.builder()
                 .source(UUID.randomUUID())
                 .target(UUID.randomUUID())
@@ -37,6 +37,8 @@ public class PlayerAttackPacketHandlerTest {
 
         when(map.getEntity(packet.getSource(), Player.class)).thenReturn(source);
         when(map.getEntity(packet.getTarget(), Animate.class)).thenReturn(target);
+
+        GameRunnerMapMocker.run(map);
     }
 
     @AfterAll
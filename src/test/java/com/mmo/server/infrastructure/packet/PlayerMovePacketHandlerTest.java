@@ -23,7 +23,7 @@ public class PlayerMovePacketHandlerTest {
 
     @BeforeAll
     public static void setup() {
-        map = GameRunnerMapMocker.run();
+        map = GameRunnerMapMocker.mock();
         packet = PlayerMovePacket.builder()
                 .source(UUID.randomUUID())
                 .target(Position.builder()
@@ -37,6 +37,8 @@ public class PlayerMovePacketHandlerTest {
         source = mock(Player.class);
 
         when(map.getEntity(packet.getSource(), Player.class)).thenReturn(source);
+
+        GameRunnerMapMocker.run(map);
     }
 
     @AfterAll
@@ -0,0 +1,77 @@
+package com.mmo.server.infrastructure.player;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.looper.ManualLooperClock;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.core.player.PlayerRepository;
+
+public class CachedPlayerRepositoryTest {
+
+    @Test
+    public void findOnceUntilPersisted() {
+        Player player = PlayerMocker.newPlayer();
+
+        PlayerRepository delegate = mock(PlayerRepository.class);
+        when(delegate.find(player.getId())).thenReturn(Optional.of(player));
+
+        CachedPlayerRepository repository = CachedPlayerRepository.builder()
+                .repository(delegate)
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        Player first = repository.find(player.getId()).orElseThrow();
+        Player second = repository.find(player.getId()).orElseThrow();
+
+        assertThat(first, equalTo(player));
+        assertThat(second, equalTo(player));
+        assertThat(second, not(sameInstance(first)));
+        verify(delegate, times(1)).find(player.getId());
+
+        first.getPosition().teleport(70, 20);
+
+        assertThat(repository.find(player.getId()).orElseThrow().getPosition().getX(), equalTo(50));
+
+        repository.persist(first);
+        repository.find(player.getId());
+
+        verify(delegate).persist(first);
+        verify(delegate, times(2)).find(player.getId());
+        assertThat(repository.getMetrics().getHits(), equalTo(2L));
+        assertThat(repository.getMetrics().getMisses(), equalTo(2L));
+    }
+
+    @Test
+    public void answerOwnershipFromCache() {
+        Player player = PlayerMocker.newPlayer();
+        UUID playerId = player.getId();
+
+        PlayerRepository delegate = mock(PlayerRepository.class);
+        when(delegate.find(playerId)).thenReturn(Optional.of(player));
+        when(delegate.existsPlayerOwnedBy(playerId, player.getUserId())).thenReturn(true);
+
+        CachedPlayerRepository repository = CachedPlayerRepository.builder()
+                .repository(delegate)
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        assertThat(repository.existsPlayerOwnedBy(playerId, player.getUserId()), equalTo(true));
+        verify(delegate, times(1)).existsPlayerOwnedBy(playerId, player.getUserId());
+
+        repository.find(playerId);
+
+        assertThat(repository.existsPlayerOwnedBy(playerId, player.getUserId()), equalTo(true));
+        assertThat(repository.existsPlayerOwnedBy(playerId, UUID.randomUUID()), equalTo(false));
+        verify(delegate, times(1)).existsPlayerOwnedBy(eq(playerId), any());
+    }
+}
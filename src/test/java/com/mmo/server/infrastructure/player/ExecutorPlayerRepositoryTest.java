@@ -0,0 +1,72 @@
+package com.mmo.server.infrastructure.player;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerRepository;
+
+public class ExecutorPlayerRepositoryTest {
+
+    @Test
+    public void runOnExecutor() {
+        Player player = mock(Player.class);
+        UUID id = UUID.randomUUID();
+
+        PlayerRepository delegate = mock(PlayerRepository.class);
+        when(delegate.find(id)).thenReturn(Optional.of(player));
+        when(delegate.existsPlayerOwnedBy(eq(id), any())).thenReturn(true);
+
+        List<Runnable> tasks = new ArrayList<>();
+        ExecutorPlayerRepository repository = ExecutorPlayerRepository.builder()
+                .repository(delegate)
+                .executor(tasks::add)
+                .build();
+
+        CompletableFuture<Optional<Player>> found = repository.find(id);
+        CompletableFuture<Boolean> owned = repository.existsPlayerOwnedBy(id, UUID.randomUUID());
+        CompletableFuture<Void> persisted = repository.persist(player);
+
+        assertThat(found.isDone(), equalTo(false));
+        verifyNoInteractions(delegate);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(found.join(), equalTo(Optional.of(player)));
+        assertThat(owned.join(), equalTo(true));
+        assertThat(persisted.isDone(), equalTo(true));
+        verify(delegate).persist(player);
+    }
+
+    @Test
+    public void completeExceptionally() {
+        UUID id = UUID.randomUUID();
+
+        PlayerRepository delegate = mock(PlayerRepository.class);
+        when(delegate.find(id)).thenThrow(new IllegalStateException());
+
+        ExecutorPlayerRepository repository = ExecutorPlayerRepository.builder()
+                .repository(delegate)
+                .executor(Runnable::run)
+                .build();
+
+        CompletableFuture<Optional<Player>> found = repository.find(id);
+
+        assertThat(found.isCompletedExceptionally(), equalTo(true));
+
+        CompletionException exception = assertThrows(CompletionException.class, found::join);
+
+        assertThat(exception.getCause() instanceof IllegalStateException, equalTo(true));
+    }
+}
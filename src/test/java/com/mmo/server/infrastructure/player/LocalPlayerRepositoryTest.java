@@ -0,0 +1,72 @@
+package com.mmo.server.infrastructure.player;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.infrastructure.repository.MemoryStore;
+
+public class LocalPlayerRepositoryTest {
+
+    @Test
+    public void findAndPersist() {
+        LocalPlayerRepository repository = newRepository();
+        Player player = PlayerMocker.newPlayer();
+
+        assertThat(repository.find(player.getId()), equalTo(Optional.empty()));
+
+        repository.persist(player);
+
+        assertThat(repository.find(player.getId()), equalTo(Optional.of(player)));
+        assertThat(repository.find(player.getId()).get(), not(sameInstance(player)));
+    }
+
+    @Test
+    public void keepSnapshot() {
+        LocalPlayerRepository repository = newRepository();
+        Player player = PlayerMocker.newPlayer();
+
+        repository.persist(player);
+        player.getPosition().teleport(70, 20);
+
+        assertThat(repository.find(player.getId()).get().getPosition(), not(equalTo(player.getPosition())));
+    }
+
+    @Test
+    public void existsPlayerOwnedBy() {
+        LocalPlayerRepository repository = newRepository();
+        Player player = PlayerMocker.newPlayer();
+
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), player.getUserId()), equalTo(false));
+
+        repository.persist(player);
+
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), player.getUserId()), equalTo(true));
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), UUID.randomUUID()), equalTo(false));
+    }
+
+    @Test
+    public void write() {
+        LocalPlayerRepository repository = newRepository();
+        Player playerA = PlayerMocker.newPlayer();
+        Player playerB = PlayerMocker.newPlayer();
+
+        repository.write(List.of(PlayerDTO.of(playerA), PlayerDTO.of(playerB)));
+
+        assertThat(repository.find(playerA.getId()), equalTo(Optional.of(playerA)));
+        assertThat(repository.find(playerB.getId()), equalTo(Optional.of(playerB)));
+    }
+
+    private static LocalPlayerRepository newRepository() {
+        return LocalPlayerRepository.builder()
+                .store(new MemoryStore<>())
+                .build();
+    }
+}
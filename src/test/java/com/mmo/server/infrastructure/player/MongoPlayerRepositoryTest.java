@@ -3,9 +3,12 @@ package com.mmo.server.infrastructure.player;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -13,7 +16,9 @@ import com.mmo.server.core.attribute.Attributes;
 import com.mmo.server.core.map.Position;
 import com.mmo.server.core.player.Player;
 import com.mmo.server.core.stat.Stats;
+import com.mmo.server.infrastructure.mongo.MongoFactory;
 import com.mmo.server.infrastructure.mongo.MongoServer;
+import com.mongodb.client.model.Filters;
 
 public class MongoPlayerRepositoryTest {
 
@@ -28,7 +33,81 @@ public class MongoPlayerRepositoryTest {
 
     @Test
     public void findAndPersist() {
-        Player player = Player.builder()
+        Player player = newPlayer();
+
+        assertThat(repository.find(player.getId()), is(Optional.empty()));
+
+        repository.persist(player);
+
+        assertThat(repository.find(player.getId()), is(Optional.of(player)));
+    }
+
+    @Test
+    public void write() {
+        Player first = newPlayer();
+        Player second = newPlayer();
+
+        repository.persist(first);
+        first.getPosition().teleport(60, 10);
+
+        repository.write(List.of(PlayerDTO.of(first), PlayerDTO.of(second)));
+
+        assertThat(repository.find(first.getId()), is(Optional.of(first)));
+        assertThat(repository.find(second.getId()), is(Optional.of(second)));
+    }
+
+    @Test
+    public void writeChangedFields() {
+        Player player = newPlayer();
+
+        repository.persist(player);
+        player.getPosition().teleport(70, 20);
+        repository.persist(player);
+
+        assertThat(repository.find(player.getId()), is(Optional.of(player)));
+
+        repository.write(List.of(PlayerDTO.of(player)));
+
+        assertThat(repository.find(player.getId()), is(Optional.of(player)));
+    }
+
+    @Test
+    public void rewriteRemovedDocument() {
+        Player player = newPlayer();
+
+        repository.persist(player);
+        MongoFactory.getInstance().getCollection("Player", Document.class)
+                .deleteOne(Filters.eq("_id", player.getId()));
+        player.getPosition().teleport(70, 20);
+        repository.persist(player);
+
+        assertThat(repository.find(player.getId()), is(Optional.of(player)));
+    }
+
+    @Test
+    public void existsPlayerOwnedBy() {
+        Player player = newPlayer();
+
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), player.getUserId()), is(false));
+
+        repository.persist(player);
+
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), player.getUserId()), is(true));
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), UUID.randomUUID()), is(false));
+    }
+
+    @Test
+    public void userIdIndex() {
+        List<String> indexes = MongoFactory.getInstance().getCollection("Player", Document.class)
+                .listIndexes()
+                .map(index -> index.getString("name"))
+                .into(new ArrayList<>());
+
+        assertThat(indexes, hasItem("userId"));
+    }
+
+    private static Player newPlayer() {
+        return Player.builder()
                 .userId(UUID.randomUUID())
                 .instanceId(UUID.randomUUID())
                 .name("PlayerName-" + UUID.randomUUID())
@@ -60,11 +139,5 @@ public class MongoPlayerRepositoryTest {
                         .attackRange(3)
                         .build())
                 .build();
-
-        assertThat(repository.find(player.getId()), is(Optional.empty()));
-
-        repository.persist(player);
-
-        assertThat(repository.find(player.getId()), is(Optional.of(player)));
     }
 }
@@ -0,0 +1,104 @@
+package com.mmo.server.infrastructure.player;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.infrastructure.mongo.CodecHelper;
+
+/*
+ * Compares the hand written PlayerDTOCodec with the automatic pojo codec
+ * on the binary documents every persist writes and every find reads, the
+ * gc profiler reports the allocations per operation next to the time, run with:
+ * mvn -P benchmark test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.mmo.server.infrastructure.player.PlayerDTOCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerDTOCodecBenchmark {
+
+    private final EncoderContext encoderContext = EncoderContext.builder().build();
+    private final DecoderContext decoderContext = DecoderContext.builder().build();
+
+    private Codec<PlayerDTO> codec;
+    private Codec<PlayerDTO> pojoCodec;
+    private PlayerDTO player;
+    private byte[] document;
+
+    @Setup
+    public void setup() {
+        codec = new PlayerDTOCodec();
+        pojoCodec = CodecHelper.pojo(PlayerDTO.class);
+        player = PlayerDTO.of(PlayerMocker.newPlayer(-13, 24));
+        document = encode(codec);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return encode(codec);
+    }
+
+    @Benchmark
+    public byte[] pojoCodecEncode() {
+        return encode(pojoCodec);
+    }
+
+    @Benchmark
+    public PlayerDTO codecDecode() {
+        return decode(codec);
+    }
+
+    @Benchmark
+    public PlayerDTO pojoCodecDecode() {
+        return decode(pojoCodec);
+    }
+
+    private byte[] encode(Codec<PlayerDTO> playerCodec) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            playerCodec.encode(writer, player, encoderContext);
+        }
+
+        return buffer.toByteArray();
+    }
+
+    private PlayerDTO decode(Codec<PlayerDTO> playerCodec) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(document))) {
+            return playerCodec.decode(reader, decoderContext);
+        }
+    }
+
+    public static void main(String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PlayerDTOCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.mmo.server.infrastructure.player;
+
+import static com.mmo.server.infrastructure.mongo.CodecHelper.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.player.PlayerMocker;
+
+public class PlayerDTOCodecTest {
+
+    private final PlayerDTOCodec codec = new PlayerDTOCodec();
+
+    @Test
+    public void encodeAndDecode() {
+        PlayerDTO expected = newPlayer();
+
+        assertThat(decode(codec, encode(codec, expected)), equalTo(expected));
+    }
+
+    @Test
+    public void sameDocumentAsPojoCodec() {
+        PlayerDTO expected = newPlayer();
+
+        assertThat(encode(codec, expected).toJson(), equalTo(encode(pojo(PlayerDTO.class), expected).toJson()));
+        assertThat(decode(codec, encode(pojo(PlayerDTO.class), expected)), equalTo(expected));
+        assertThat(decode(pojo(PlayerDTO.class), encode(codec, expected)), equalTo(expected));
+    }
+
+    @Test
+    public void decodeProjection() {
+        PlayerDTO player = newPlayer();
+        BsonDocument document = encode(codec, player);
+        document.keySet().retainAll(Set.of("id"));
+        document.put("unknown", new BsonString("ignored"));
+
+        PlayerDTO result = decode(codec, document);
+
+        assertThat(result.getId(), equalTo(player.getId()));
+        assertThat(result.getPosition(), nullValue());
+        assertThat(result.getName(), nullValue());
+    }
+
+    private static PlayerDTO newPlayer() {
+        return PlayerDTO.of(PlayerMocker.newPlayer(-13, 24));
+    }
+}
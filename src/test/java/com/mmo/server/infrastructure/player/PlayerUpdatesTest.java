@@ -0,0 +1,47 @@
+package com.mmo.server.infrastructure.player;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mongodb.MongoClientSettings;
+
+public class PlayerUpdatesTest {
+
+    @Test
+    public void setOnlyChangedFields() {
+        Player player = PlayerMocker.newPlayer();
+        PlayerDTO previous = PlayerDTO.of(player);
+
+        player.getPosition().teleport(60, 10);
+
+        PlayerDTO current = PlayerDTO.of(player);
+        current.getAttributes().setHP(12);
+
+        assertThat(render(PlayerUpdates.of(previous, current)), contains(
+                "{\"$set\": {\"position.x\": 60}}",
+                "{\"$set\": {\"attributes.hp\": 12}}"));
+    }
+
+    @Test
+    public void nothingChanged() {
+        Player player = PlayerMocker.newPlayer();
+
+        assertThat(PlayerUpdates.of(PlayerDTO.of(player), PlayerDTO.of(player)), empty());
+    }
+
+    private static List<String> render(List<Bson> updates) {
+        return updates.stream()
+                .map(update -> update.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry()))
+                .map(BsonDocument::toJson)
+                .collect(Collectors.toList());
+    }
+}
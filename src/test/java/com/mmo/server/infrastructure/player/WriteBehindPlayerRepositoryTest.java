@@ -0,0 +1,251 @@
+package com.mmo.server.infrastructure.player;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.core.player.PlayerRepository;
+
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+public class WriteBehindPlayerRepositoryTest {
+
+    @Test
+    public void coalesceRepeatedSaves() throws InterruptedException {
+        BlockingWriter writer = new BlockingWriter();
+        WriteBehindPlayerRepository repository = newRepository(writer, 100, 10);
+
+        Player first = PlayerMocker.newPlayer();
+        Player second = PlayerMocker.newPlayer();
+        Player third = PlayerMocker.newPlayer();
+
+        repository.persist(first);
+        writer.awaitStarted();
+
+        repository.persist(second);
+        repository.persist(first);
+        first.getPosition().teleport(70, 10);
+        repository.persist(first);
+        repository.persist(third);
+
+        assertThat(repository.getPendingCount(), equalTo(3));
+
+        writer.release();
+        repository.close();
+
+        assertThat(writer.batches, hasSize(2));
+        assertThat(ids(writer.batches.get(1)), contains(second.getId(), first.getId(), third.getId()));
+        assertThat(writer.batches.get(1).get(1).getPosition().getX(), equalTo(70));
+        assertThat(repository.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    public void writeInBatches() throws InterruptedException {
+        BlockingWriter writer = new BlockingWriter();
+        WriteBehindPlayerRepository repository = newRepository(writer, 100, 2);
+
+        repository.persist(PlayerMocker.newPlayer());
+        writer.awaitStarted();
+
+        for (int index = 0; index < 4; index++) {
+            repository.persist(PlayerMocker.newPlayer());
+        }
+
+        writer.release();
+        repository.close();
+
+        List<Integer> sizes = writer.batches.stream()
+                .map(List::size)
+                .collect(Collectors.toList());
+
+        assertThat(sizes, contains(1, 2, 2));
+        assertThat(repository.getMetrics().getBatches(), equalTo(3L));
+        assertThat(repository.getMetrics().getPlayers(), equalTo(5L));
+        assertThat(repository.getMetrics().getMaxBatchSize(), equalTo(2L));
+        assertThat(repository.getMetrics().getLastBatchSize(), equalTo(2));
+        assertThat(repository.getMetrics().getMaxLatency(), greaterThanOrEqualTo(repository.getMetrics().getLastLatency()));
+    }
+
+    @Test
+    public void findPending() throws InterruptedException {
+        BlockingWriter writer = new BlockingWriter();
+        PlayerRepository delegate = mock(PlayerRepository.class);
+
+        WriteBehindPlayerRepository repository = WriteBehindPlayerRepository.builder()
+                .repository(delegate)
+                .writer(writer)
+                .writers(1)
+                .build();
+
+        Player blocking = PlayerMocker.newPlayer();
+        Player player = PlayerMocker.newPlayer();
+
+        repository.persist(blocking);
+        writer.awaitStarted();
+        repository.persist(player);
+
+        assertThat(repository.find(player.getId()).orElseThrow().getName(), equalTo(player.getName()));
+        verify(delegate, never()).find(player.getId());
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), player.getUserId()), equalTo(true));
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), UUID.randomUUID()), equalTo(false));
+        verify(delegate, never()).existsPlayerOwnedBy(eq(player.getId()), any());
+
+        writer.release();
+        repository.close();
+
+        repository.find(player.getId());
+        repository.existsPlayerOwnedBy(player.getId(), player.getUserId());
+        verify(delegate).find(player.getId());
+        verify(delegate).existsPlayerOwnedBy(player.getId(), player.getUserId());
+    }
+
+    @Test
+    public void findWhileWriting() throws InterruptedException {
+        BlockingWriter writer = new BlockingWriter();
+        PlayerRepository delegate = mock(PlayerRepository.class);
+
+        WriteBehindPlayerRepository repository = WriteBehindPlayerRepository.builder()
+                .repository(delegate)
+                .writer(writer)
+                .writers(1)
+                .build();
+
+        Player player = PlayerMocker.newPlayer();
+
+        repository.persist(player);
+        writer.awaitStarted();
+
+        assertThat(repository.getPendingCount(), equalTo(0));
+        assertThat(repository.find(player.getId()).orElseThrow().getName(), equalTo(player.getName()));
+        assertThat(repository.existsPlayerOwnedBy(player.getId(), player.getUserId()), equalTo(true));
+        verify(delegate, never()).find(player.getId());
+        verify(delegate, never()).existsPlayerOwnedBy(eq(player.getId()), any());
+
+        writer.release();
+        repository.close();
+
+        repository.find(player.getId());
+        verify(delegate).find(player.getId());
+    }
+
+    @Test
+    public void sweepWhenFull() throws InterruptedException {
+        BlockingWriter writer = new BlockingWriter();
+        WriteBehindPlayerRepository repository = newRepository(writer, 1, 10);
+
+        Player first = PlayerMocker.newPlayer();
+        Player second = PlayerMocker.newPlayer();
+        Player third = PlayerMocker.newPlayer();
+        Player fourth = PlayerMocker.newPlayer();
+
+        repository.persist(first);
+        writer.awaitStarted();
+        repository.persist(second);
+        repository.persist(third);
+        repository.persist(fourth);
+
+        assertThat(repository.getPendingCount(), equalTo(3));
+        assertThat(repository.getMetrics().getOverflows(), equalTo(2L));
+        assertThat(writer.batches, hasSize(1));
+
+        writer.release();
+        repository.close();
+
+        List<UUID> written = writer.batches.stream()
+                .flatMap(List::stream)
+                .map(PlayerDTO::getId)
+                .collect(Collectors.toList());
+
+        assertThat(written, containsInAnyOrder(first.getId(), second.getId(), third.getId(), fourth.getId()));
+        assertThat(writer.threads, not(hasItem(Thread.currentThread())));
+        assertThat(repository.getPendingCount(), equalTo(0));
+    }
+
+    @Test
+    public void retryFailedBatches() {
+        List<List<PlayerDTO>> batches = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger attempts = new AtomicInteger();
+
+        WriteBehindPlayerRepository repository = WriteBehindPlayerRepository.builder()
+                .repository(mock(PlayerRepository.class))
+                .writer(players -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        throw new IllegalStateException("unavailable");
+                    }
+
+                    batches.add(new ArrayList<>(players));
+                })
+                .writers(1)
+                .retryDelay(10L)
+                .build();
+
+        Player player = PlayerMocker.newPlayer();
+
+        repository.persist(player);
+        repository.close();
+
+        assertThat(attempts.get(), equalTo(2));
+        assertThat(repository.getMetrics().getFailedBatches(), equalTo(1L));
+        assertThat(batches, hasSize(1));
+        assertThat(ids(batches.get(0)), contains(player.getId()));
+    }
+
+    private static WriteBehindPlayerRepository newRepository(PlayerWriter writer, int capacity, int batchSize) {
+        return WriteBehindPlayerRepository.builder()
+                .repository(mock(PlayerRepository.class))
+                .writer(writer)
+                .capacity(capacity)
+                .writers(1)
+                .batchSize(batchSize)
+                .build();
+    }
+
+    private static List<UUID> ids(List<PlayerDTO> batch) {
+        return batch.stream()
+                .map(PlayerDTO::getId)
+                .collect(Collectors.toList());
+    }
+
+    /* holds the first batch until released, so the next saves pile up */
+    private static class BlockingWriter implements PlayerWriter {
+
+        final List<List<PlayerDTO>> batches = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void write(List<PlayerDTO> players) {
+            batches.add(new ArrayList<>(players));
+            threads.add(Thread.currentThread());
+            started.countDown();
+
+            try {
+                released.await();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void awaitStarted() throws InterruptedException {
+            started.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
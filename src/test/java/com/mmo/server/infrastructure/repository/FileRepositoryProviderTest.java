@@ -0,0 +1,68 @@
+package com.mmo.server.infrastructure.repository;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mmo.server.core.map.Map;
+import com.mmo.server.core.map.Terrain;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.player.PlayerMocker;
+import com.mmo.server.core.user.User;
+
+public class FileRepositoryProviderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void findAfterReopen() {
+        FileRepositoryProvider provider = newProvider();
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .password("password")
+                .build();
+
+        Player player = PlayerMocker.builder()
+                .userId(user.getId())
+                .build();
+
+        Map map = Map.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .description("description")
+                .nearbyRatio(1)
+                .terrain(Terrain.builder()
+                        .heightMap(List.of(128.f, 128.f, 128.f, 129.f, 130.f, 131.f))
+                        .build())
+                .build();
+
+        provider.getUserRepository().persist(user);
+        provider.getPlayerRepository().persist(player);
+        provider.getMapRepository().persist(map);
+        provider.close();
+
+        FileRepositoryProvider reopened = newProvider();
+
+        assertThat(reopened.getUserRepository().findByName(user.getName()), equalTo(Optional.of(user)));
+        assertThat(reopened.getPlayerRepository().find(player.getId()), equalTo(Optional.of(player)));
+        assertThat(reopened.getPlayerRepository().existsPlayerOwnedBy(player.getId(), user.getId()), equalTo(true));
+        assertThat(reopened.getMapRepository().find(map.getId()), equalTo(Optional.of(map)));
+    }
+
+    private FileRepositoryProvider newProvider() {
+        return FileRepositoryProvider.builder()
+                .directory(directory)
+                .segmentSize(64 * 1024)
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.mmo.server.infrastructure.repository;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mmo.server.infrastructure.journal.JournalClosedException;
+import com.mmo.server.infrastructure.journal.JournalLockedException;
+import com.mmo.server.infrastructure.journal.JournalRecordTooLargeException;
+import com.mmo.server.infrastructure.mongo.BsonCodecs;
+import com.mmo.server.infrastructure.user.UserDTO;
+
+public class FileStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void replay() {
+        FileStore<UserDTO> store = newStore(null);
+        UserDTO first = newUser("first");
+        UserDTO renamed = newUser("renamed");
+        renamed.setId(first.getId());
+        UserDTO second = newUser("second");
+
+        store.put(first.getId(), first);
+        store.put(second.getId(), second);
+        store.put(renamed.getId(), renamed);
+        store.close();
+
+        FileStore<UserDTO> reopened = newStore(null);
+
+        assertThat(reopened.find(first.getId()), equalTo(Optional.of(renamed)));
+        assertThat(reopened.find(second.getId()), equalTo(Optional.of(second)));
+        assertThat(reopened.values(), containsInAnyOrder(renamed, second));
+    }
+
+    @Test
+    public void appendAfterReplay() {
+        FileStore<UserDTO> store = newStore(null);
+        UserDTO first = newUser("first");
+        UserDTO second = newUser("second");
+
+        store.put(first.getId(), first);
+        store.close();
+
+        FileStore<UserDTO> reopened = newStore(null);
+        reopened.put(second.getId(), second);
+        reopened.close();
+
+        assertThat(reopened.getSegmentCount(), equalTo(1));
+        assertThat(newStore(null).values(), containsInAnyOrder(first, second));
+    }
+
+    @Test
+    public void compact() {
+        FileStore<UserDTO> store = newStore(256);
+        UserDTO user = newUser("name");
+
+        for (int index = 0; index < 20; index++) {
+            user = newUser("name " + index);
+            user.setId(new UUID(0, 1));
+            store.put(user.getId(), user);
+        }
+
+        store.close();
+
+        assertThat(store.getSegmentCount(), lessThanOrEqualTo(2));
+        assertThat(newStore(256).values(), contains(user));
+    }
+
+    @Test
+    public void recordTooLarge() {
+        FileStore<UserDTO> store = newStore(64);
+        UserDTO user = newUser("a name too long to fit in a segment of sixty four bytes");
+
+        assertThrows(JournalRecordTooLargeException.class, () -> store.put(user.getId(), user));
+        assertThat(store.find(user.getId()), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void putAfterClose() {
+        FileStore<UserDTO> store = newStore(null);
+        UserDTO user = newUser("name");
+
+        store.close();
+
+        assertThrows(JournalClosedException.class, () -> store.put(user.getId(), user));
+    }
+
+    @Test
+    public void lockWhileOpen() {
+        FileStore<UserDTO> store = newStore(null);
+
+        assertThrows(JournalLockedException.class, () -> newStore(null));
+
+        store.close();
+
+        newStore(null).close();
+    }
+
+    private FileStore<UserDTO> newStore(Integer segmentSize) {
+        return FileStore.<UserDTO>builder()
+                .directory(directory)
+                .codec(BsonCodecs.CODEC_REGISTRY.get(UserDTO.class))
+                .segmentSize(segmentSize)
+                .build();
+    }
+
+    private static UserDTO newUser(String name) {
+        UserDTO user = new UserDTO();
+        user.setId(UUID.randomUUID());
+        user.setName(name);
+        user.setPassword("password");
+
+        return user;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mmo.server.infrastructure.repository;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.user.User;
+
+public class MemoryRepositoryProviderTest {
+
+    @Test
+    public void writeIntoPlayerRepository() {
+        MemoryRepositoryProvider provider = new MemoryRepositoryProvider();
+
+        assertThat(provider.getPlayerWriter(), sameInstance(provider.getPlayerRepository()));
+    }
+
+    @Test
+    public void keepProvidersApart() {
+        MemoryRepositoryProvider provider = new MemoryRepositoryProvider();
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .password("password")
+                .build();
+
+        provider.getUserRepository().persist(user);
+
+        assertThat(provider.getUserRepository().find(user.getId()), equalTo(Optional.of(user)));
+        assertThat(new MemoryRepositoryProvider().getUserRepository().find(user.getId()),
+                equalTo(Optional.empty()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.mmo.server.infrastructure.repository;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+public class MemoryStoreTest {
+
+    @Test
+    public void findAndPut() {
+        MemoryStore<String> store = new MemoryStore<>();
+        UUID id = UUID.randomUUID();
+
+        assertThat(store.find(id), equalTo(Optional.empty()));
+
+        store.put(id, "first");
+        store.put(id, "second");
+        store.put(UUID.randomUUID(), "other");
+
+        assertThat(store.find(id), equalTo(Optional.of("second")));
+        assertThat(store.values(), containsInAnyOrder("second", "other"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.mmo.server.infrastructure.repository;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mmo.server.infrastructure.config.ConfigProvider;
+
+public class RepositoryProvidersTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void memory() {
+        ConfigProvider configProvider = mock(ConfigProvider.class);
+        when(configProvider.getString("repository.provider")).thenReturn("memory");
+
+        assertThat(RepositoryProviders.of(configProvider), instanceOf(MemoryRepositoryProvider.class));
+    }
+
+    @Test
+    public void file() {
+        ConfigProvider configProvider = mock(ConfigProvider.class);
+        when(configProvider.getString("repository.provider")).thenReturn("file");
+        when(configProvider.getString("repository.file.directory")).thenReturn(directory.toString());
+        when(configProvider.getInt("repository.file.segment.size.in.megabytes")).thenReturn(1);
+
+        RepositoryProvider provider = RepositoryProviders.of(configProvider);
+        provider.close();
+
+        assertThat(provider, instanceOf(FileRepositoryProvider.class));
+    }
+
+    @Test
+    public void unknown() {
+        ConfigProvider configProvider = mock(ConfigProvider.class);
+        when(configProvider.getString("repository.provider")).thenReturn("unknown");
+
+        assertThrows(RepositoryProviderNotFoundException.class, () -> RepositoryProviders.of(configProvider));
+    }
+}
@@ -0,0 +1,116 @@
+package com.mmo.server.infrastructure.security;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.attribute.Attributes;
+import com.mmo.server.core.map.Position;
+import com.mmo.server.core.player.AsyncPlayerRepository;
+import com.mmo.server.core.player.Player;
+import com.mmo.server.core.stat.Stats;
+import com.mmo.server.core.user.AsyncUserRepository;
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+
+public class AsyncAuthenticatorTest {
+
+    private static AsyncAuthenticator authenticator;
+    private static User user;
+    private static Player player;
+
+    @BeforeAll
+    public static void setup() {
+        AsyncPlayerRepository playerRepository = mock(AsyncPlayerRepository.class);
+        AsyncUserRepository userRepository = mock(AsyncUserRepository.class);
+
+        authenticator = AsyncAuthenticator.builder()
+                .playerRepository(playerRepository)
+                .userRepository(userRepository)
+                .build();
+
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .password("password")
+                .build();
+
+        player = Player.builder()
+                .userId(user.getId())
+                .instanceId(UUID.randomUUID())
+                .name("name")
+                .position(Position.builder()
+                        .x(50)
+                        .z(10)
+                        .build())
+                .stats(Stats.builder()
+                        .strength(10)
+                        .dexterity(10)
+                        .intelligence(10)
+                        .concentration(10)
+                        .sense(10)
+                        .charm(10)
+                        .build())
+                .attributes(Attributes.builder()
+                        .hp(30)
+                        .mp(31)
+                        .attack(42)
+                        .defense(33)
+                        .magicDefense(34)
+                        .hitRate(35)
+                        .critical(36)
+                        .dodgeRate(37)
+                        .attackSpeed(38)
+                        .moveSpeed(2)
+                        .hpRecovery(40)
+                        .mpRecovery(41)
+                        .attackRange(3)
+                        .build())
+                .build();
+
+        when(userRepository.findCredentials(anyString())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(userRepository.findCredentials(user.getName())).thenReturn(CompletableFuture.completedFuture(
+                Optional.of(Credentials.builder()
+                        .userId(user.getId())
+                        .password(user.getPassword())
+                        .build())));
+        when(playerRepository.find(any())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(playerRepository.find(player.getId())).thenReturn(CompletableFuture.completedFuture(Optional.of(player)));
+    }
+
+    @Test
+    public void authenticate() {
+        Optional<Player> result = authenticator.authenticate(user.getName(), user.getPassword(), player.getId()).join();
+
+        assertThat(result, equalTo(Optional.of(player)));
+    }
+
+    @Test
+    public void authenticateWithWrongPassword() {
+        Optional<Player> result = authenticator.authenticate(user.getName(), "wrong", player.getId()).join();
+
+        assertThat(result, equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void authenticateWithWrongPlayerId() {
+        Optional<Player> result = authenticator.authenticate(user.getName(), user.getPassword(), UUID.randomUUID())
+                .join();
+
+        assertThat(result, equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void authenticateWithWrongName() {
+        Optional<Player> result = authenticator.authenticate("wrong", user.getPassword(), player.getId()).join();
+
+        assertThat(result, equalTo(Optional.empty()));
+    }
+}
@@ -15,6 +15,7 @@ import com.mmo.server.core.map.Position;
 import com.mmo.server.core.player.Player;
 import com.mmo.server.core.player.PlayerRepository;
 import com.mmo.server.core.stat.Stats;
+import com.mmo.server.core.user.Credentials;
 import com.mmo.server.core.user.User;
 import com.mmo.server.core.user.UserRepository;
 
@@ -75,8 +76,11 @@ public class AuthenticatorTest {
                         .build())
                 .build();
 
-        when(userRepository.findByName(user.getName())).thenReturn(Optional.of(user));
-        when(playerRepository.find(player.getId())).thenReturn(Optional.of(player));
+        when(userRepository.findCredentials(user.getName())).thenReturn(Optional.of(Credentials.builder()
+                .userId(user.getId())
+                .password(user.getPassword())
+                .build()));
+        when(playerRepository.existsPlayerOwnedBy(player.getId(), user.getId())).thenReturn(true);
     }
 
     @Test
@@ -0,0 +1,65 @@
+package com.mmo.server.infrastructure.simulation;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SimulationTest {
+
+    @Test
+    public void run() {
+        SimulationReport report = Simulation.builder()
+                .entityCounts(List.of(20, 10))
+                .warmupUpdates(10)
+                .measuredUpdates(50)
+                .seed(42L)
+                .build()
+                .run();
+
+        assertThat(report.getStages(), hasSize(2));
+        assertThat(report.getStages().get(0).getEntityCount(), equalTo(10));
+        assertThat(report.getStages().get(1).getEntityCount(), equalTo(20));
+
+        report.getStages().forEach(stage -> {
+            assertThat(stage.getUpdates(), equalTo(50));
+            assertThat(stage.getP50Nanos(), greaterThan(0L));
+            assertThat(stage.getP99Nanos(), greaterThanOrEqualTo(stage.getP50Nanos()));
+            assertThat(stage.getMaxNanos(), greaterThanOrEqualTo(stage.getP99Nanos()));
+        });
+
+        assertThat(report.format(), containsString("ceiling"));
+    }
+
+    @Test
+    public void ceilingStopsAtFirstStageOverBudget() {
+        SimulationReport report = SimulationReport.builder()
+                .stages(List.of(
+                        newStage(100, 10),
+                        newStage(200, 20),
+                        newStage(400, 80),
+                        newStage(800, 40)))
+                .build();
+
+        assertThat(report.getCeiling().orElseThrow(), equalTo(200));
+    }
+
+    @Test
+    public void noCeilingWhenFirstStageIsOverBudget() {
+        SimulationReport report = SimulationReport.builder()
+                .stages(List.of(newStage(100, 80)))
+                .build();
+
+        assertThat(report.getCeiling().isPresent(), equalTo(false));
+    }
+
+    private SimulationStage newStage(int entityCount, long cost) {
+        return SimulationStage.builder()
+                .entityCount(entityCount)
+                .budgetNanos(50L)
+                .costs(new long[] { cost, cost })
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.mmo.server.infrastructure.user;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.looper.ManualLooperClock;
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+import com.mmo.server.core.user.UserRepository;
+
+public class CachedUserRepositoryTest {
+
+    @Test
+    public void findOnceUntilPersisted() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .password("password")
+                .build();
+
+        UserRepository delegate = mock(UserRepository.class);
+        when(delegate.find(user.getId())).thenReturn(Optional.of(user));
+        when(delegate.findByName(user.getName())).thenReturn(Optional.of(user));
+
+        CachedUserRepository repository = CachedUserRepository.builder()
+                .repository(delegate)
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        for (int index = 0; index < 3; index++) {
+            assertThat(repository.find(user.getId()), equalTo(Optional.of(user)));
+            assertThat(repository.findByName(user.getName()), equalTo(Optional.of(user)));
+        }
+
+        verify(delegate, times(1)).find(user.getId());
+        verify(delegate, times(1)).findByName(user.getName());
+
+        repository.persist(user);
+        repository.find(user.getId());
+        repository.findByName(user.getName());
+
+        verify(delegate).persist(user);
+        verify(delegate, times(2)).find(user.getId());
+        verify(delegate, times(2)).findByName(user.getName());
+        assertThat(repository.getMetrics().getHits(), equalTo(4L));
+        assertThat(repository.getMetrics().getMisses(), equalTo(4L));
+    }
+
+    @Test
+    public void cacheCredentials() {
+        Credentials credentials = Credentials.builder()
+                .userId(UUID.randomUUID())
+                .password("password")
+                .build();
+
+        UserRepository delegate = mock(UserRepository.class);
+        when(delegate.findCredentials("name")).thenReturn(Optional.of(credentials));
+
+        CachedUserRepository repository = CachedUserRepository.builder()
+                .repository(delegate)
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        repository.findCredentials("name");
+
+        assertThat(repository.findCredentials("name"), equalTo(Optional.of(credentials)));
+        verify(delegate, times(1)).findCredentials("name");
+
+        repository.persist(User.builder()
+                .id(credentials.getUserId())
+                .name("name")
+                .password("changed")
+                .build());
+        repository.findCredentials("name");
+
+        verify(delegate, times(2)).findCredentials("name");
+    }
+
+    @Test
+    public void forgetPreviousName() {
+        UUID id = UUID.randomUUID();
+        User user = User.builder()
+                .id(id)
+                .name("before")
+                .password("password")
+                .build();
+
+        User renamed = User.builder()
+                .id(id)
+                .name("after")
+                .password("password")
+                .build();
+
+        UserRepository delegate = mock(UserRepository.class);
+        when(delegate.find(id)).thenReturn(Optional.of(user));
+        when(delegate.findByName("before"))
+                .thenReturn(Optional.of(user))
+                .thenReturn(Optional.empty());
+
+        CachedUserRepository repository = CachedUserRepository.builder()
+                .repository(delegate)
+                .clock(ManualLooperClock.builder().build())
+                .build();
+
+        repository.find(id);
+        repository.findByName("before");
+        repository.persist(renamed);
+
+        assertThat(repository.findByName("before"), equalTo(Optional.empty()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.mmo.server.infrastructure.user;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+import com.mmo.server.core.user.UserRepository;
+
+public class ExecutorUserRepositoryTest {
+
+    @Test
+    public void runOnExecutor() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .password("password")
+                .build();
+
+        Credentials credentials = Credentials.builder()
+                .userId(user.getId())
+                .password(user.getPassword())
+                .build();
+
+        UserRepository delegate = mock(UserRepository.class);
+        when(delegate.find(user.getId())).thenReturn(Optional.of(user));
+        when(delegate.findByName(user.getName())).thenReturn(Optional.of(user));
+        when(delegate.findCredentials(user.getName())).thenReturn(Optional.of(credentials));
+
+        List<Runnable> tasks = new ArrayList<>();
+        ExecutorUserRepository repository = ExecutorUserRepository.builder()
+                .repository(delegate)
+                .executor(tasks::add)
+                .build();
+
+        CompletableFuture<Optional<User>> byId = repository.find(user.getId());
+        CompletableFuture<Optional<User>> byName = repository.findByName(user.getName());
+        CompletableFuture<Optional<Credentials>> found = repository.findCredentials(user.getName());
+        CompletableFuture<Void> persisted = repository.persist(user);
+
+        assertThat(byId.isDone(), equalTo(false));
+        verifyNoInteractions(delegate);
+
+        tasks.forEach(Runnable::run);
+
+        assertThat(byId.join(), equalTo(Optional.of(user)));
+        assertThat(byName.join(), equalTo(Optional.of(user)));
+        assertThat(found.join(), equalTo(Optional.of(credentials)));
+        assertThat(persisted.isDone(), equalTo(true));
+        verify(delegate).persist(user);
+    }
+}
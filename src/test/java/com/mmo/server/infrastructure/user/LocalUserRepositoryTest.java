@@ -0,0 +1,86 @@
+package com.mmo.server.infrastructure.user;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.mmo.server.core.user.Credentials;
+import com.mmo.server.core.user.User;
+import com.mmo.server.infrastructure.repository.MemoryStore;
+import com.mmo.server.infrastructure.repository.RepositoryDuplicateKeyException;
+
+public class LocalUserRepositoryTest {
+
+    @Test
+    public void findsAndPersist() {
+        LocalUserRepository repository = newRepository(new MemoryStore<>());
+        User user = newUser(UUID.randomUUID(), "name");
+
+        assertThat(repository.find(user.getId()), equalTo(Optional.empty()));
+        assertThat(repository.findByName(user.getName()), equalTo(Optional.empty()));
+        assertThat(repository.findCredentials(user.getName()), equalTo(Optional.empty()));
+
+        repository.persist(user);
+
+        assertThat(repository.find(user.getId()), equalTo(Optional.of(user)));
+        assertThat(repository.findByName(user.getName()), equalTo(Optional.of(user)));
+        assertThat(repository.findCredentials(user.getName()), equalTo(Optional.of(Credentials.builder()
+                .userId(user.getId())
+                .password(user.getPassword())
+                .build())));
+    }
+
+    @Test
+    public void rename() {
+        LocalUserRepository repository = newRepository(new MemoryStore<>());
+        UUID id = UUID.randomUUID();
+        User renamed = newUser(id, "renamed");
+
+        repository.persist(newUser(id, "name"));
+        repository.persist(renamed);
+
+        assertThat(repository.findByName("name"), equalTo(Optional.empty()));
+        assertThat(repository.findByName("renamed"), equalTo(Optional.of(renamed)));
+    }
+
+    @Test
+    public void uniqueName() {
+        LocalUserRepository repository = newRepository(new MemoryStore<>());
+        User user = newUser(UUID.randomUUID(), "name");
+
+        repository.persist(user);
+
+        assertThrows(RepositoryDuplicateKeyException.class,
+                () -> repository.persist(newUser(UUID.randomUUID(), "name")));
+        assertThat(repository.findByName("name"), equalTo(Optional.of(user)));
+    }
+
+    @Test
+    public void indexStoredNames() {
+        MemoryStore<UserDTO> store = new MemoryStore<>();
+        User user = newUser(UUID.randomUUID(), "name");
+
+        newRepository(store).persist(user);
+
+        assertThat(newRepository(store).findByName("name"), equalTo(Optional.of(user)));
+    }
+
+    private static LocalUserRepository newRepository(MemoryStore<UserDTO> store) {
+        return LocalUserRepository.builder()
+                .store(store)
+                .build();
+    }
+
+    private static User newUser(UUID id, String name) {
+        return User.builder()
+                .id(id)
+                .name(name)
+                .password("password")
+                .build();
+    }
+}
@@ -2,15 +2,21 @@ package com.mmo.server.infrastructure.user;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.*;
+import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import com.mmo.server.core.user.Credentials;
 import com.mmo.server.core.user.User;
+import com.mmo.server.infrastructure.mongo.MongoFactory;
 import com.mmo.server.infrastructure.mongo.MongoServer;
+import com.mongodb.MongoWriteException;
 
 public class MongoUserRepositoryTest {
 
@@ -39,4 +45,51 @@ public class MongoUserRepositoryTest {
         assertThat(repository.find(user.getId()), is(Optional.of(user)));
         assertThat(repository.findByName(user.getName()), is(Optional.of(user)));
     }
+
+    @Test
+    public void findCredentials() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("name " + UUID.randomUUID())
+                .password("password")
+                .build();
+
+        assertThat(repository.findCredentials(user.getName()), is(Optional.empty()));
+
+        repository.persist(user);
+
+        assertThat(repository.findCredentials(user.getName()), is(Optional.of(Credentials.builder()
+                .userId(user.getId())
+                .password(user.getPassword())
+                .build())));
+    }
+
+    @Test
+    public void uniqueName() {
+        String name = "name " + UUID.randomUUID();
+
+        repository.persist(User.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .password("password")
+                .build());
+
+        User duplicate = User.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .password("password")
+                .build();
+
+        assertThrows(MongoWriteException.class, () -> repository.persist(duplicate));
+
+        Document index = MongoFactory.getInstance().getCollection("User", Document.class)
+                .listIndexes()
+                .into(new ArrayList<>())
+                .stream()
+                .filter(value -> "name".equals(value.getString("name")))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(index.getBoolean("unique"), is(true));
+    }
 }